@@ -20,8 +20,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
-import org.jboss.jandex.Index;
+import org.jboss.jandex.CompositeIndex;
+import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Indexer;
 import org.jboss.weld.environment.deployment.discovery.BeanArchiveBuilder;
 import org.jboss.weld.environment.deployment.discovery.FileSystemBeanArchiveHandler;
@@ -29,18 +34,31 @@ import org.jboss.weld.environment.logging.CommonLogger;
 
 /**
  * Builds and attaches a jandex index to each bean archive.
+ * <p>
+ * The class files of an archive are collected during scanning and indexed afterwards. Larger archives are split into chunks which are indexed in parallel,
+ * each chunk by its own {@link Indexer}. The resulting indexes are then combined in a {@link CompositeIndex}.
+ * </p>
  *
  * @author Matej Briškár
  * @author Martin Kouba
  */
 public class JandexFileSystemBeanArchiveHandler extends FileSystemBeanArchiveHandler {
 
-    private final Indexer indexer = new Indexer();
+    /**
+     * Archives with fewer class files are indexed sequentially
+     */
+    private static final int PARALLEL_INDEXING_THRESHOLD = 64;
+
+    private final List<URL> classFileUrls = new ArrayList<URL>();
 
     @Override
     public BeanArchiveBuilder handle(String path) {
+        classFileUrls.clear();
         BeanArchiveBuilder builder = super.handle(path);
-        builder.setAttribute(JandexDiscoveryStrategy.INDEX_ATTRIBUTE_NAME, buildIndex());
+        if (builder != null) {
+            builder.setAttribute(JandexDiscoveryStrategy.INDEX_ATTRIBUTE_NAME, buildIndex());
+        }
+        classFileUrls.clear();
         return builder;
     }
 
@@ -48,11 +66,40 @@ public class JandexFileSystemBeanArchiveHandler extends FileSystemBeanArchiveHan
     protected void add(Entry entry, BeanArchiveBuilder builder) throws MalformedURLException {
         super.add(entry, builder);
         if (isClass(entry.getName())) {
-            addToIndex(entry.getUrl());
+            classFileUrls.add(entry.getUrl());
+        }
+    }
+
+    private IndexView buildIndex() {
+        return buildIndex(classFileUrls, Math.min(Runtime.getRuntime().availableProcessors(), classFileUrls.size() / PARALLEL_INDEXING_THRESHOLD));
+    }
+
+    /**
+     *
+     * @param urls the class files to index
+     * @param parallelism the number of chunks indexed in parallel, sequential indexing is used if lower than 2
+     * @return the index of all the given class files
+     */
+    static IndexView buildIndex(List<URL> urls, int parallelism) {
+        if (parallelism <= 1) {
+            return index(urls);
         }
+        final int chunkSize = (urls.size() + parallelism - 1) / parallelism;
+        List<IndexView> indexes = IntStream.range(0, parallelism).parallel()
+                .mapToObj(i -> index(urls.subList(Math.min(urls.size(), i * chunkSize), Math.min(urls.size(), (i + 1) * chunkSize))))
+                .collect(Collectors.toList());
+        return CompositeIndex.create(indexes);
     }
 
-    private void addToIndex(URL url) {
+    private static IndexView index(List<URL> urls) {
+        Indexer indexer = new Indexer();
+        for (URL url : urls) {
+            addToIndex(indexer, url);
+        }
+        return indexer.complete();
+    }
+
+    private static void addToIndex(Indexer indexer, URL url) {
         InputStream fs = null;
         try {
             fs = url.openStream();
@@ -70,7 +117,4 @@ public class JandexFileSystemBeanArchiveHandler extends FileSystemBeanArchiveHan
         }
     }
 
-    private Index buildIndex() {
-        return indexer.complete();
-    }
 }
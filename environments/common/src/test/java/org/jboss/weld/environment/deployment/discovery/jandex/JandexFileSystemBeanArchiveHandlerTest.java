@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery.jandex;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+import org.junit.Test;
+
+/**
+ * Verifies that the chunked parallel indexing yields the same index as the sequential one.
+ */
+public class JandexFileSystemBeanArchiveHandlerTest {
+
+    @Test
+    public void testParallelIndexMatchesSequentialIndex() throws IOException {
+        List<URL> urls = getClassFileUrls();
+        assertTrue(urls.size() > 10);
+
+        IndexView sequential = JandexFileSystemBeanArchiveHandler.buildIndex(urls, 1);
+        for (int parallelism : new int[] { 2, 3, 7 }) {
+            assertIndexEquals(sequential, JandexFileSystemBeanArchiveHandler.buildIndex(urls, parallelism));
+        }
+        // More chunks than class files
+        List<URL> fewUrls = urls.subList(0, 3);
+        assertIndexEquals(JandexFileSystemBeanArchiveHandler.buildIndex(fewUrls, 1), JandexFileSystemBeanArchiveHandler.buildIndex(fewUrls, 5));
+    }
+
+    private static void assertIndexEquals(IndexView expected, IndexView actual) {
+        assertEquals(getClassNames(expected), getClassNames(actual));
+        Set<DotName> annotationNames = new HashSet<DotName>();
+        for (ClassInfo expectedClass : expected.getKnownClasses()) {
+            ClassInfo actualClass = actual.getClassByName(expectedClass.name());
+            assertNotNull(actualClass);
+            assertEquals(expectedClass.superName(), actualClass.superName());
+            assertArrayEquals(expectedClass.interfaces(), actualClass.interfaces());
+            assertEquals(expectedClass.annotations().keySet(), actualClass.annotations().keySet());
+            annotationNames.addAll(expectedClass.annotations().keySet());
+        }
+        for (DotName annotationName : annotationNames) {
+            assertEquals(getTargets(expected.getAnnotations(annotationName)), getTargets(actual.getAnnotations(annotationName)));
+        }
+        for (ClassInfo expectedClass : expected.getKnownClasses()) {
+            assertEquals(getClassNames(expected.getKnownDirectSubclasses(expectedClass.name())),
+                    getClassNames(actual.getKnownDirectSubclasses(expectedClass.name())));
+        }
+    }
+
+    private static Set<String> getClassNames(IndexView index) {
+        return getClassNames(index.getKnownClasses());
+    }
+
+    private static Set<String> getClassNames(Iterable<ClassInfo> classes) {
+        Set<String> names = new HashSet<String>();
+        for (ClassInfo classInfo : classes) {
+            names.add(classInfo.name().toString());
+        }
+        return names;
+    }
+
+    private static Set<String> getTargets(Iterable<AnnotationInstance> annotations) {
+        Set<String> targets = new HashSet<String>();
+        for (AnnotationInstance annotation : annotations) {
+            targets.add(annotation.target().toString());
+        }
+        return targets;
+    }
+
+    /**
+     * Use the class files of the jandex library itself.
+     */
+    private static List<URL> getClassFileUrls() throws IOException {
+        URL location = Indexer.class.getProtectionDomain().getCodeSource().getLocation();
+        File jandexJar = new File(location.getPath());
+        List<URL> urls = new ArrayList<URL>();
+        JarFile jarFile = new JarFile(jandexJar);
+        try {
+            for (Enumeration<JarEntry> entries = jarFile.entries(); entries.hasMoreElements();) {
+                JarEntry entry = entries.nextElement();
+                if (entry.getName().endsWith(".class")) {
+                    urls.add(new URL("jar:" + location + "!/" + entry.getName()));
+                }
+            }
+        } finally {
+            jarFile.close();
+        }
+        return urls;
+    }
+
+}
@@ -16,11 +16,15 @@
  */
 package org.jboss.weld.environment.se;
 
+import java.util.Collection;
+
 import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.Vetoed;
 import javax.enterprise.inject.spi.BeanManager;
 import javax.inject.Inject;
 
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.bootstrap.IncrementalDeployer;
 import org.jboss.weld.environment.se.beans.InstanceManager;
 import org.jboss.weld.experimental.ExperimentalEvent;
 
@@ -74,4 +78,33 @@ public class WeldContainer {
     public BeanManager getBeanManager() {
         return beanManager;
     }
+
+    /**
+     * Redeploys the given classes without restarting the container. For example:
+     * <code>
+     * weld.redeploy(Collections.singleton(reloadedFooClass), Collections.singleton("com.acme.Bar"));
+     * </code>
+     * <p>
+     * The beans declared by the changed and removed classes are undeployed and their contextual instances are destroyed, together with the instances of
+     * the beans which inject them. The contextual instances of the other beans are retained.
+     * <p>
+     * A changed class may be redefined in place or loaded by a new class loader. In the latter case, the retained beans have to inject it through a type
+     * which is not redeployed, e.g. an interface loaded by a parent class loader. Replacing a class which a retained bean injects directly is rejected.
+     * <p>
+     * Client proxies obtained before the redeployment, e.g. from {@link #instance()}, remain usable unless their bean is undeployed. References to the
+     * beans declared by the changed and removed classes must be obtained again.
+     * <p>
+     * Interceptors, decorators, extensions, alternatives, specializing beans and session beans cannot be redeployed this way and require a full restart.
+     * <p>
+     * If the validation of the new beans or of the injection points of the affected beans fails, the redeployment is not rolled back. The container
+     * remains usable and a subsequent redeployment which fixes the problem restores a valid state.
+     *
+     * @param classes the added and changed classes
+     * @param removedClassNames the names of the removed classes
+     * @throws javax.enterprise.inject.spi.DeploymentException if the validation fails
+     * @throws IllegalArgumentException if a class cannot be redeployed incrementally
+     */
+    public void redeploy(Collection<Class<?>> classes, Collection<String> removedClassNames) {
+        new IncrementalDeployer(BeanManagerProxy.unwrap(beanManager)).redeploy(classes, removedClassNames);
+    }
 }
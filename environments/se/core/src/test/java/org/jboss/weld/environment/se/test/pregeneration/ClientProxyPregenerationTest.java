@@ -0,0 +1,94 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.pregeneration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import javax.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.junit.After;
+import org.junit.Test;
+
+public class ClientProxyPregenerationTest {
+
+    private static final long BACKGROUND_TIMEOUT = 10000L;
+
+    @After
+    public void cleanup() {
+        System.clearProperty(ConfigurationKey.PROXY_PREGENERATION.get());
+        System.clearProperty(ConfigurationKey.PROXY_PREGENERATION_BACKGROUND.get());
+    }
+
+    @Test
+    public void testNoPregeneration() {
+        Weld weld = new Weld();
+        try {
+            WeldContainer container = weld.initialize();
+            assertFalse(isClientProxyAvailable(container));
+            assertEquals("pong", container.instance().select(Pinger.class).get().ping());
+            assertTrue(isClientProxyAvailable(container));
+        } finally {
+            weld.shutdown();
+        }
+    }
+
+    @Test
+    public void testBlockingPregeneration() {
+        System.setProperty(ConfigurationKey.PROXY_PREGENERATION.get(), "true");
+        Weld weld = new Weld();
+        try {
+            WeldContainer container = weld.initialize();
+            // the proxy is generated before the initialization completes
+            assertTrue(isClientProxyAvailable(container));
+            assertEquals("pong", container.instance().select(Pinger.class).get().ping());
+        } finally {
+            weld.shutdown();
+        }
+    }
+
+    @Test
+    public void testBackgroundPregeneration() throws InterruptedException {
+        System.setProperty(ConfigurationKey.PROXY_PREGENERATION.get(), "true");
+        System.setProperty(ConfigurationKey.PROXY_PREGENERATION_BACKGROUND.get(), "true");
+        Weld weld = new Weld();
+        try {
+            WeldContainer container = weld.initialize();
+            // the proxy is generated without being requested
+            long deadline = System.currentTimeMillis() + BACKGROUND_TIMEOUT;
+            while (!isClientProxyAvailable(container) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10L);
+            }
+            assertTrue(isClientProxyAvailable(container));
+            assertEquals("pong", container.instance().select(Pinger.class).get().ping());
+        } finally {
+            weld.shutdown();
+        }
+    }
+
+    private static boolean isClientProxyAvailable(WeldContainer container) {
+        BeanManagerImpl manager = BeanManagerProxy.unwrap(container.getBeanManager());
+        Bean<?> bean = manager.resolve(manager.getBeans(Pinger.class));
+        return manager.getClientProxyProvider().isClientProxyAvailable(bean);
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.redeploy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+
+import javax.enterprise.inject.spi.DeploymentException;
+import javax.enterprise.inject.spi.Extension;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.Test;
+
+public class RedeploymentTest {
+
+    @Test
+    public void testRedeployment() {
+        Weld weld = new Weld();
+        try {
+            WeldContainer container = weld.initialize();
+            container.instance().select(Counter.class).get().increment();
+            assertEquals("Hello", container.instance().select(GreetingClient.class).get().greet());
+            Greeter.DESTROYED.set(0);
+            GreetingClient.DESTROYED.set(0);
+
+            container.redeploy(Collections.<Class<?>> singleton(Greeter.class), Collections.singleton(Obsolete.class.getName()));
+
+            // the redeployed bean and the bean which injects it are reinitialized
+            assertEquals(1, Greeter.DESTROYED.get());
+            assertEquals(1, GreetingClient.DESTROYED.get());
+            assertEquals("Hello", container.instance().select(GreetingClient.class).get().greet());
+            // unrelated instances are retained
+            assertEquals(1, container.instance().select(Counter.class).get().getCount());
+            assertTrue(container.instance().select(Obsolete.class).isUnsatisfied());
+        } finally {
+            weld.shutdown();
+        }
+    }
+
+    @Test
+    public void testClientProxyObtainedBeforeRedeployment() {
+        Weld weld = new Weld();
+        try {
+            WeldContainer container = weld.initialize();
+            GreetingClient client = container.instance().select(GreetingClient.class).get();
+            assertEquals("Hello", client.greet());
+            GreetingClient.DESTROYED.set(0);
+
+            container.redeploy(Collections.<Class<?>> singleton(Greeter.class), Collections.<String> emptySet());
+
+            // the bean is retained so the client proxy delegates to a new instance
+            assertEquals(1, GreetingClient.DESTROYED.get());
+            assertEquals("Hello", client.greet());
+        } finally {
+            weld.shutdown();
+        }
+    }
+
+    @Test
+    public void testFailedValidation() {
+        Weld weld = new Weld();
+        try {
+            WeldContainer container = weld.initialize();
+            try {
+                // GreetingClient injects Greeter
+                container.redeploy(Collections.<Class<?>> emptySet(), Collections.singleton(Greeter.class.getName()));
+                fail();
+            } catch (DeploymentException expected) {
+            }
+            // the redeployment is not rolled back
+            assertTrue(container.instance().select(Greeter.class).isUnsatisfied());
+            // the container remains usable
+            container.instance().select(Counter.class).get().increment();
+            assertEquals(1, container.instance().select(Counter.class).get().getCount());
+
+            // a redeployment which fixes the problem restores a valid state
+            container.redeploy(Collections.<Class<?>> singleton(Greeter.class), Collections.<String> emptySet());
+            assertEquals("Hello", container.instance().select(GreetingClient.class).get().greet());
+        } finally {
+            weld.shutdown();
+        }
+    }
+
+    @Test
+    public void testClassLoadedByChildClassLoader() throws Exception {
+        Weld weld = new Weld();
+        try {
+            WeldContainer container = weld.initialize();
+            SalutationClient client = container.instance().select(SalutationClient.class).get();
+            assertSame(FormalSalutation.class, client.getSalutation().getClass());
+
+            ClassLoader loader = new ChildFirstClassLoader(FormalSalutation.class.getName());
+            Class<?> reloaded = loader.loadClass(FormalSalutation.class.getName());
+            assertNotSame(FormalSalutation.class, reloaded);
+            container.redeploy(Collections.<Class<?>> singleton(reloaded), Collections.<String> emptySet());
+
+            // SalutationClient injects the interface loaded by the parent class loader
+            assertSame(reloaded, client.getSalutation().getClass());
+            assertEquals("Good morning", client.getSalutation().greet());
+        } finally {
+            weld.shutdown();
+        }
+    }
+
+    @Test
+    public void testDirectlyInjectedClassLoadedByChildClassLoaderRejected() throws Exception {
+        Weld weld = new Weld();
+        try {
+            WeldContainer container = weld.initialize();
+            GreetingClient client = container.instance().select(GreetingClient.class).get();
+            Class<?> reloaded = new ChildFirstClassLoader(Greeter.class.getName()).loadClass(Greeter.class.getName());
+            try {
+                // GreetingClient injects the Greeter class itself
+                container.redeploy(Collections.<Class<?>> singleton(reloaded), Collections.<String> emptySet());
+                fail();
+            } catch (IllegalArgumentException expected) {
+            }
+            // nothing is changed
+            assertEquals("Hello", client.greet());
+            assertEquals("Hello", container.instance().select(Greeter.class).get().greet());
+        } finally {
+            weld.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testExtensionNotRedeployable() {
+        Weld weld = new Weld();
+        try {
+            WeldContainer container = weld.initialize();
+            container.redeploy(Collections.<Class<?>> singleton(NotRedeployableExtension.class), Collections.<String> emptySet());
+        } finally {
+            weld.shutdown();
+        }
+    }
+
+    public static class NotRedeployableExtension implements Extension {
+    }
+
+    /**
+     * Loads the given classes itself, all the other classes are loaded by the parent class loader.
+     */
+    private static class ChildFirstClassLoader extends ClassLoader {
+
+        private final String className;
+
+        ChildFirstClassLoader(String className) {
+            super(RedeploymentTest.class.getClassLoader());
+            this.className = className;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!className.equals(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> clazz = findLoadedClass(name);
+                if (clazz == null) {
+                    byte[] bytecode = readBytecode(name);
+                    clazz = defineClass(name, bytecode, 0, bytecode.length);
+                }
+                return clazz;
+            }
+        }
+
+        private byte[] readBytecode(String name) throws ClassNotFoundException {
+            try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                if (in == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+                return out.toByteArray();
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.threadsafe;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.Extension;
+import javax.enterprise.inject.spi.ProcessAnnotatedType;
+
+import org.jboss.weld.bootstrap.events.ThreadSafeObserver;
+
+@ThreadSafeObserver
+public class DishExtension implements Extension {
+
+    private final Map<Class<?>, Thread> observed = new ConcurrentHashMap<Class<?>, Thread>();
+
+    void observeDish(@Observes ProcessAnnotatedType<? extends Dish> event) {
+        Class<?> javaClass = event.getAnnotatedType().getJavaClass();
+        observed.put(javaClass, Thread.currentThread());
+        if (Salad.class.equals(javaClass)) {
+            event.veto();
+        }
+    }
+
+    Map<Class<?>, Thread> getObserved() {
+        return observed;
+    }
+
+}
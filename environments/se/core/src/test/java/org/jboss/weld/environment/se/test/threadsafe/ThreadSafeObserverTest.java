@@ -0,0 +1,68 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.threadsafe;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.executor.ExecutorServicesFactory.ThreadPoolType;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Verifies that {@link javax.enterprise.inject.spi.ProcessAnnotatedType} is delivered from worker threads to a thread-safe observer and that vetoes and
+ * priorities are applied afterwards.
+ */
+public class ThreadSafeObserverTest {
+
+    @After
+    public void cleanup() {
+        System.clearProperty(ConfigurationKey.EXECUTOR_THREAD_POOL_TYPE.get());
+        System.clearProperty(ConfigurationKey.EXECUTOR_THREAD_POOL_SIZE.get());
+    }
+
+    @Test
+    public void testProcessAnnotatedTypeDeliveredConcurrently() {
+        // the workers of a fixed thread pool never run on the bootstrap thread
+        System.setProperty(ConfigurationKey.EXECUTOR_THREAD_POOL_TYPE.get(), ThreadPoolType.FIXED.toString());
+        System.setProperty(ConfigurationKey.EXECUTOR_THREAD_POOL_SIZE.get(), "4");
+        DishExtension extension = new DishExtension();
+        Weld weld = new Weld();
+        weld.addExtension(extension);
+        try {
+            WeldContainer container = weld.initialize();
+            Map<Class<?>, Thread> observed = extension.getObserved();
+            for (Class<?> dish : new Class<?>[] { Soup.class, Salad.class, Dessert.class }) {
+                assertTrue(dish + " not observed", observed.containsKey(dish));
+                assertNotSame(Thread.currentThread(), observed.get(dish));
+            }
+            // the veto is applied
+            assertTrue(container.instance().select(Salad.class).isUnsatisfied());
+            assertEquals("soup", container.instance().select(Soup.class).get().getName());
+            // the priority of the alternative is registered
+            assertEquals("dessert", container.instance().select(Dish.class).get().getName());
+        } finally {
+            weld.shutdown();
+        }
+    }
+}
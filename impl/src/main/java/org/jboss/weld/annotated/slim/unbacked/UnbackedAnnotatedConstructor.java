@@ -35,11 +35,11 @@ public class UnbackedAnnotatedConstructor<X> extends UnbackedAnnotatedMember<X>
 
     public UnbackedAnnotatedConstructor(Type baseType, Set<Type> typeClosure, Set<Annotation> annotations, UnbackedAnnotatedType<X> declaringType,
             List<AnnotatedParameter<X>> originalParameters, Constructor<X> constructor, SharedObjectCache cache) {
-        super(baseType, typeClosure, cache.getSharedSet(annotations), declaringType);
+        super(baseType, cache.getSharedSet(typeClosure), cache.getSharedSet(annotations), declaringType);
         this.constructor = constructor;
         List<AnnotatedParameter<X>> parameters = new ArrayList<AnnotatedParameter<X>>(originalParameters.size());
         for (AnnotatedParameter<X> originalParameter : originalParameters) {
-            parameters.add(new UnbackedAnnotatedParameter<X>(originalParameter.getBaseType(), originalParameter.getTypeClosure(), cache.getSharedSet(originalParameter.getAnnotations()),
+            parameters.add(new UnbackedAnnotatedParameter<X>(originalParameter.getBaseType(), cache.getSharedSet(originalParameter.getTypeClosure()), cache.getSharedSet(originalParameter.getAnnotations()),
                     originalParameter.getPosition(), this));
         }
         this.parameters = ImmutableList.copyOf(parameters);
@@ -25,7 +25,7 @@ public class UnbackedAnnotatedField<X> extends UnbackedAnnotatedMember<X> implem
 
     public static <X, Y extends X> AnnotatedField<X> of(AnnotatedField<X> originalField, UnbackedAnnotatedType<Y> declaringType, SharedObjectCache cache) {
         UnbackedAnnotatedType<X> downcastDeclaringType = cast(declaringType);
-        return new UnbackedAnnotatedField<X>(originalField.getBaseType(), originalField.getTypeClosure(), cache.getSharedSet(originalField.getAnnotations()), originalField.getJavaMember(),
+        return new UnbackedAnnotatedField<X>(originalField.getBaseType(), cache.getSharedSet(originalField.getTypeClosure()), cache.getSharedSet(originalField.getAnnotations()), originalField.getJavaMember(),
                 downcastDeclaringType);
     }
 
@@ -52,7 +52,7 @@ public class UnbackedAnnotatedType<X> extends UnbackedAnnotated implements SlimA
     private final AnnotatedTypeIdentifier identifier;
 
     private UnbackedAnnotatedType(AnnotatedType<X> source, AnnotatedTypeIdentifier identifier, SharedObjectCache cache) {
-        super(source.getBaseType(), source.getTypeClosure(), source.getAnnotations());
+        super(source.getBaseType(), cache.getSharedSet(source.getTypeClosure()), cache.getSharedSet(source.getAnnotations()));
         this.javaClass = source.getJavaClass();
         ImmutableSet.Builder<AnnotatedConstructor<X>> constructors = ImmutableSet.builder();
         for (AnnotatedConstructor<X> constructor : source.getConstructors()) {
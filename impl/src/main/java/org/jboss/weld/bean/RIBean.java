@@ -26,6 +26,7 @@ import javax.enterprise.inject.spi.PassivationCapable;
 import org.jboss.weld.bootstrap.BeanDeployerEnvironment;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.metadata.cache.MetaAnnotationStore;
+import org.jboss.weld.resolution.QualifierBitSet;
 import org.jboss.weld.resolution.QualifierInstance;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 
@@ -39,6 +40,7 @@ public abstract class RIBean<T> extends CommonBean<T> implements PassivationCapa
     protected final BeanManagerImpl beanManager;
     private boolean initialized;
     private volatile Set<QualifierInstance> qualifiers;
+    private volatile QualifierBitSet qualifierBitSet;
     private ContextualInstanceStrategy<T> contextualInstanceStrategy;
 
     protected RIBean(BeanAttributes<T> attributes, BeanIdentifier identifier, BeanManagerImpl beanManager) {
@@ -112,6 +114,13 @@ public abstract class RIBean<T> extends CommonBean<T> implements PassivationCapa
         return qualifiers;
     }
 
+    public QualifierBitSet getQualifierBitSet() {
+        if (qualifierBitSet == null) {
+            qualifierBitSet = beanManager.getServices().get(MetaAnnotationStore.class).getQualifierBitSet(getQualifierInstances());
+        }
+        return qualifierBitSet;
+    }
+
     public ContextualInstanceStrategy<T> getContextualInstanceStrategy() {
         return contextualInstanceStrategy;
     }
@@ -23,9 +23,12 @@ import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import javax.enterprise.context.Dependent;
 import javax.enterprise.context.spi.AlterableContext;
 import javax.enterprise.context.spi.Context;
 import javax.enterprise.context.spi.CreationalContext;
@@ -36,6 +39,8 @@ import javax.enterprise.util.TypeLiteral;
 
 import org.jboss.weld.bean.proxy.ProxyMethodHandler;
 import org.jboss.weld.bean.proxy.ProxyObject;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.context.WeldCreationalContext;
 import org.jboss.weld.exceptions.InvalidObjectException;
 import org.jboss.weld.injection.CurrentInjectionPoint;
@@ -47,6 +52,8 @@ import org.jboss.weld.resolution.Resolvable;
 import org.jboss.weld.resolution.ResolvableBuilder;
 import org.jboss.weld.resolution.TypeSafeBeanResolver;
 import org.jboss.weld.util.Preconditions;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
 import org.jboss.weld.util.collections.WeldCollections;
 import org.jboss.weld.util.reflection.Formats;
 import org.jboss.weld.util.reflection.Reflections;
@@ -58,49 +65,119 @@ import org.jboss.weld.util.reflection.Reflections;
  * @author Gavin King
  */
 @edu.umd.cs.findbugs.annotations.SuppressWarnings(value = { "SE_NO_SUITABLE_CONSTRUCTOR", "SE_BAD_FIELD" }, justification = "Uses SerializationProxy")
-public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements Instance<T>, Serializable {
+public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements WeldInstance<T>, Serializable {
 
     private static final long serialVersionUID = -376721889693284887L;
 
-    private final transient Set<Bean<?>> allBeans;
-    private final transient Bean<?> bean;
+    // the maximum number of distinct select() results cached by a single instance
+    private static final long SELECT_CACHE_SIZE = 64L;
+
+    // resolved lazily, bean is written before allBeans so that it is visible once allBeans is set
+    private transient volatile Set<Bean<?>> allBeans;
+    private transient volatile Bean<?> bean;
+    // the generation of the bean resolver the beans were resolved in, see AbstractTypeSafeBeanResolver.getGeneration()
+    private transient int resolvedGeneration;
 
     private final transient CurrentInjectionPoint currentInjectionPoint;
     private final transient InjectionPoint ip;
 
+    private transient volatile ComputingCache<SelectKey, InstanceImpl<?>> selectCache;
+
+    // shared by the instance injected into a normal-scoped bean and all the instances selected from it, null unless enabled
+    private final transient ReleasableDependentInstances releasableDependentInstances;
+
     public static <I> Instance<I> of(InjectionPoint injectionPoint, CreationalContext<I> creationalContext,
             BeanManagerImpl beanManager) {
-        return new InstanceImpl<I>(injectionPoint, creationalContext, beanManager);
+        return new InstanceImpl<I>(injectionPoint, creationalContext, beanManager,
+                initReleasableDependentInstances(injectionPoint, creationalContext, beanManager));
     }
 
-    private InstanceImpl(InjectionPoint injectionPoint, CreationalContext<? super T> creationalContext, BeanManagerImpl beanManager) {
+    private InstanceImpl(InjectionPoint injectionPoint, CreationalContext<? super T> creationalContext, BeanManagerImpl beanManager,
+            ReleasableDependentInstances releasableDependentInstances) {
         super(injectionPoint, creationalContext, beanManager);
-
-        // Perform typesafe resolution, and possibly attempt to resolve the ambiguity
-        Resolvable resolvable = new ResolvableBuilder(getType(), getBeanManager()).addQualifiers(getQualifiers())
-                .setDeclaringBean(getInjectionPoint().getBean()).create();
-        TypeSafeBeanResolver beanResolver = getBeanManager().getBeanResolver();
-        this.allBeans = beanResolver.resolve(beanResolver.resolve(resolvable, Reflections.isCacheable(getQualifiers())));
-        // optimization for the most common path - non-null bean means we are not unsatisfied not ambiguous
-        if (allBeans.size() == 1) {
-            this.bean = allBeans.iterator().next();
-        } else {
-            this.bean = null;
-        }
         this.currentInjectionPoint = beanManager.getServices().get(CurrentInjectionPoint.class);
         // Generate a correct injection point for the bean, we do this by taking the original injection point and adjusting the
         // qualifiers and type
         this.ip = new DynamicLookupInjectionPoint(getInjectionPoint(), getType(), getQualifiers());
+        this.releasableDependentInstances = releasableDependentInstances;
+    }
+
+    private static ReleasableDependentInstances initReleasableDependentInstances(InjectionPoint injectionPoint, CreationalContext<?> creationalContext,
+            BeanManagerImpl beanManager) {
+        if (!(creationalContext instanceof WeldCreationalContext<?>)
+                || !beanManager.getServices().get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.INSTANCE_RELEASABLE_DEPENDENTS)) {
+            return null;
+        }
+        Bean<?> declaringBean = injectionPoint.getBean();
+        if (declaringBean == null || !beanManager.isNormalScope(declaringBean.getScope())) {
+            return null;
+        }
+        ReleasableDependentInstances releasableDependentInstances = new ReleasableDependentInstances();
+        // the instances which are still alive are destroyed together with the declaring bean
+        ((WeldCreationalContext<?>) creationalContext).addDependentResourceReference(releasableDependentInstances);
+        return releasableDependentInstances;
     }
 
     public T get() {
+        Bean<?> bean = this.bean;
+        if (bean == null || isStale()) {
+            getAllBeans();
+            bean = this.bean;
+        }
         if (bean != null) {
             return getBeanInstance(bean);
         } else if (isUnsatisfied()) {
             throw BeanManagerLogger.LOG.unresolvableElement("Type: " + getType() + "; Qualifiers: " + getQualifiers());
         } else {
-            throw BeanManagerLogger.LOG.ambiguousBeansForDependency(WeldCollections.toMultiRowString(allBeans));
+            throw BeanManagerLogger.LOG.ambiguousBeansForDependency(WeldCollections.toMultiRowString(getAllBeans()));
+        }
+    }
+
+    @Override
+    public Handle<T> getHandle() {
+        Bean<?> bean = this.bean;
+        if (bean == null || isStale()) {
+            getAllBeans();
+            bean = this.bean;
+        }
+        if (bean != null) {
+            return new HandleImpl(bean);
+        } else if (isUnsatisfied()) {
+            throw BeanManagerLogger.LOG.unresolvableElement("Type: " + getType() + "; Qualifiers: " + getQualifiers());
+        } else {
+            throw BeanManagerLogger.LOG.ambiguousBeansForDependency(WeldCollections.toMultiRowString(getAllBeans()));
+        }
+    }
+
+    @Override
+    public Iterable<Handle<T>> handles() {
+        return () -> new HandlesIterator(getAllBeans());
+    }
+
+    /**
+     * Performs typesafe resolution, and possibly attempts to resolve the ambiguity, the first time the beans are needed.
+     */
+    private Set<Bean<?>> getAllBeans() {
+        Set<Bean<?>> allBeans = this.allBeans;
+        if (allBeans == null || isStale()) {
+            Resolvable resolvable = new ResolvableBuilder(getType(), getBeanManager()).addQualifiers(getQualifiers())
+                    .setDeclaringBean(getInjectionPoint().getBean()).create();
+            TypeSafeBeanResolver beanResolver = getBeanManager().getBeanResolver();
+            int generation = beanResolver.getGeneration();
+            allBeans = beanResolver.resolve(beanResolver.resolve(resolvable, Reflections.isCacheable(getQualifiers())));
+            // optimization for the most common path - non-null bean means we are not unsatisfied not ambiguous
+            this.bean = allBeans.size() == 1 ? allBeans.iterator().next() : null;
+            this.resolvedGeneration = generation;
+            this.allBeans = allBeans;
         }
+        return allBeans;
+    }
+
+    /**
+     * The resolved beans are stale if beans were added or removed at runtime after the resolution.
+     */
+    private boolean isStale() {
+        return resolvedGeneration != getBeanManager().getBeanResolver().getGeneration();
     }
 
     /**
@@ -114,33 +191,56 @@ public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements I
     }
 
     public Iterator<T> iterator() {
-        return new InstanceImplIterator(allBeans);
+        return new InstanceImplIterator(getAllBeans());
     }
 
     public boolean isAmbiguous() {
-        return allBeans.size() > 1;
+        return getAllBeans().size() > 1;
     }
 
     public boolean isUnsatisfied() {
-        return allBeans.isEmpty();
+        return getAllBeans().isEmpty();
     }
 
-    public Instance<T> select(Annotation... qualifiers) {
+    public WeldInstance<T> select(Annotation... qualifiers) {
         return selectInstance(this.getType(), qualifiers);
     }
 
-    public <U extends T> Instance<U> select(Class<U> subtype, Annotation... qualifiers) {
+    public <U extends T> WeldInstance<U> select(Class<U> subtype, Annotation... qualifiers) {
         return selectInstance(subtype, qualifiers);
     }
 
-    public <U extends T> Instance<U> select(TypeLiteral<U> subtype, Annotation... qualifiers) {
+    public <U extends T> WeldInstance<U> select(TypeLiteral<U> subtype, Annotation... qualifiers) {
         return selectInstance(subtype.getType(), qualifiers);
     }
 
-    private <U extends T> Instance<U> selectInstance(Type subtype, Annotation[] newQualifiers) {
+    private <U extends T> WeldInstance<U> selectInstance(Type subtype, Annotation[] newQualifiers) {
+        if (!Reflections.isCacheable(newQualifiers)) {
+            // do not hold on to annotation literals which reference an enclosing instance
+            return createChildInstance(subtype, newQualifiers);
+        }
+        return cast(getSelectCache().getValue(new SelectKey(subtype, newQualifiers)));
+    }
+
+    private <U extends T> InstanceImpl<U> createChildInstance(Type subtype, Annotation[] newQualifiers) {
         InjectionPoint modifiedInjectionPoint = new FacadeInjectionPoint(getBeanManager(), getInjectionPoint(), subtype, getQualifiers(),
                 newQualifiers);
-        return new InstanceImpl<U>(modifiedInjectionPoint, getCreationalContext(), getBeanManager());
+        return new InstanceImpl<U>(modifiedInjectionPoint, getCreationalContext(), getBeanManager(), releasableDependentInstances);
+    }
+
+    private ComputingCache<SelectKey, InstanceImpl<?>> getSelectCache() {
+        ComputingCache<SelectKey, InstanceImpl<?>> cache = this.selectCache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = this.selectCache;
+                if (cache == null) {
+                    cache = ComputingCacheBuilder.newBuilder().setMaxSize(SELECT_CACHE_SIZE)
+                            .build((SelectKey key) -> createChildInstance(key.subtype, key.qualifiers));
+                    this.selectCache = cache;
+                }
+            }
+        }
+        return cache;
     }
 
     @Override
@@ -164,6 +264,11 @@ public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements I
             }
         }
 
+        // check if this is a dependent instance tracked separately
+        if (releasableDependentInstances != null && releasableDependentInstances.destroy(instance)) {
+            return;
+        }
+
         // check if this is a dependent instance
         CreationalContext<? super T> ctx = getCreationalContext();
         if (ctx instanceof WeldCreationalContext<?>) {
@@ -173,14 +278,32 @@ public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements I
     }
 
     private T getBeanInstance(Bean<?> bean) {
+        if (releasableDependentInstances != null && Dependent.class.equals(bean.getScope())) {
+            return getReleasableDependentInstance(bean);
+        }
+        return getBeanInstance(bean, getCreationalContext());
+    }
+
+    private T getBeanInstance(Bean<?> bean, CreationalContext<?> ctx) {
         final ThreadLocalStackReference<InjectionPoint> stack = currentInjectionPoint.push(ip);
         try {
-            return Reflections.<T> cast(getBeanManager().getReference(bean, getType(), getCreationalContext(), false));
+            return Reflections.<T> cast(getBeanManager().getReference(bean, getType(), ctx, false));
         } finally {
             stack.pop();
         }
     }
 
+    /**
+     * The instance is obtained through the dependent context using a standalone creational context. If the instance needs to be destroyed, e.g. it declares
+     * a {@link javax.annotation.PreDestroy} callback, it is registered with the standalone creational context and is therefore only released once destroyed.
+     */
+    private T getReleasableDependentInstance(Bean<?> bean) {
+        WeldCreationalContext<?> ctx = getBeanManager().createCreationalContext(bean);
+        T instance = getBeanInstance(bean, ctx);
+        releasableDependentInstances.add(instance, ctx);
+        return instance;
+    }
+
     // Serialization
 
     private Object writeReplace() throws ObjectStreamException {
@@ -205,6 +328,130 @@ public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements I
 
     }
 
+    /**
+     * The arguments of a {@link Instance#select(Class, Annotation...)} invocation. Selecting the same type and qualifiers repeatedly returns the same child
+     * {@link InstanceImpl}, which resolves at most once.
+     */
+    private static final class SelectKey {
+
+        private final Type subtype;
+        private final Annotation[] qualifiers;
+        private final int hashCode;
+
+        private SelectKey(Type subtype, Annotation[] qualifiers) {
+            this.subtype = subtype;
+            // the array is used as a map key so the caller must not be able to modify it
+            this.qualifiers = qualifiers.length == 0 ? qualifiers : qualifiers.clone();
+            this.hashCode = 31 * subtype.hashCode() + Arrays.hashCode(qualifiers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof SelectKey) {
+                SelectKey that = (SelectKey) obj;
+                return subtype.equals(that.subtype) && Arrays.equals(qualifiers, that.qualifiers);
+            }
+            return false;
+        }
+    }
+
+    final class HandleImpl implements Handle<T> {
+
+        private final Bean<T> bean;
+        // standalone creational context, not bound to the creational context of this instance
+        private final WeldCreationalContext<T> ctx;
+        private final AtomicBoolean destroyed;
+        private volatile T instance;
+
+        private HandleImpl(Bean<?> bean) {
+            this.bean = Reflections.cast(bean);
+            this.ctx = getBeanManager().createCreationalContext(this.bean);
+            this.destroyed = new AtomicBoolean(false);
+        }
+
+        @Override
+        public T get() {
+            if (destroyed.get()) {
+                throw new IllegalStateException("Handle already destroyed: " + this);
+            }
+            T instance = this.instance;
+            if (instance == null) {
+                synchronized (this) {
+                    instance = this.instance;
+                    if (instance == null) {
+                        instance = getBeanInstance(bean, ctx);
+                        this.instance = instance;
+                    }
+                }
+            }
+            return instance;
+        }
+
+        @Override
+        public Bean<T> getBean() {
+            return bean;
+        }
+
+        @Override
+        public void destroy() {
+            if (!destroyed.compareAndSet(false, true) || instance == null) {
+                return;
+            }
+            if (getBeanManager().isNormalScope(bean.getScope())) {
+                Context context = getBeanManager().getContext(bean.getScope());
+                if (context instanceof AlterableContext) {
+                    ((AlterableContext) context).destroy(bean);
+                } else {
+                    throw BeanLogger.LOG.destroyUnsupported(context);
+                }
+            } else {
+                // destroys the dependent instance, if it needs to be destroyed, and all its dependent objects
+                ctx.release();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (!getBeanManager().isNormalScope(bean.getScope())) {
+                destroy();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Handle for " + bean + ", created: " + (instance != null) + ", destroyed: " + destroyed.get();
+        }
+
+    }
+
+    final class HandlesIterator implements Iterator<Handle<T>> {
+
+        private final Iterator<Bean<?>> delegate;
+
+        private HandlesIterator(Set<Bean<?>> beans) {
+            this.delegate = beans.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public Handle<T> next() {
+            return new HandleImpl(delegate.next());
+        }
+
+    }
+
     final class InstanceImplIterator implements Iterator<T> {
 
         private final Iterator<Bean<?>> delegate;
@@ -0,0 +1,147 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean.builtin;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.enterprise.context.spi.CreationalContext;
+
+import org.jboss.weld.injection.spi.ResourceReference;
+
+/**
+ * Keeps track of {@link javax.enterprise.context.Dependent} instances obtained through an {@link InstanceImpl} injected into a normal-scoped bean. Unlike
+ * the creational context of the normal-scoped bean, the instances are only referenced weakly so that they may be garbage collected once the application no
+ * longer uses them. The creational context of a collected instance is released the next time this structure is accessed.
+ * <p>
+ * Each instance is created with a standalone creational context. The dependent context registers an instance which needs to be destroyed, e.g. one with
+ * a {@link javax.annotation.PreDestroy} callback or a disposer method, with that creational context. Such an instance therefore stays strongly reachable
+ * until it is destroyed and only the instances without destruction callbacks are garbage collected.
+ * </p>
+ * <p>
+ * The structure is registered as a dependent resource of the creational context of the {@link InstanceImpl} so that the instances which are still alive
+ * are destroyed together with the normal-scoped bean.
+ */
+final class ReleasableDependentInstances implements ResourceReference<Object> {
+
+    private final Map<DependentInstanceReference, DependentInstanceReference> instances;
+    private final ReferenceQueue<Object> queue;
+
+    ReleasableDependentInstances() {
+        this.instances = new ConcurrentHashMap<DependentInstanceReference, DependentInstanceReference>();
+        this.queue = new ReferenceQueue<Object>();
+    }
+
+    void add(Object instance, CreationalContext<?> creationalContext) {
+        expunge();
+        DependentInstanceReference reference = new DependentInstanceReference(instance, creationalContext, queue);
+        instances.put(reference, reference);
+    }
+
+    /**
+     * Destroys the given instance if it is tracked by this structure.
+     *
+     * @param instance
+     * @return true if the instance was destroyed, false otherwise
+     */
+    boolean destroy(Object instance) {
+        expunge();
+        DependentInstanceReference reference = instances.remove(new DependentInstanceReference(instance));
+        if (reference == null) {
+            return false;
+        }
+        reference.release();
+        return true;
+    }
+
+    @Override
+    public Object getInstance() {
+        return null;
+    }
+
+    @Override
+    public void release() {
+        expunge();
+        List<DependentInstanceReference> references = new ArrayList<DependentInstanceReference>(instances.keySet());
+        instances.clear();
+        for (DependentInstanceReference reference : references) {
+            reference.release();
+        }
+    }
+
+    /**
+     * Releases the creational contexts of the instances which have been garbage collected.
+     */
+    private void expunge() {
+        for (Reference<?> reference; (reference = queue.poll()) != null;) {
+            DependentInstanceReference dependentInstanceReference = (DependentInstanceReference) reference;
+            if (instances.remove(dependentInstanceReference) != null) {
+                dependentInstanceReference.release();
+            }
+        }
+    }
+
+    /**
+     * Weak reference to a dependent instance which compares the referents by identity. The creational context is held strongly so that the dependent
+     * objects of the instance can be released once the instance is collected. Releasing the creational context destroys the instance if it was registered
+     * with it.
+     */
+    private static final class DependentInstanceReference extends WeakReference<Object> {
+
+        private final CreationalContext<?> creationalContext;
+        private final int hashCode;
+
+        private DependentInstanceReference(Object instance, CreationalContext<?> creationalContext, ReferenceQueue<Object> queue) {
+            super(instance, queue);
+            this.creationalContext = creationalContext;
+            this.hashCode = System.identityHashCode(instance);
+        }
+
+        // lookup key
+        private DependentInstanceReference(Object instance) {
+            super(instance);
+            this.creationalContext = null;
+            this.hashCode = System.identityHashCode(instance);
+        }
+
+        private void release() {
+            creationalContext.release();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof DependentInstanceReference) {
+                Object instance = get();
+                return instance != null && instance == ((DependentInstanceReference) obj).get();
+            }
+            return false;
+        }
+    }
+}
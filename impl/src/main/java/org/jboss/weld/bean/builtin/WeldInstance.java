@@ -0,0 +1,103 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean.builtin;
+
+import java.lang.annotation.Annotation;
+
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.util.TypeLiteral;
+
+/**
+ * Weld-specific extension of {@link Instance} which allows to obtain a {@link Handle} for a contextual reference. A handle creates the contextual reference
+ * lazily and allows to destroy it once it is no longer needed. A dependent bean instance obtained through a handle is never bound to the creational context
+ * of the bean the {@link Instance} was injected into, i.e. it may be garbage collected as soon as the handle becomes unreachable.
+ *
+ * <pre>
+ * &#064;Inject
+ * WeldInstance&lt;Processor&gt; processor;
+ *
+ * void process(Item item) {
+ *     try (Handle&lt;Processor&gt; handle = processor.getHandle()) {
+ *         handle.get().process(item);
+ *     }
+ * }
+ * </pre>
+ *
+ * @param <T> the required bean type
+ */
+public interface WeldInstance<T> extends Instance<T> {
+
+    /**
+     * Obtains a handle for the contextual reference of the unique bean matching the required type and qualifiers. Unlike {@link #get()}, this method does
+     * not create the contextual reference.
+     *
+     * @return a new handle
+     * @throws javax.enterprise.inject.UnsatisfiedResolutionException if there is no bean with the required type and qualifiers
+     * @throws javax.enterprise.inject.AmbiguousResolutionException if there is more than one bean with the required type and qualifiers
+     */
+    Handle<T> getHandle();
+
+    /**
+     * Allows to iterate over handles for all the beans matching the required type and qualifiers.
+     *
+     * @return an iterable of handles
+     */
+    Iterable<Handle<T>> handles();
+
+    @Override
+    WeldInstance<T> select(Annotation... qualifiers);
+
+    @Override
+    <U extends T> WeldInstance<U> select(Class<U> subtype, Annotation... qualifiers);
+
+    @Override
+    <U extends T> WeldInstance<U> select(TypeLiteral<U> subtype, Annotation... qualifiers);
+
+    /**
+     * A handle for a contextual reference. The reference is created when {@link #get()} is invoked for the first time.
+     *
+     * @param <T> the required bean type
+     */
+    interface Handle<T> extends AutoCloseable {
+
+        /**
+         * @return the contextual reference
+         * @throws IllegalStateException if the handle was already destroyed
+         */
+        T get();
+
+        /**
+         * @return the bean the contextual reference belongs to
+         */
+        Bean<T> getBean();
+
+        /**
+         * Destroys the contextual instance. For a normal-scoped bean the instance is destroyed in its context, if the context supports it. For a
+         * {@link javax.enterprise.context.Dependent} bean the instance and all its dependent objects are destroyed. Subsequent invocations are no-op.
+         */
+        void destroy();
+
+        /**
+         * Destroys the contextual instance if the bean is {@link javax.enterprise.context.Dependent}. Normal-scoped instances are left untouched.
+         */
+        @Override
+        void close();
+
+    }
+
+}
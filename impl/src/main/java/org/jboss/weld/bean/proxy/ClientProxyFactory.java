@@ -20,7 +20,6 @@ package org.jboss.weld.bean.proxy;
 import java.io.ObjectStreamException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
@@ -131,16 +130,8 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
     @Override
     protected void createForwardingMethodBody(ClassMethod classMethod, final MethodInformation methodInfo, ClassMethod staticConstructor) {
         final Method method = methodInfo.getMethod();
-        // we can only use bytecode based invocation for some methods
-        // at the moment we restrict it solely to public methods with public
-        // return and parameter types
-        boolean bytecodeInvocationAllowed = Modifier.isPublic(method.getModifiers()) && Modifier.isPublic(method.getReturnType().getModifiers());
-        for (Class<?> paramType : method.getParameterTypes()) {
-            if (!Modifier.isPublic(paramType.getModifiers())) {
-                bytecodeInvocationAllowed = false;
-                break;
-            }
-        }
+        // we can only use bytecode based invocation if the method, its declaring class, return type and parameter types are accessible from the proxy class
+        boolean bytecodeInvocationAllowed = isBytecodeInvocationAllowed(method, classMethod.getClassFile().getName());
         if (!bytecodeInvocationAllowed) {
             createInterceptorBody(classMethod, methodInfo, staticConstructor);
             return;
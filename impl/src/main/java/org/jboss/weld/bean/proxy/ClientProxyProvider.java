@@ -17,6 +17,7 @@
 package org.jboss.weld.bean.proxy;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -243,9 +244,42 @@ public class ClientProxyProvider {
         return "Proxy pool with " + beanTypeClosureProxyPool.size() + " bean type proxies and " + requestedTypeClosureProxyPool.size() + "injection point type proxies.";
     }
 
+    /**
+     * Generates the client proxy which implements all the bean types of the given bean, unless it is already available. Unlike
+     * {@link #getClientProxy(Bean)}, an unproxyable bean is not reported.
+     *
+     * @param bean
+     */
+    public void pregenerateClientProxy(Bean<?> bean) {
+        beanTypeClosureProxyPool.getValue(Reflections.<Bean<Object>>cast(bean));
+    }
+
+    /**
+     * Indicates whether the client proxy which implements all the bean types of the given bean is already available, i.e. it will not be generated when
+     * requested.
+     *
+     * @param bean
+     * @return true if the client proxy is available, false otherwise
+     */
+    public boolean isClientProxyAvailable(Bean<?> bean) {
+        return beanTypeClosureProxyPool.getValueIfPresent(Reflections.<Bean<Object>>cast(bean)) != null;
+    }
+
     public void clear() {
         this.beanTypeClosureProxyPool.clear();
         this.requestedTypeClosureProxyPool.clear();
     }
 
+    /**
+     * Discards the client proxies of the given beans.
+     *
+     * @param beans
+     */
+    public void invalidate(Collection<? extends Bean<?>> beans) {
+        for (Bean<?> bean : beans) {
+            beanTypeClosureProxyPool.invalidate(bean);
+        }
+        requestedTypeClosureProxyPool.invalidateIf((holder) -> beans.contains(holder.bean));
+    }
+
 }
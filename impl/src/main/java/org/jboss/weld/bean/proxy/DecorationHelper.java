@@ -49,6 +49,8 @@ public class DecorationHelper<T> implements PrivilegedAction<T> {
 
     private final Class<T> proxyClassForDecorator;
 
+    private final List<Class<T>> proxyClassesForDecorators;
+
     private final TargetBeanInstance targetBeanInstance;
 
     private T originalInstance;
@@ -65,12 +67,23 @@ public class DecorationHelper<T> implements PrivilegedAction<T> {
     List<Decorator<?>> decorators;
 
     public DecorationHelper(TargetBeanInstance originalInstance, Bean<?> bean, Class<T> proxyClassForDecorator, BeanManagerImpl beanManager, ContextualStore contextualStore, List<Decorator<?>> decorators) {
+        this(originalInstance, bean, proxyClassForDecorator, null, beanManager, contextualStore, decorators);
+    }
+
+    /**
+     *
+     * @param proxyClassesForDecorators the delegate proxy class for each decorator (in the same order as the decorators) or <code>null</code> if
+     *        <code>proxyClassForDecorator</code> should be used for all the decorators
+     * @see DecoratorDelegateProxyFactory
+     */
+    public DecorationHelper(TargetBeanInstance originalInstance, Bean<?> bean, Class<T> proxyClassForDecorator, List<Class<T>> proxyClassesForDecorators, BeanManagerImpl beanManager, ContextualStore contextualStore, List<Decorator<?>> decorators) {
         this.originalInstance = Reflections.<T>cast(originalInstance.getInstance());
         this.targetBeanInstance = originalInstance;
         this.beanManager = beanManager;
         this.contextualStore = contextualStore;
         this.decorators = new LinkedList<Decorator<?>>(decorators);
         this.proxyClassForDecorator = proxyClassForDecorator;
+        this.proxyClassesForDecorators = proxyClassesForDecorators;
         this.bean = bean;
         this.instantiator = beanManager.getServices().get(ProxyInstantiator.class);
         counter = 0;
@@ -110,6 +123,10 @@ public class DecorationHelper<T> implements PrivilegedAction<T> {
         DecoratorProxyMethodHandler methodHandler = createMethodHandler(injectionPoint, creationalContext, decorator);
         newTargetBeanInstance.setInterceptorsHandler(methodHandler);
         ProxyFactory.setBeanInstance(beanManager.getContextId(), proxy, newTargetBeanInstance, bean);
+        if (proxy instanceof DecoratorDelegateProxy) {
+            // invoke the decorator and the next delegate directly
+            ((DecoratorDelegateProxy) proxy).weld_$$_setDecoratorDelegates(methodHandler.getDecoratorInstance(), methodHandler.getTargetInstance(), originalInstance);
+        }
         return proxy;
     }
 
@@ -123,7 +140,7 @@ public class DecorationHelper<T> implements PrivilegedAction<T> {
     @Override
     public T run() {
         try {
-            return instantiator.newInstance(proxyClassForDecorator);
+            return instantiator.newInstance(proxyClassesForDecorators != null ? proxyClassesForDecorators.get(counter) : proxyClassForDecorator);
         } catch (InstantiationException e) {
             throw new DefinitionException(BeanLogger.LOG.proxyInstantiationFailed(this), e.getCause());
         } catch (IllegalAccessException e) {
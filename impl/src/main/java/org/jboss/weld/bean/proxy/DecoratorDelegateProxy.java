@@ -0,0 +1,35 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean.proxy;
+
+/**
+ * Implemented by the delegate proxies generated by {@link DecoratorDelegateProxyFactory}. Once the delegates are set, the decorated methods are invoked on
+ * the decorator instance and all the other methods are invoked on the next delegate directly from the generated bytecode.
+ *
+ * @see DecorationHelper
+ */
+public interface DecoratorDelegateProxy {
+
+    /**
+     *
+     * @param decorator the decorator instance this delegate belongs to
+     * @param next the next delegate in the chain, i.e. the delegate of the next decorator or the decorated instance
+     * @param target the decorated instance
+     */
+    void weld_$$_setDecoratorDelegates(Object decorator, Object next, Object target);
+
+}
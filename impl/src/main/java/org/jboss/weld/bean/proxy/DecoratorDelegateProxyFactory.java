@@ -0,0 +1,194 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean.proxy;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Set;
+
+import javax.enterprise.inject.spi.Bean;
+import javax.inject.Inject;
+
+import org.jboss.classfilewriter.AccessFlag;
+import org.jboss.classfilewriter.ClassFile;
+import org.jboss.classfilewriter.ClassMethod;
+import org.jboss.classfilewriter.code.BranchEnd;
+import org.jboss.classfilewriter.code.CodeAttribute;
+import org.jboss.weld.annotated.runtime.InvokableAnnotatedMethod;
+import org.jboss.weld.bean.WeldDecorator;
+import org.jboss.weld.util.bytecode.BytecodeUtils;
+import org.jboss.weld.util.bytecode.DeferredBytecode;
+import org.jboss.weld.util.bytecode.MethodInformation;
+import org.jboss.weld.util.bytecode.RuntimeMethodInformation;
+
+/**
+ * Generates the delegate proxy for a particular decorator of a bean. Unlike the default delegate proxy, which dispatches every invocation through
+ * {@link DecoratorProxyMethodHandler} using reflection, the methods of the generated class invoke the decorated methods on the decorator instance and
+ * all the other methods on the next delegate directly.
+ * <p>
+ * The handler is still used if the delegates are not set (e.g. after deserialization), for methods annotated with {@link Inject} and for methods which
+ * cannot be invoked from the proxy class in bytecode.
+ *
+ * @see DecoratorDelegateProxy
+ * @see DecorationHelper
+ */
+public class DecoratorDelegateProxyFactory<T> extends ProxyFactory<T> {
+
+    public static final String PROXY_SUFFIX = "DecoratorDelegate";
+    private static final String DECORATOR_FIELD_NAME = "decorator";
+    private static final String NEXT_FIELD_NAME = "next";
+    private static final String TARGET_FIELD_NAME = "target";
+    private static final String SET_DELEGATES_METHOD_NAME = "weld_$$_setDecoratorDelegates";
+
+    private final WeldDecorator<?> decorator;
+
+    public DecoratorDelegateProxyFactory(String contextId, Class<?> proxiedBeanType, Set<? extends Type> typeClosure, Bean<?> bean,
+            WeldDecorator<?> decorator) {
+        super(contextId, proxiedBeanType, typeClosure, bean, true);
+        this.decorator = decorator;
+    }
+
+    @Override
+    protected String getProxyNameSuffix() {
+        // a separate class is generated for each decorator
+        int hash = decorator.getBeanClass().getName().hashCode();
+        return PROXY_SUFFIX + "$" + decorator.getBeanClass().getSimpleName() + "$" + Math.abs(hash == Integer.MIN_VALUE ? 0 : hash);
+    }
+
+    @Override
+    protected void addAdditionalInterfaces(Set<Class<?>> interfaces) {
+        interfaces.add(DecoratorDelegateProxy.class);
+    }
+
+    @Override
+    protected void addFields(ClassFile proxyClassType, List<DeferredBytecode> initialValueBytecode) {
+        super.addFields(proxyClassType, initialValueBytecode);
+        // the delegates are not serialized - a deserialized proxy falls back to the method handler
+        proxyClassType.addField(AccessFlag.PRIVATE | AccessFlag.TRANSIENT, DECORATOR_FIELD_NAME, Object.class);
+        proxyClassType.addField(AccessFlag.PRIVATE | AccessFlag.TRANSIENT, NEXT_FIELD_NAME, Object.class);
+        proxyClassType.addField(AccessFlag.PRIVATE | AccessFlag.TRANSIENT, TARGET_FIELD_NAME, Object.class);
+    }
+
+    @Override
+    protected void addSpecialMethods(ClassFile proxyClassType, ClassMethod staticConstructor) {
+        super.addSpecialMethods(proxyClassType, staticConstructor);
+        ClassMethod classMethod = proxyClassType.addMethod(AccessFlag.PUBLIC, SET_DELEGATES_METHOD_NAME, BytecodeUtils.VOID_CLASS_DESCRIPTOR, LJAVA_LANG_OBJECT,
+                LJAVA_LANG_OBJECT, LJAVA_LANG_OBJECT);
+        final CodeAttribute b = classMethod.getCodeAttribute();
+        String proxyClassName = proxyClassType.getName();
+        b.aload(0);
+        b.aload(1);
+        b.putfield(proxyClassName, DECORATOR_FIELD_NAME, LJAVA_LANG_OBJECT);
+        b.aload(0);
+        b.aload(2);
+        b.putfield(proxyClassName, NEXT_FIELD_NAME, LJAVA_LANG_OBJECT);
+        b.aload(0);
+        b.aload(3);
+        b.putfield(proxyClassName, TARGET_FIELD_NAME, LJAVA_LANG_OBJECT);
+        b.returnInstruction();
+    }
+
+    @Override
+    protected void createForwardingMethodBody(ClassMethod classMethod, MethodInformation methodInfo, ClassMethod staticConstructor) {
+        final Method method = methodInfo.getMethod();
+        final String proxyClassName = classMethod.getClassFile().getName();
+        if (!isBytecodeInvocationAllowed(method, proxyClassName)) {
+            createInterceptorBody(classMethod, methodInfo, staticConstructor);
+            return;
+        }
+        Method decoratorMethod = null;
+        InvokableAnnotatedMethod<?> decoratedMethod = method.isAnnotationPresent(Inject.class) ? null : decorator.getDecoratorMethod(method);
+        if (decoratedMethod != null) {
+            decoratorMethod = decoratedMethod.getJavaMember();
+            if (!isDecoratorMethodInvocationAllowed(method, decoratorMethod, proxyClassName)) {
+                createInterceptorBody(classMethod, methodInfo, staticConstructor);
+                return;
+            }
+        }
+        final CodeAttribute b = classMethod.getCodeAttribute();
+
+        // use the method handler until the delegates are set
+        b.aload(0);
+        b.getfield(proxyClassName, NEXT_FIELD_NAME, LJAVA_LANG_OBJECT);
+        BranchEnd delegatesSet = b.ifnonnull();
+        createInterceptorBody(classMethod, methodInfo, staticConstructor);
+        b.branchEnd(delegatesSet);
+
+        b.aload(0);
+        if (decoratorMethod != null) {
+            b.getfield(proxyClassName, DECORATOR_FIELD_NAME, LJAVA_LANG_OBJECT);
+            invoke(b, decoratorMethod);
+            if (!method.getReturnType().isAssignableFrom(decoratorMethod.getReturnType())) {
+                b.checkcast(method.getReturnType().getName());
+            }
+        } else {
+            b.getfield(proxyClassName, NEXT_FIELD_NAME, LJAVA_LANG_OBJECT);
+            invoke(b, method);
+        }
+
+        if (!method.getReturnType().isPrimitive()) {
+            // if the decorated instance is returned, return the proxy instead so that the instance does not escape - see ProxyMethodHandler
+            b.dup();
+            b.aload(0);
+            b.getfield(proxyClassName, TARGET_FIELD_NAME, LJAVA_LANG_OBJECT);
+            BranchEnd notTarget = b.ifAcmpne();
+            b.aload(0);
+            b.instanceofInstruction(method.getReturnType().getName());
+            BranchEnd notAssignable = b.ifeq();
+            b.pop();
+            b.aload(0);
+            b.checkcast(method.getReturnType().getName());
+            b.returnInstruction();
+            b.branchEnd(notTarget);
+            b.branchEnd(notAssignable);
+        }
+        b.returnInstruction();
+    }
+
+    private void invoke(CodeAttribute b, Method method) {
+        MethodInformation methodInfo = new RuntimeMethodInformation(method);
+        b.checkcast(methodInfo.getDeclaringClass());
+        b.loadMethodParameters();
+        if (method.getDeclaringClass().isInterface()) {
+            b.invokeinterface(methodInfo.getDeclaringClass(), methodInfo.getName(), methodInfo.getDescriptor());
+        } else {
+            b.invokevirtual(methodInfo.getDeclaringClass(), methodInfo.getName(), methodInfo.getDescriptor());
+        }
+    }
+
+    /**
+     * The decorated method is invoked on the decorator instance with the arguments of the proxy method. Therefore, the decorated method has to be accessible
+     * and its parameter and return types have to be compatible with the proxy method without boxing - the lookup performed by
+     * {@link DecoratorProxyMethodHandler} only requires the parameter types of the decorated method to be assignable from the types of the invoked method.
+     */
+    private boolean isDecoratorMethodInvocationAllowed(Method method, Method decoratorMethod, String proxyClassName) {
+        if (!isBytecodeInvocationAllowed(decoratorMethod, proxyClassName)) {
+            return false;
+        }
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        Class<?>[] decoratorParameterTypes = decoratorMethod.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (!parameterTypes[i].equals(decoratorParameterTypes[i]) && (parameterTypes[i].isPrimitive() || !decoratorParameterTypes[i].isAssignableFrom(parameterTypes[i]))) {
+                return false;
+            }
+        }
+        Class<?> returnType = method.getReturnType();
+        Class<?> decoratorReturnType = decoratorMethod.getReturnType();
+        return returnType.equals(decoratorReturnType) || (!returnType.isPrimitive() && !decoratorReturnType.isPrimitive());
+    }
+}
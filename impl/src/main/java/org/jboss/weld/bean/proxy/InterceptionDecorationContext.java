@@ -17,9 +17,9 @@
 
 package org.jboss.weld.bean.proxy;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.Arrays;
 import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
 
 import org.jboss.weld.context.cache.RequestScopedCache;
 import org.jboss.weld.context.cache.RequestScopedItem;
@@ -40,15 +40,23 @@ import org.jboss.weld.context.cache.RequestScopedItem;
 public class InterceptionDecorationContext {
     private static ThreadLocal<Stack> interceptionContexts = new ThreadLocal<Stack>();
 
+    /**
+     * The stack is backed by an array which only grows. Therefore, once the stack is created, a chain of nested intercepted/decorated invocations does not
+     * allocate anything.
+     */
     public static class Stack implements RequestScopedItem {
+
+        private static final int INITIAL_CAPACITY = 4;
+
         private boolean removeWhenEmpty;
-        private final Deque<CombinedInterceptorAndDecoratorStackMethodHandler> elements;
+        private CombinedInterceptorAndDecoratorStackMethodHandler[] elements;
+        private int size;
         private final ThreadLocal<Stack> interceptionContexts;
         private boolean valid;
 
         private Stack(ThreadLocal<Stack> interceptionContexts) {
             this.interceptionContexts = interceptionContexts;
-            this.elements = new ArrayDeque<CombinedInterceptorAndDecoratorStackMethodHandler>();
+            this.elements = new CombinedInterceptorAndDecoratorStackMethodHandler[INITIAL_CAPACITY];
             /*
              * Setting / removing of a thread-local is much more expensive compared to get. Therefore,
              * if RequestScopedCache is active we register the thread-local for removal at the end of the
@@ -68,7 +76,7 @@ public class InterceptionDecorationContext {
          */
         public boolean startIfNotOnTop(CombinedInterceptorAndDecoratorStackMethodHandler context) {
             checkState();
-            if (elements.isEmpty() || peek() != context) {
+            if (size == 0 || elements[size - 1] != context) {
                 push(context);
                 return true;
             }
@@ -81,17 +89,24 @@ public class InterceptionDecorationContext {
 
         private void push(CombinedInterceptorAndDecoratorStackMethodHandler item) {
             checkState();
-            elements.addFirst(item);
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, size << 1);
+            }
+            elements[size++] = item;
         }
 
         public CombinedInterceptorAndDecoratorStackMethodHandler peek() {
             checkState();
-            return elements.peekFirst();
+            return size == 0 ? null : elements[size - 1];
         }
 
         private CombinedInterceptorAndDecoratorStackMethodHandler pop() {
             checkState();
-            CombinedInterceptorAndDecoratorStackMethodHandler top = elements.removeFirst();
+            if (size == 0) {
+                throw new NoSuchElementException();
+            }
+            CombinedInterceptorAndDecoratorStackMethodHandler top = elements[--size];
+            elements[size] = null;
             removeIfEmpty();
             return top;
         }
@@ -115,19 +130,19 @@ public class InterceptionDecorationContext {
         }
 
         private void removeIfEmpty() {
-            if (removeWhenEmpty && elements.isEmpty()) {
+            if (removeWhenEmpty && size == 0) {
                 interceptionContexts.remove();
                 valid = false;
             }
         }
 
         public int size() {
-            return elements.size();
+            return size;
         }
 
         @Override
         public String toString() {
-            return "Stack [valid=" + valid + ", cached=" + !removeWhenEmpty + ", elements=" + elements + "]";
+            return "Stack [valid=" + valid + ", cached=" + !removeWhenEmpty + ", elements=" + Arrays.toString(Arrays.copyOf(elements, size)) + "]";
         }
 
     }
@@ -172,20 +187,17 @@ public class InterceptionDecorationContext {
      * This is called by client proxies. Calling a method on a client proxy means that we left the interception context of the calling bean. Therefore,
      * client proxies call this method to start a new interception context of the called (possibly intercepted) bean. If however there is not interception context
      * at the time the proxy is called (meaning the caller is not intercepted), there is no need to create new interception context. This is an optimization as the
-     * first startInterceptorContext call is expensive.
+     * first startInterceptorContext call is expensive. In that case, the thread-local is only read - no stack is created.
      *
      * If this method returns a non-null value, the caller of this method is required to call {@link Stack#end()} on the returned value.
      */
     public static Stack startIfNotEmpty() {
-        Stack stack = getStack();
-        if (!stack.elements.isEmpty()) {
+        Stack stack = interceptionContexts.get();
+        if (stack != null && stack.size > 0) {
             stack.push(CombinedInterceptorAndDecoratorStackMethodHandler.NULL_INSTANCE);
             return stack;
-        } else {
-            // if RequestScopedCache is not active, remove now to prevent ThreadLocal leak
-            stack.removeIfEmpty();
-            return null;
         }
+        return null;
     }
 
     /**
@@ -236,7 +248,7 @@ public class InterceptionDecorationContext {
         if (stack == null) {
             return true;
         } else {
-            return stack.elements.isEmpty();
+            return stack.size == 0;
         }
     }
 }
@@ -51,6 +51,8 @@ import org.jboss.classfilewriter.code.CodeAttribute;
 import org.jboss.classfilewriter.util.Boxing;
 import org.jboss.classfilewriter.util.DescriptorUtils;
 import org.jboss.weld.Container;
+import org.jboss.weld.bootstrap.BootstrapProfiler;
+import org.jboss.weld.bootstrap.BootstrapProfiler.Frame;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.exceptions.DefinitionException;
 import org.jboss.weld.exceptions.WeldException;
@@ -334,7 +336,8 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
             proxyClass = cast(classLoader.loadClass(proxyClassName));
         } catch (ClassNotFoundException e) {
             // Create the proxy class for this instance
-            try {
+            try (Frame frame = BootstrapProfiler.start(Container.instance(contextId).services().get(BootstrapProfiler.class), BootstrapProfiler.PROXY_CLASS,
+                    proxyClassName)) {
                 proxyClass = createProxyClass(proxyClassName);
             } catch (Throwable e1) {
                 //attempt to load the class again, just in case another thread
@@ -842,6 +845,55 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
         return contextId;
     }
 
+    /**
+     *
+     * @return the class loader the proxy class is defined in
+     */
+    protected ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    /**
+     * A method may be invoked directly from the generated bytecode if it is not private and all the types involved are
+     * accessible from the proxy class. Public methods of public types are always accessible. Package-private and protected methods and types are only
+     * accessible if they belong to the same runtime package as the proxy class, i.e. they have the same package name and class loader. Otherwise, the
+     * invocation is dispatched through the {@link ProxyMethodHandler} which uses reflection.
+     */
+    protected boolean isBytecodeInvocationAllowed(Method method, String proxyClassName) {
+        if (Modifier.isPrivate(method.getModifiers())) {
+            return false;
+        }
+        final String proxyPackage = getPackageName(proxyClassName);
+        if (!Modifier.isPublic(method.getModifiers()) && !isInRuntimePackage(method.getDeclaringClass(), proxyPackage)) {
+            return false;
+        }
+        if (!isAccessible(method.getDeclaringClass(), proxyPackage) || !isAccessible(method.getReturnType(), proxyPackage)) {
+            return false;
+        }
+        for (Class<?> paramType : method.getParameterTypes()) {
+            if (!isAccessible(paramType, proxyPackage)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected boolean isAccessible(Class<?> type, String proxyPackage) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        return type.isPrimitive() || Modifier.isPublic(type.getModifiers()) || (!Modifier.isPrivate(type.getModifiers()) && isInRuntimePackage(type, proxyPackage));
+    }
+
+    protected boolean isInRuntimePackage(Class<?> type, String proxyPackage) {
+        return getPackageName(type.getName()).equals(proxyPackage) && type.getClassLoader() == getClassLoader();
+    }
+
+    protected static String getPackageName(String className) {
+        int lastDot = className.lastIndexOf('.');
+        return lastDot < 0 ? "" : className.substring(0, lastDot);
+    }
+
     /**
      * Figures out the correct class loader to use for a proxy for a given bean
      */
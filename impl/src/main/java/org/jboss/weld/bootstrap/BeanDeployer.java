@@ -97,6 +97,21 @@ public class BeanDeployer extends AbstractBeanDeployer<BeanDeployerEnvironment>
         return this;
     }
 
+    /**
+     * Creates a {@link SlimAnnotatedTypeContext} for each of the given classes and stores it in {@link BeanDeployerEnvironment}. Unlike
+     * {@link #addClasses(Iterable)}, the classes are not loaded by name, which allows for deploying a new version of a class.
+     */
+    public BeanDeployer addLoadedClasses(Iterable<Class<?>> classes) {
+        AnnotatedTypeLoader loader = new AnnotatedTypeLoader(getManager(), classTransformer, containerLifecycleEvents);
+        for (Class<?> clazz : classes) {
+            SlimAnnotatedTypeContext<?> ctx = loader.createContext(loader.loadAnnotatedType(clazz, getManager().getId()));
+            if (ctx != null) {
+                getEnvironment().addAnnotatedType(ctx);
+            }
+        }
+        return this;
+    }
+
     private void processPriority(AnnotatedType<?> type) {
         Object priority = type.getAnnotation(annotationApi.PRIORITY_ANNOTATION_CLASS);
         if (priority != null) {
@@ -150,30 +165,42 @@ public class BeanDeployer extends AbstractBeanDeployer<BeanDeployerEnvironment>
         Set<SlimAnnotatedTypeContext<?>> classesToBeRemoved = new HashSet<SlimAnnotatedTypeContext<?>>();
 
         for (SlimAnnotatedTypeContext<?> annotatedTypeContext : getEnvironment().getAnnotatedTypes()) {
-            SlimAnnotatedType<?> annotatedType = annotatedTypeContext.getAnnotatedType();
-            final ProcessAnnotatedTypeImpl<?> event = containerLifecycleEvents.fireProcessAnnotatedType(getManager(), annotatedTypeContext);
-
-            // process the result
-            if (event != null) {
-                if (event.isVeto()) {
-                    getEnvironment().vetoJavaClass(annotatedType.getJavaClass());
-                    classesToBeRemoved.add(annotatedTypeContext);
-                } else {
-                    boolean dirty = event.isDirty();
-                    if (dirty) {
-                        classesToBeRemoved.add(annotatedTypeContext); // remove the original class
-                        classesToBeAdded.add(SlimAnnotatedTypeContext.of(event.getResultingAnnotatedType(), classTransformer, annotatedTypeContext.getExtension()));
-                    }
-                    processPriority(event.getResultingAnnotatedType());
-                }
-            } else {
-                processPriority(annotatedType);
-            }
+            ProcessAnnotatedTypeImpl<?> event = containerLifecycleEvents.fireProcessAnnotatedType(getManager(), annotatedTypeContext);
+            processAnnotatedTypeResult(annotatedTypeContext, event, classesToBeAdded, classesToBeRemoved);
         }
         getEnvironment().removeAnnotatedTypes(classesToBeRemoved);
         getEnvironment().addAnnotatedTypes(classesToBeAdded);
     }
 
+    /**
+     * Applies the result of a {@link ProcessAnnotatedTypeImpl} event, i.e. vetoes the type or replaces it and registers its priority. The result of each event
+     * has to be applied sequentially.
+     *
+     * @param annotatedTypeContext the type the event was fired for
+     * @param event the event or null if the event was not fired
+     */
+    protected void processAnnotatedTypeResult(SlimAnnotatedTypeContext<?> annotatedTypeContext, ProcessAnnotatedTypeImpl<?> event,
+            Set<SlimAnnotatedTypeContext<?>> classesToBeAdded, Set<SlimAnnotatedTypeContext<?>> classesToBeRemoved) {
+        SlimAnnotatedType<?> annotatedType = annotatedTypeContext.getAnnotatedType();
+
+        // process the result
+        if (event != null) {
+            if (event.isVeto()) {
+                getEnvironment().vetoJavaClass(annotatedType.getJavaClass());
+                classesToBeRemoved.add(annotatedTypeContext);
+            } else {
+                boolean dirty = event.isDirty();
+                if (dirty) {
+                    classesToBeRemoved.add(annotatedTypeContext); // remove the original class
+                    classesToBeAdded.add(SlimAnnotatedTypeContext.of(event.getResultingAnnotatedType(), classTransformer, annotatedTypeContext.getExtension()));
+                }
+                processPriority(event.getResultingAnnotatedType());
+            }
+        } else {
+            processPriority(annotatedType);
+        }
+    }
+
     public void registerAnnotatedTypes() {
         for (SlimAnnotatedTypeContext<?> ctx : getEnvironment().getAnnotatedTypes()) {
             annotatedTypeStore.put(ctx.getAnnotatedType());
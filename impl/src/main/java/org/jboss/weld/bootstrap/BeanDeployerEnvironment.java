@@ -52,11 +52,13 @@ import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.bean.SessionBean;
 import org.jboss.weld.bean.builtin.AbstractBuiltInBean;
 import org.jboss.weld.bean.builtin.ExtensionBean;
+import org.jboss.weld.bean.builtin.WeldInstance;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.ejb.EjbDescriptors;
 import org.jboss.weld.ejb.InternalEjbDescriptor;
 import org.jboss.weld.injection.attributes.WeldInjectionPointAttributes;
 import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.resolution.AssignabilityMemo;
 import org.jboss.weld.resolution.ResolvableBuilder;
 import org.jboss.weld.resolution.TypeSafeDisposerResolver;
 import org.jboss.weld.resources.ClassTransformer;
@@ -131,7 +133,8 @@ public class BeanDeployerEnvironment {
         this.decorators = decorators;
         this.interceptors = interceptors;
         this.ejbDescriptors = ejbDescriptors;
-        this.disposalMethodResolver = new TypeSafeDisposerResolver(allDisposalBeans, manager.getServices().get(WeldConfiguration.class));
+        this.disposalMethodResolver = new TypeSafeDisposerResolver(allDisposalBeans, manager.getServices().get(WeldConfiguration.class),
+                manager.getServices().get(AssignabilityMemo.class));
         this.classTransformer = manager.getServices().get(ClassTransformer.class);
         this.newManagedBeanClasses = newManagedBeanClasses;
         this.newSessionBeanDescriptorsFromInjectionPoint = newSessionBeanDescriptorsFromInjectionPoint;
@@ -273,7 +276,7 @@ public class BeanDeployerEnvironment {
                 }
                 New _new = weldInjectionPoint.getQualifier(New.class);
                 if (_new.value().equals(New.class)) {
-                    if (rawType.equals(Instance.class)) {
+                    if (rawType.equals(Instance.class) || rawType.equals(WeldInstance.class)) {
                         // e.g. @Inject @New(ChequePaymentProcessor.class) Instance<PaymentProcessor> chequePaymentProcessor;
                         // see WELD-975
                         Type typeParameter = Reflections.getActualTypeArguments(weldInjectionPoint.getType())[0];
@@ -19,8 +19,10 @@ package org.jboss.weld.bootstrap;
 import static java.util.Collections.emptyList;
 import static org.jboss.weld.config.ConfigurationKey.CONCURRENT_DEPLOYMENT;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -200,6 +202,24 @@ public class BeanDeployment {
         beanDeployer.addClasses(obtainClasses());
     }
 
+    /**
+     * Creates the tasks which load the classes of this bean archive, one task per class. The tasks may be performed concurrently, also together with the
+     * tasks of other bean archives. If the bean deployer of this archive is not thread-safe, a single task which loads all the classes is returned.
+     *
+     * @return the tasks loading the classes of this bean archive
+     */
+    public List<Runnable> createClassTasks() {
+        if (!(beanDeployer instanceof ConcurrentBeanDeployer)) {
+            return Collections.<Runnable> singletonList(this::createClasses);
+        }
+        final AnnotatedTypeLoader loader = beanDeployer.createAnnotatedTypeLoader();
+        List<Runnable> tasks = new ArrayList<Runnable>();
+        for (String className : obtainClasses()) {
+            tasks.add(() -> beanDeployer.addClass(className, loader));
+        }
+        return tasks;
+    }
+
     /**
      * Initializes module enablement.
      *
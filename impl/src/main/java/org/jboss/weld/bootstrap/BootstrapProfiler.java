@@ -0,0 +1,388 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.weld.bootstrap.api.helpers.AbstractBootstrapService;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.logging.BootstrapLogger;
+
+/**
+ * Records a timeline of the bootstrap. The profiler is disabled by default and only enabled if {@link ConfigurationKey#BOOTSTRAP_PROFILER_OUTPUT} is set.
+ *
+ * <p>
+ * A {@link Frame} is started for each measured piece of work and closed once the work is done. Frames started on the same thread are nested. Frames started
+ * on a worker thread are nested in the bootstrap phase which is currently in progress.
+ * </p>
+ *
+ * <p>
+ * Once the bootstrap is finished two files are written to the output directory:
+ * </p>
+ * <ul>
+ * <li><code>weld-bootstrap-{contextId}.json</code> - all the recorded frames in the trace event format (can be loaded in chrome://tracing or speedscope)
+ * together with the list of hot spots, i.e. the most expensive items per category</li>
+ * <li><code>weld-bootstrap-{contextId}.folded</code> - collapsed stacks with self times in microseconds (input for flamegraph.pl)</li>
+ * </ul>
+ *
+ * @see ConfigurationKey#BOOTSTRAP_PROFILER_OUTPUT
+ */
+public class BootstrapProfiler extends AbstractBootstrapService {
+
+    /**
+     * Bootstrap phases and sub-phases
+     */
+    public static final String PHASE = "phase";
+
+    /**
+     * Work performed for a single bean archive within a phase
+     */
+    public static final String ARCHIVE = "archive";
+
+    /**
+     * Notification of an extension observer method
+     */
+    public static final String EXTENSION_OBSERVER = "extensionObserver";
+
+    /**
+     * Creation of a backed annotated type
+     */
+    public static final String ANNOTATED_TYPE = "annotatedType";
+
+    /**
+     * Creation of an enhanced annotated type
+     */
+    public static final String ENHANCED_ANNOTATED_TYPE = "enhancedAnnotatedType";
+
+    /**
+     * Generation of a proxy class or an intercepted subclass
+     */
+    public static final String PROXY_CLASS = "proxyClass";
+
+    private static final int HOT_SPOTS_LIMIT = 50;
+
+    private static final String SEPARATOR = ";";
+
+    /**
+     * A measured piece of work.
+     */
+    public interface Frame extends AutoCloseable {
+
+        @Override
+        void close();
+
+    }
+
+    private static final Frame NOOP_FRAME = () -> {
+    };
+
+    /**
+     * A profiler which never records. Components which look up the profiler in a service registry which does not necessarily contain one may use this
+     * instance instead.
+     */
+    public static final BootstrapProfiler DISABLED = new BootstrapProfiler();
+
+    private volatile Recording recording;
+
+    /**
+     * Enables the profiler if {@link ConfigurationKey#BOOTSTRAP_PROFILER_OUTPUT} is set.
+     *
+     * @param contextId
+     * @param configuration
+     */
+    void init(String contextId, WeldConfiguration configuration) {
+        String output = configuration.getStringProperty(ConfigurationKey.BOOTSTRAP_PROFILER_OUTPUT);
+        if (!output.isEmpty()) {
+            File outputDirectory = new File(output);
+            if (!outputDirectory.isDirectory() && !outputDirectory.mkdirs()) {
+                BootstrapLogger.LOG.unableToWriteBootstrapProfile(outputDirectory);
+                return;
+            }
+            this.recording = new Recording(contextId, outputDirectory);
+        }
+    }
+
+    /**
+     *
+     * @return <code>true</code> if the profiler is recording, <code>false</code> otherwise
+     */
+    public boolean isEnabled() {
+        return recording != null;
+    }
+
+    /**
+     * Starts a new frame. The frame must be closed by the thread which started it.
+     *
+     * @param category
+     * @param name
+     * @return the started frame
+     */
+    public Frame start(String category, String name) {
+        Recording recording = this.recording;
+        if (recording == null) {
+            return NOOP_FRAME;
+        }
+        return recording.start(category, name);
+    }
+
+    /**
+     * Starts a new frame using the given profiler. This is a convenient method for components which look up the profiler in a service registry which does not
+     * necessarily contain one.
+     *
+     * @param profiler the profiler, may be <code>null</code>
+     * @param category
+     * @param name
+     * @return the started frame or a no-op frame if the profiler is <code>null</code>
+     */
+    public static Frame start(BootstrapProfiler profiler, String category, String name) {
+        return profiler != null ? profiler.start(category, name) : NOOP_FRAME;
+    }
+
+    /**
+     * Writes the report and stops recording.
+     */
+    void writeReport() {
+        Recording recording = this.recording;
+        if (recording != null) {
+            this.recording = null;
+            recording.write();
+        }
+    }
+
+    @Override
+    public void cleanupAfterBoot() {
+        // The report is written and the recording is dropped at the end of WeldStartup.endInitialization()
+    }
+
+    @Override
+    public void cleanup() {
+        this.recording = null;
+    }
+
+    private static class Recording {
+
+        private final String contextId;
+        private final File outputDirectory;
+        private final long origin;
+        private final Queue<ActiveFrame> frames;
+        private final ConcurrentMap<String, LongAdder> stacks;
+        private final ThreadLocal<Deque<ActiveFrame>> threadStacks;
+        private volatile ActiveFrame currentPhase;
+
+        Recording(String contextId, File outputDirectory) {
+            this.contextId = contextId;
+            this.outputDirectory = outputDirectory;
+            this.origin = System.nanoTime();
+            this.frames = new ConcurrentLinkedQueue<ActiveFrame>();
+            this.stacks = new ConcurrentHashMap<String, LongAdder>();
+            this.threadStacks = ThreadLocal.withInitial(ArrayDeque::new);
+        }
+
+        Frame start(String category, String name) {
+            Deque<ActiveFrame> threadStack = threadStacks.get();
+            ActiveFrame parent = threadStack.peek();
+            if (parent == null) {
+                parent = currentPhase;
+            }
+            ActiveFrame frame = new ActiveFrame(this, category, name, parent, threadStack);
+            threadStack.push(frame);
+            if (PHASE.equals(category)) {
+                currentPhase = frame;
+            }
+            return frame;
+        }
+
+        void closed(ActiveFrame frame) {
+            if (frame == currentPhase) {
+                currentPhase = frame.parent;
+            }
+            frames.add(frame);
+            stacks.computeIfAbsent(frame.path, (key) -> new LongAdder()).add(TimeUnit.NANOSECONDS.toMicros(frame.getSelfTime()));
+        }
+
+        void write() {
+            String fileName = "weld-bootstrap-" + contextId.replaceAll("[^a-zA-Z0-9._-]", "_");
+            File trace = new File(outputDirectory, fileName + ".json");
+            try (Writer writer = new OutputStreamWriter(new FileOutputStream(trace), StandardCharsets.UTF_8)) {
+                writeTrace(writer);
+            } catch (IOException e) {
+                BootstrapLogger.LOG.unableToWriteBootstrapProfile(trace);
+                BootstrapLogger.LOG.catchingDebug(e);
+                return;
+            }
+            File folded = new File(outputDirectory, fileName + ".folded");
+            try (Writer writer = new OutputStreamWriter(new FileOutputStream(folded), StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, LongAdder> entry : stacks.entrySet()) {
+                    writer.append(entry.getKey()).append(' ').append(Long.toString(entry.getValue().sum())).append('\n');
+                }
+            } catch (IOException e) {
+                BootstrapLogger.LOG.unableToWriteBootstrapProfile(folded);
+                BootstrapLogger.LOG.catchingDebug(e);
+                return;
+            }
+            BootstrapLogger.LOG.bootstrapProfileWritten(trace, folded);
+        }
+
+        private void writeTrace(Writer writer) throws IOException {
+            writer.append("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+            boolean first = true;
+            for (ActiveFrame frame : frames) {
+                if (!first) {
+                    writer.append(',');
+                }
+                first = false;
+                writer.append("\n{\"ph\":\"X\",\"pid\":1,\"tid\":").append(Long.toString(frame.threadId));
+                writer.append(",\"cat\":\"").append(escape(frame.category));
+                writer.append("\",\"name\":\"").append(escape(frame.name));
+                writer.append("\",\"ts\":").append(Long.toString(TimeUnit.NANOSECONDS.toMicros(frame.start - origin)));
+                writer.append(",\"dur\":").append(Long.toString(TimeUnit.NANOSECONDS.toMicros(frame.duration))).append('}');
+            }
+            writer.append("],\n\"hotSpots\":{");
+            first = true;
+            for (Map.Entry<String, List<HotSpot>> entry : getHotSpots().entrySet()) {
+                if (!first) {
+                    writer.append(',');
+                }
+                first = false;
+                writer.append("\n\"").append(escape(entry.getKey())).append("\":[");
+                boolean firstHotSpot = true;
+                for (HotSpot hotSpot : entry.getValue()) {
+                    if (!firstHotSpot) {
+                        writer.append(',');
+                    }
+                    firstHotSpot = false;
+                    writer.append("{\"name\":\"").append(escape(hotSpot.name)).append("\",\"count\":").append(Integer.toString(hotSpot.count));
+                    writer.append(",\"totalMicros\":").append(Long.toString(TimeUnit.NANOSECONDS.toMicros(hotSpot.total))).append('}');
+                }
+                writer.append(']');
+            }
+            writer.append("}}\n");
+        }
+
+        /**
+         * @return the most expensive items per category
+         */
+        private Map<String, List<HotSpot>> getHotSpots() {
+            Map<String, Map<String, HotSpot>> categories = new HashMap<String, Map<String, HotSpot>>();
+            for (ActiveFrame frame : frames) {
+                HotSpot hotSpot = categories.computeIfAbsent(frame.category, (key) -> new HashMap<String, HotSpot>()).computeIfAbsent(frame.name,
+                        HotSpot::new);
+                hotSpot.count++;
+                hotSpot.total += frame.duration;
+            }
+            Map<String, List<HotSpot>> hotSpots = new HashMap<String, List<HotSpot>>();
+            for (Map.Entry<String, Map<String, HotSpot>> entry : categories.entrySet()) {
+                List<HotSpot> sorted = new ArrayList<HotSpot>(entry.getValue().values());
+                sorted.sort((hotSpot1, hotSpot2) -> Long.compare(hotSpot2.total, hotSpot1.total));
+                hotSpots.put(entry.getKey(), sorted.size() > HOT_SPOTS_LIMIT ? sorted.subList(0, HOT_SPOTS_LIMIT) : sorted);
+            }
+            return hotSpots;
+        }
+
+        private static String escape(String value) {
+            StringBuilder builder = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    builder.append('\\').append(c);
+                } else if (c < 0x20) {
+                    builder.append(String.format("\\u%04x", (int) c));
+                } else {
+                    builder.append(c);
+                }
+            }
+            return builder.toString();
+        }
+    }
+
+    private static class ActiveFrame implements Frame {
+
+        private final Recording recording;
+        private final String category;
+        private final String name;
+        private final String path;
+        private final ActiveFrame parent;
+        private final Deque<ActiveFrame> threadStack;
+        private final long threadId;
+        private final long start;
+        private final LongAdder childTime;
+        private volatile long duration;
+
+        ActiveFrame(Recording recording, String category, String name, ActiveFrame parent, Deque<ActiveFrame> threadStack) {
+            this.recording = recording;
+            this.category = category;
+            this.name = name;
+            this.parent = parent;
+            // Semicolons and spaces have special meaning in the collapsed stack format
+            String element = name.replace(SEPARATOR, ",").replace(' ', '_');
+            this.path = parent == null ? element : parent.path + SEPARATOR + element;
+            this.threadStack = threadStack;
+            this.threadId = Thread.currentThread().getId();
+            this.childTime = new LongAdder();
+            this.start = System.nanoTime();
+        }
+
+        @Override
+        public void close() {
+            this.duration = System.nanoTime() - start;
+            threadStack.remove(this);
+            if (threadStack.isEmpty()) {
+                // do not leave the stack behind on pooled worker threads
+                recording.threadStacks.remove();
+            }
+            if (parent != null && parent.threadStack == threadStack) {
+                // Only the time spent on the same thread is subtracted from the parent's self time
+                parent.childTime.add(duration);
+            }
+            recording.closed(this);
+        }
+
+        long getSelfTime() {
+            return Math.max(0, duration - childTime.sum());
+        }
+    }
+
+    private static class HotSpot {
+
+        private final String name;
+        private int count;
+        private long total;
+
+        HotSpot(String name) {
+            this.name = name;
+        }
+    }
+
+}
@@ -16,8 +16,12 @@
  */
 package org.jboss.weld.bootstrap;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.enterprise.inject.spi.Bean;
 
@@ -27,6 +31,7 @@ import org.jboss.weld.annotated.slim.SlimAnnotatedTypeContext;
 import org.jboss.weld.bean.AbstractClassBean;
 import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.bootstrap.events.ProcessAnnotatedTypeImpl;
 import org.jboss.weld.ejb.EjbDescriptors;
 import org.jboss.weld.ejb.InternalEjbDescriptor;
 import org.jboss.weld.executor.IterativeWorkerTaskFactory;
@@ -64,6 +69,47 @@ public class ConcurrentBeanDeployer extends BeanDeployer {
         return this;
     }
 
+    /**
+     * {@link javax.enterprise.inject.spi.ProcessAnnotatedType} events for types observed by thread-safe observer methods only are fired from worker threads.
+     * The remaining events are fired sequentially afterwards. The results of all the events, i.e. vetoes, replaced types and priorities, are applied
+     * sequentially once the concurrently fired events are delivered.
+     */
+    @Override
+    public void processAnnotatedTypes() {
+        final Set<SlimAnnotatedTypeContext<?>> classesToBeAdded = new HashSet<SlimAnnotatedTypeContext<?>>();
+        final Set<SlimAnnotatedTypeContext<?>> classesToBeRemoved = new HashSet<SlimAnnotatedTypeContext<?>>();
+        final List<SlimAnnotatedTypeContext<?>> concurrent = new ArrayList<SlimAnnotatedTypeContext<?>>();
+        final List<SlimAnnotatedTypeContext<?>> sequential = new ArrayList<SlimAnnotatedTypeContext<?>>();
+
+        for (SlimAnnotatedTypeContext<?> annotatedTypeContext : getEnvironment().getAnnotatedTypes()) {
+            if (containerLifecycleEvents.isProcessAnnotatedTypeConcurrentlyDeliverable(annotatedTypeContext)) {
+                concurrent.add(annotatedTypeContext);
+            } else {
+                sequential.add(annotatedTypeContext);
+            }
+        }
+        // only the events are fired by the workers, the results are applied sequentially
+        final Map<SlimAnnotatedTypeContext<?>, ProcessAnnotatedTypeImpl<?>> events = new ConcurrentHashMap<SlimAnnotatedTypeContext<?>, ProcessAnnotatedTypeImpl<?>>();
+        executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<SlimAnnotatedTypeContext<?>>(concurrent) {
+            @Override
+            protected void doWork(SlimAnnotatedTypeContext<?> annotatedTypeContext) {
+                ProcessAnnotatedTypeImpl<?> event = containerLifecycleEvents.fireProcessAnnotatedType(getManager(), annotatedTypeContext);
+                if (event != null) {
+                    events.put(annotatedTypeContext, event);
+                }
+            }
+        });
+        for (SlimAnnotatedTypeContext<?> annotatedTypeContext : concurrent) {
+            processAnnotatedTypeResult(annotatedTypeContext, events.get(annotatedTypeContext), classesToBeAdded, classesToBeRemoved);
+        }
+        for (SlimAnnotatedTypeContext<?> annotatedTypeContext : sequential) {
+            ProcessAnnotatedTypeImpl<?> event = containerLifecycleEvents.fireProcessAnnotatedType(getManager(), annotatedTypeContext);
+            processAnnotatedTypeResult(annotatedTypeContext, event, classesToBeAdded, classesToBeRemoved);
+        }
+        getEnvironment().removeAnnotatedTypes(classesToBeRemoved);
+        getEnvironment().addAnnotatedTypes(classesToBeAdded);
+    }
+
     @Override
     public void createClassBeans() {
         final SetMultimap<Class<?>, SlimAnnotatedType<?>> otherWeldClasses = SetMultimap.newConcurrentSetMultimap();
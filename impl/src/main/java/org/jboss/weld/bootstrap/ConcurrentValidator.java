@@ -22,7 +22,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
 
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.Decorator;
@@ -37,11 +38,18 @@ import org.jboss.weld.logging.ValidatorLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.manager.api.ExecutorServices;
 import org.jboss.weld.util.Beans;
+import org.jboss.weld.util.collections.Iterables;
 import org.jboss.weld.util.collections.SetMultimap;
 import org.jboss.weld.util.collections.WeldCollections;
 
 /**
- * Processes validation of beans, decorators and interceptors in parallel.
+ * Processes validation of beans, decorators, interceptors, observer methods, bean names and producers in parallel.
+ *
+ * <p>
+ * If validation fails for more than one item of a given pass, the outcome does not depend on thread scheduling: the problem of the item which comes first in
+ * the iteration order of the pass is rethrown, i.e. the same problem the sequential {@link Validator} would report. Bean validation problems are aggregated
+ * in the iteration order of the beans.
+ * </p>
  *
  * @author Jozef Hartinger
  *
@@ -56,15 +64,22 @@ public class ConcurrentValidator extends Validator {
 
     @Override
     public void validateBeans(Collection<? extends Bean<?>> beans, final BeanManagerImpl manager) {
-        final List<RuntimeException> problems = new CopyOnWriteArrayList<RuntimeException>();
         final Set<CommonBean<?>> specializedBeans = Collections.newSetFromMap(new ConcurrentHashMap<CommonBean<?>, Boolean>());
-
-        executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<Bean<?>>(beans) {
-            protected void doWork(Bean<?> bean) {
+        final List<List<RuntimeException>> problemsPerBean = validateConcurrently(beans, new ItemValidator<Bean<?>, List<RuntimeException>>() {
+            @Override
+            public List<RuntimeException> validate(Bean<?> bean) {
+                List<RuntimeException> problems = new ArrayList<RuntimeException>(1);
                 validateBean(bean, specializedBeans, manager, problems);
+                return problems.isEmpty() ? null : problems;
             }
         });
 
+        final List<RuntimeException> problems = new ArrayList<RuntimeException>();
+        for (List<RuntimeException> beanProblems : problemsPerBean) {
+            if (beanProblems != null) {
+                problems.addAll(beanProblems);
+            }
+        }
         if (!problems.isEmpty()) {
             if (problems.size() == 1) {
                 throw problems.get(0);
@@ -76,9 +91,11 @@ public class ConcurrentValidator extends Validator {
 
     @Override
     public void validateInterceptors(Collection<? extends Interceptor<?>> interceptors, final BeanManagerImpl manager) {
-        executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<Interceptor<?>>(interceptors) {
-            protected void doWork(Interceptor<?> interceptor) {
+        validateConcurrently(interceptors, new ItemValidator<Interceptor<?>, Void>() {
+            @Override
+            public Void validate(Interceptor<?> interceptor) {
                 validateInterceptor(interceptor, manager);
+                return null;
             }
         });
     }
@@ -86,23 +103,26 @@ public class ConcurrentValidator extends Validator {
     @Override
     public void validateDecorators(Collection<? extends Decorator<?>> decorators, final BeanManagerImpl manager) {
         final Set<CommonBean<?>> specializedBeans = Collections.newSetFromMap(new ConcurrentHashMap<CommonBean<?>, Boolean>());
-
-        executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<Decorator<?>>(decorators) {
-            protected void doWork(Decorator<?> decorator) {
+        validateConcurrently(decorators, new ItemValidator<Decorator<?>, Void>() {
+            @Override
+            public Void validate(Decorator<?> decorator) {
                 validateDecorator(decorator, specializedBeans, manager);
+                return null;
             }
         });
     }
 
     @Override
     protected void validateObserverMethods(Iterable<ObserverInitializationContext<?, ?>> observers, final BeanManagerImpl beanManager) {
-        executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<ObserverInitializationContext<?, ?>>(observers) {
-            protected void doWork(ObserverInitializationContext<?, ?> observerMethod) {
+        validateConcurrently(observers, new ItemValidator<ObserverInitializationContext<?, ?>, Void>() {
+            @Override
+            public Void validate(ObserverInitializationContext<?, ?> observerMethod) {
                 for (InjectionPoint ip : observerMethod.getObserver().getInjectionPoints()) {
                     validateInjectionPointForDefinitionErrors(ip, ip.getBean(), beanManager);
                     validateMetadataInjectionPoint(ip, null, ValidatorLogger.INJECTION_INTO_NON_BEAN);
                     validateInjectionPointForDeploymentProblems(ip, ip.getBean(), beanManager);
                 }
+                return null;
             }
         });
     }
@@ -123,8 +143,9 @@ public class ConcurrentValidator extends Validator {
         }
 
         final SpecializationAndEnablementRegistry registry = beanManager.getServices().get(SpecializationAndEnablementRegistry.class);
-        executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<String>(namedAccessibleBeans.keySet()) {
-            protected void doWork(String name) {
+        validateConcurrently(namedAccessibleBeans.keySet(), new ItemValidator<String, Void>() {
+            @Override
+            public Void validate(String name) {
                 Set<Bean<?>> resolvedBeans = beanManager.getBeanResolver().<Object>resolve(Beans.removeDisabledBeans(namedAccessibleBeans.get(name), beanManager, registry));
                 if (resolvedBeans.size() > 1) {
                     throw ValidatorLogger.LOG.ambiguousElName(name, WeldCollections.toMultiRowString(resolvedBeans));
@@ -132,16 +153,65 @@ public class ConcurrentValidator extends Validator {
                 if (accessibleNamespaces.contains(name)) {
                     throw ValidatorLogger.LOG.beanNameIsPrefix(name);
                 }
+                return null;
             }
         });
     }
 
     @Override
     public void validateProducers(Collection<Producer<?>> producers, final BeanManagerImpl beanManager) {
-        executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<Producer<?>>(producers) {
-            protected void doWork(Producer<?> producer) {
+        validateConcurrently(producers, new ItemValidator<Producer<?>, Void>() {
+            @Override
+            public Void validate(Producer<?> producer) {
                 validateProducer(producer, beanManager);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Validates the given items in parallel. Every item is validated, even if validation of another item fails. Afterwards, the problem of the first failed
+     * item (in the iteration order) is rethrown.
+     *
+     * @param items the items to validate
+     * @param validator the validation logic
+     * @return the results of the validation in the iteration order of the items
+     */
+    private <T, R> List<R> validateConcurrently(Iterable<? extends T> items, final ItemValidator<T, R> validator) {
+        final List<T> itemList = new ArrayList<T>();
+        Iterables.addAll(itemList, items);
+        final int size = itemList.size();
+        final AtomicReferenceArray<R> results = new AtomicReferenceArray<R>(size);
+        final AtomicReferenceArray<RuntimeException> problems = new AtomicReferenceArray<RuntimeException>(size);
+
+        executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<Integer>(indexes(size)) {
+            protected void doWork(Integer index) {
+                try {
+                    results.set(index, validator.validate(itemList.get(index)));
+                } catch (RuntimeException e) {
+                    problems.set(index, e);
+                }
             }
         });
+
+        List<R> resultList = new ArrayList<R>(size);
+        for (int i = 0; i < size; i++) {
+            RuntimeException problem = problems.get(i);
+            if (problem != null) {
+                throw problem;
+            }
+            resultList.add(results.get(i));
+        }
+        return resultList;
+    }
+
+    private static Iterable<Integer> indexes(final int size) {
+        return () -> IntStream.range(0, size).iterator();
+    }
+
+    private interface ItemValidator<T, R> {
+
+        R validate(T item);
+
     }
 }
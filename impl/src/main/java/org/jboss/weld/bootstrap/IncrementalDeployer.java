@@ -0,0 +1,401 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.decorator.Decorator;
+import javax.enterprise.context.ContextNotActiveException;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.context.spi.AlterableContext;
+import javax.enterprise.context.spi.Context;
+import javax.enterprise.event.Event;
+import javax.enterprise.inject.Alternative;
+import javax.enterprise.inject.Specializes;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.Extension;
+import javax.enterprise.inject.spi.InjectionPoint;
+import javax.enterprise.inject.spi.ObserverMethod;
+import javax.inject.Provider;
+import javax.interceptor.Interceptor;
+
+import org.jboss.weld.Container;
+import org.jboss.weld.ContainerState;
+import org.jboss.weld.bean.RIBean;
+import org.jboss.weld.bean.SessionBean;
+import org.jboss.weld.bean.builtin.AbstractBuiltInBean;
+import org.jboss.weld.ejb.EjbDescriptors;
+import org.jboss.weld.logging.BootstrapLogger;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.resources.ClassTransformer;
+import org.jboss.weld.util.Primitives;
+import org.jboss.weld.util.reflection.Reflections;
+
+/**
+ * Redeploys a set of added, changed or removed classes in an initialized container without restarting it.
+ * <p>
+ * The beans and observer methods declared by the changed and removed classes are undeployed and the added and changed classes are deployed the same way they
+ * would be during bootstrap. Only the cached resolutions which may be affected by the change are reset. Contextual instances of the undeployed beans are
+ * destroyed, as well as the instances of the beans which inject them (directly or through a dependent object). The contextual instances of other beans are
+ * retained. Finally, the new beans and the injection points of the affected beans are validated.
+ * <p>
+ * Interceptors, decorators, extensions, alternatives, specializing beans and session beans may not be redeployed incrementally as they influence other beans.
+ * <p>
+ * A changed class may be loaded by the class loader of its previous version, e.g. if it is redefined by a debugger or an agent, or by a new class loader. In
+ * the latter case the retained beans must inject it through a type which is not redeployed, typically an interface loaded by a parent class loader. A
+ * redeployment which replaces a class injected directly by a retained bean is rejected with an {@link IllegalArgumentException}.
+ * <p>
+ * Client proxies obtained before the redeployment remain usable as long as their bean is not undeployed. If the contextual instance was destroyed, the client
+ * proxy delegates to a new one. A client proxy of an undeployed bean still refers to the undeployed bean and must not be used anymore.
+ * <p>
+ * If the validation fails, a {@link javax.enterprise.inject.spi.DeploymentException} is thrown but the redeployment is not rolled back, i.e. the changes
+ * remain in effect and the container stays initialized. A subsequent redeployment which fixes the problem brings the container back to a valid state.
+ *
+ * For internal use only.
+ */
+public class IncrementalDeployer {
+
+    private final Container container;
+    private final BeanManagerImpl defaultManager;
+
+    /**
+     *
+     * @param defaultManager the bean manager the added classes are deployed to
+     */
+    public IncrementalDeployer(BeanManagerImpl defaultManager) {
+        this.container = Container.instance(defaultManager);
+        this.defaultManager = defaultManager;
+    }
+
+    /**
+     * Redeploys the given classes. A changed class is deployed to the bean archive which contained its previous version, an added class is deployed to the
+     * bean archive of the default manager.
+     *
+     * @param classes the added and changed classes
+     * @param removedClassNames the names of the removed classes
+     */
+    public void redeploy(Collection<Class<?>> classes, Collection<String> removedClassNames) {
+        synchronized (container) {
+            if (!ContainerState.INITIALIZED.equals(container.getState())) {
+                throw BootstrapLogger.LOG.redeploymentNotAllowed(container.getState());
+            }
+            Set<String> classNames = new HashSet<String>(removedClassNames);
+            for (Class<?> clazz : classes) {
+                checkRedeployable(clazz);
+                classNames.add(clazz.getName());
+            }
+            Collection<BeanManagerImpl> managers = getBeanManagers();
+
+            // find the beans and observer methods declared by the changed and removed classes
+            Map<BeanManagerImpl, Set<Bean<?>>> oldBeans = new HashMap<BeanManagerImpl, Set<Bean<?>>>();
+            Map<BeanManagerImpl, Set<ObserverMethod<?>>> oldObservers = new HashMap<BeanManagerImpl, Set<ObserverMethod<?>>>();
+            Map<String, BeanManagerImpl> managersByClassName = new HashMap<String, BeanManagerImpl>();
+            for (BeanManagerImpl manager : managers) {
+                checkRedeployable(manager.getDecorators(), classNames);
+                checkRedeployable(manager.getInterceptors(), classNames);
+                for (Bean<?> bean : manager.getBeans()) {
+                    if (isDeclaredBy(bean, classNames)) {
+                        if (bean instanceof SessionBean<?>) {
+                            throw BootstrapLogger.LOG.classNotRedeployable(bean.getBeanClass());
+                        }
+                        oldBeans.computeIfAbsent(manager, (key) -> new HashSet<Bean<?>>()).add(bean);
+                        managersByClassName.put(bean.getBeanClass().getName(), manager);
+                    }
+                }
+                for (ObserverMethod<?> observer : manager.getObservers()) {
+                    if (classNames.contains(observer.getBeanClass().getName())) {
+                        oldObservers.computeIfAbsent(manager, (key) -> new HashSet<ObserverMethod<?>>()).add(observer);
+                    }
+                }
+            }
+            checkReplaceable(managers, oldBeans, classes);
+            container.services().get(ClassTransformer.class).disposeAnnotatedTypes(classNames);
+
+            // create the new beans and observer methods - they are not deployed yet
+            Map<BeanManagerImpl, List<Class<?>>> classesByManager = new HashMap<BeanManagerImpl, List<Class<?>>>();
+            for (Class<?> clazz : classes) {
+                BeanManagerImpl manager = managersByClassName.getOrDefault(clazz.getName(), defaultManager);
+                classesByManager.computeIfAbsent(manager, (key) -> new ArrayList<Class<?>>()).add(clazz);
+            }
+            SpecializationAndEnablementRegistry registry = container.services().get(SpecializationAndEnablementRegistry.class);
+            Map<BeanManagerImpl, BeanDeployer> deployers = new HashMap<BeanManagerImpl, BeanDeployer>();
+            for (Map.Entry<BeanManagerImpl, List<Class<?>>> entry : classesByManager.entrySet()) {
+                BeanDeployer deployer = new BeanDeployer(entry.getKey(), new EjbDescriptors(), container.services());
+                registry.registerEnvironment(entry.getKey(), deployer.getEnvironment(), true);
+                deployer.addLoadedClasses(entry.getValue());
+                deployer.processAnnotatedTypes();
+                deployer.registerAnnotatedTypes();
+                deployer.createClassBeans();
+                deployer.processClassBeanAttributes();
+                deployer.createProducersAndObservers();
+                deployer.processProducerAttributes();
+                deployer.createNewBeans();
+                deployers.put(entry.getKey(), deployer);
+            }
+
+            // collect the types of the undeployed and deployed beans
+            Set<Bean<?>> undeployedBeans = new HashSet<Bean<?>>();
+            for (Set<Bean<?>> beans : oldBeans.values()) {
+                undeployedBeans.addAll(beans);
+            }
+            Set<Type> beanTypes = new HashSet<Type>();
+            for (Bean<?> bean : undeployedBeans) {
+                beanTypes.addAll(bean.getTypes());
+            }
+            for (BeanDeployer deployer : deployers.values()) {
+                for (RIBean<?> bean : deployer.getEnvironment().getBeans()) {
+                    beanTypes.addAll(bean.getTypes());
+                }
+            }
+
+            // destroy the contextual instances of the undeployed beans and of the beans which inject them
+            Set<Bean<?>> impactedBeans = findImpactedBeans(managers, undeployedBeans, beanTypes);
+            destroyContextualInstances(undeployedBeans);
+            destroyContextualInstances(impactedBeans);
+
+            // undeploy the old beans and observer methods, deploy the new ones and reset the affected resolutions
+            for (Map.Entry<BeanManagerImpl, Set<Bean<?>>> entry : oldBeans.entrySet()) {
+                entry.getKey().removeBeans(entry.getValue());
+            }
+            for (Map.Entry<BeanManagerImpl, Set<ObserverMethod<?>>> entry : oldObservers.entrySet()) {
+                entry.getKey().removeObservers(entry.getValue());
+            }
+            int deployedBeans = 0;
+            for (BeanDeployer deployer : deployers.values()) {
+                List<RIBean<?>> beans = new ArrayList<RIBean<?>>(deployer.getEnvironment().getBeans());
+                deployer.deploy();
+                deployer.doAfterBeanDiscovery(beans);
+                deployedBeans += beans.size();
+            }
+            flushCaches(managers, beanTypes);
+
+            try {
+                Validator validator = container.services().get(Validator.class);
+                for (Map.Entry<BeanManagerImpl, BeanDeployer> entry : deployers.entrySet()) {
+                    validator.validateBeans(entry.getValue().getEnvironment().getBeans(), entry.getKey());
+                }
+                for (Bean<?> bean : impactedBeans) {
+                    BeanManagerImpl manager = getBeanManager(bean);
+                    for (InjectionPoint injectionPoint : bean.getInjectionPoints()) {
+                        validator.validateInjectionPointForDeploymentProblems(injectionPoint, bean, manager);
+                    }
+                }
+            } finally {
+                for (BeanDeployer deployer : deployers.values()) {
+                    for (RIBean<?> bean : deployer.getEnvironment().getBeans()) {
+                        bean.cleanupAfterBoot();
+                    }
+                    deployer.cleanup();
+                }
+                registry.cleanupAfterBoot();
+            }
+            BootstrapLogger.LOG.redeploymentCompleted(undeployedBeans.size(), deployedBeans, impactedBeans.size());
+        }
+    }
+
+    private Collection<BeanManagerImpl> getBeanManagers() {
+        Set<BeanManagerImpl> managers = new HashSet<BeanManagerImpl>(container.beanDeploymentArchives().values());
+        managers.add(defaultManager);
+        return managers;
+    }
+
+    private BeanManagerImpl getBeanManager(Bean<?> bean) {
+        if (bean instanceof RIBean<?>) {
+            return ((RIBean<?>) bean).getBeanManager();
+        }
+        return defaultManager;
+    }
+
+    private void checkRedeployable(Class<?> clazz) {
+        if (Extension.class.isAssignableFrom(clazz) || clazz.isAnnotationPresent(Interceptor.class) || clazz.isAnnotationPresent(Decorator.class)
+                || clazz.isAnnotationPresent(Alternative.class) || clazz.isAnnotationPresent(Specializes.class)) {
+            throw BootstrapLogger.LOG.classNotRedeployable(clazz);
+        }
+    }
+
+    private void checkRedeployable(Collection<? extends Bean<?>> beans, Set<String> classNames) {
+        for (Bean<?> bean : beans) {
+            if (classNames.contains(bean.getBeanClass().getName())) {
+                throw BootstrapLogger.LOG.classNotRedeployable(bean.getBeanClass());
+            }
+        }
+    }
+
+    /**
+     * The beans whose instances are retained keep their injection points. If a changed class is loaded by a different class loader, an injection point whose
+     * type refers to the previous version of the class would never be satisfied again. Such a redeployment is rejected before anything is changed.
+     */
+    private void checkReplaceable(Collection<BeanManagerImpl> managers, Map<BeanManagerImpl, Set<Bean<?>>> oldBeans, Collection<Class<?>> classes) {
+        Map<String, Class<?>> classesByName = new HashMap<String, Class<?>>();
+        for (Class<?> clazz : classes) {
+            classesByName.put(clazz.getName(), clazz);
+        }
+        Set<Class<?>> replacedClasses = new HashSet<Class<?>>();
+        Set<Bean<?>> undeployedBeans = new HashSet<Bean<?>>();
+        for (Set<Bean<?>> beans : oldBeans.values()) {
+            for (Bean<?> bean : beans) {
+                Class<?> newClass = classesByName.get(bean.getBeanClass().getName());
+                if (newClass != null && !newClass.equals(bean.getBeanClass())) {
+                    replacedClasses.add(bean.getBeanClass());
+                }
+                undeployedBeans.add(bean);
+            }
+        }
+        if (replacedClasses.isEmpty()) {
+            return;
+        }
+        for (BeanManagerImpl manager : managers) {
+            for (Bean<?> bean : manager.getBeans()) {
+                if (undeployedBeans.contains(bean)) {
+                    continue;
+                }
+                for (InjectionPoint injectionPoint : bean.getInjectionPoints()) {
+                    Class<?> replacedClass = findReferencedClass(injectionPoint.getType(), replacedClasses);
+                    if (replacedClass != null) {
+                        throw BootstrapLogger.LOG.injectedClassNotReplaceable(replacedClass, injectionPoint);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Class<?> findReferencedClass(Type type, Set<Class<?>> classes) {
+        if (type instanceof Class<?>) {
+            Class<?> clazz = (Class<?>) type;
+            while (clazz.isArray()) {
+                clazz = clazz.getComponentType();
+            }
+            return classes.contains(clazz) ? clazz : null;
+        }
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            Class<?> referenced = findReferencedClass(parameterizedType.getRawType(), classes);
+            for (int i = 0; referenced == null && i < parameterizedType.getActualTypeArguments().length; i++) {
+                referenced = findReferencedClass(parameterizedType.getActualTypeArguments()[i], classes);
+            }
+            return referenced;
+        }
+        if (type instanceof GenericArrayType) {
+            return findReferencedClass(((GenericArrayType) type).getGenericComponentType(), classes);
+        }
+        return null;
+    }
+
+    private static boolean isDeclaredBy(Bean<?> bean, Set<String> classNames) {
+        return bean instanceof RIBean<?> && !(bean instanceof AbstractBuiltInBean<?>) && classNames.contains(bean.getBeanClass().getName());
+    }
+
+    /**
+     * Finds the beans whose instances may hold a reference to an undeployed bean or may hold a reference to a deployed one. Dependent objects are followed
+     * transitively as they cannot be destroyed independently of the instance they belong to.
+     */
+    private Set<Bean<?>> findImpactedBeans(Collection<BeanManagerImpl> managers, Set<Bean<?>> undeployedBeans, Set<Type> beanTypes) {
+        Set<Bean<?>> candidates = new HashSet<Bean<?>>();
+        for (BeanManagerImpl manager : managers) {
+            for (Bean<?> bean : manager.getBeans()) {
+                if (!undeployedBeans.contains(bean) && !bean.getInjectionPoints().isEmpty()) {
+                    candidates.add(bean);
+                }
+            }
+        }
+        Set<Class<?>> rawBeanTypes = new HashSet<Class<?>>();
+        addRawTypes(beanTypes, rawBeanTypes);
+        Set<Bean<?>> impacted = new HashSet<Bean<?>>();
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Bean<?> bean : candidates) {
+                if (!impacted.contains(bean) && isImpacted(bean, rawBeanTypes)) {
+                    impacted.add(bean);
+                    if (Dependent.class.equals(bean.getScope())) {
+                        // the instances of the beans which inject this dependent bean need to be reinitialized as well
+                        changed |= addRawTypes(bean.getTypes(), rawBeanTypes);
+                    }
+                }
+            }
+        }
+        return impacted;
+    }
+
+    private static boolean addRawTypes(Collection<Type> types, Set<Class<?>> rawTypes) {
+        boolean added = false;
+        for (Type type : types) {
+            Class<?> rawType = Reflections.getRawType(type);
+            if (rawType != null && !Object.class.equals(rawType)) {
+                added |= rawTypes.add(Primitives.wrap(rawType));
+            }
+        }
+        return added;
+    }
+
+    private static boolean isImpacted(Bean<?> bean, Set<Class<?>> rawBeanTypes) {
+        for (InjectionPoint injectionPoint : bean.getInjectionPoints()) {
+            Class<?> rawType = Reflections.getRawType(injectionPoint.getType());
+            if (rawType == null || Provider.class.isAssignableFrom(rawType) || Event.class.isAssignableFrom(rawType)) {
+                // Instance and Event resolve again once beans or observer methods are added or removed
+                continue;
+            }
+            rawType = Primitives.wrap(rawType);
+            for (Class<?> rawBeanType : rawBeanTypes) {
+                if (rawType.isAssignableFrom(rawBeanType)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void destroyContextualInstances(Collection<Bean<?>> beans) {
+        for (Bean<?> bean : beans) {
+            if (Dependent.class.equals(bean.getScope())) {
+                continue;
+            }
+            Context context;
+            try {
+                context = getBeanManager(bean).getContext(bean.getScope());
+            } catch (ContextNotActiveException e) {
+                continue;
+            }
+            if (context instanceof AlterableContext) {
+                ((AlterableContext) context).destroy(bean);
+            }
+        }
+    }
+
+    private void flushCaches(Collection<BeanManagerImpl> managers, Set<Type> beanTypes) {
+        BeanManagerImpl deploymentManager = container.deploymentManager();
+        deploymentManager.getBeanResolver().invalidate(beanTypes);
+        deploymentManager.getAccessibleLenientObserverNotifier().clear();
+        deploymentManager.getGlobalStrictObserverNotifier().clear();
+        deploymentManager.getGlobalLenientObserverNotifier().clear();
+        deploymentManager.getNameBasedResolver().clear();
+        for (BeanManagerImpl manager : managers) {
+            manager.getBeanResolver().invalidate(beanTypes);
+            manager.getAccessibleLenientObserverNotifier().clear();
+            manager.getNameBasedResolver().clear();
+        }
+    }
+}
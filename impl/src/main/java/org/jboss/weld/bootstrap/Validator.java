@@ -79,6 +79,7 @@ import org.jboss.weld.bean.SessionBean;
 import org.jboss.weld.bean.WeldDecorator;
 import org.jboss.weld.bean.builtin.AbstractBuiltInBean;
 import org.jboss.weld.bean.builtin.AbstractDecorableBuiltInBean;
+import org.jboss.weld.bean.builtin.WeldInstance;
 import org.jboss.weld.bean.builtin.ee.EEResourceProducerField;
 import org.jboss.weld.bean.interceptor.CdiInterceptorFactory;
 import org.jboss.weld.bootstrap.api.Service;
@@ -313,6 +314,7 @@ public class Validator implements Service {
             checkScopeAnnotations(ij, beanManager.getServices().get(MetaAnnotationStore.class));
         }
         checkFacadeInjectionPoint(ij, Instance.class);
+        checkFacadeInjectionPoint(ij, WeldInstance.class);
         checkFacadeInjectionPoint(ij, Event.class);
         // check that UserTransaction is not injected into a SessionBean with container-managed transactions
         if (bean instanceof SessionBean<?>) {
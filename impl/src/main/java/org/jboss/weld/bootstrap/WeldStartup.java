@@ -22,6 +22,8 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.context.ConversationScoped;
@@ -47,9 +49,11 @@ import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.bean.builtin.BeanManagerBean;
 import org.jboss.weld.bean.builtin.BeanManagerImplBean;
 import org.jboss.weld.bean.builtin.ContextBean;
+import org.jboss.weld.bean.proxy.ClientProxyProvider;
 import org.jboss.weld.bean.proxy.ProtectionDomainCache;
 import org.jboss.weld.bean.proxy.ProxyInstantiator;
 import org.jboss.weld.bean.proxy.util.SimpleProxyServices;
+import org.jboss.weld.bootstrap.BootstrapProfiler.Frame;
 import org.jboss.weld.bootstrap.api.Environment;
 import org.jboss.weld.bootstrap.api.Service;
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
@@ -102,17 +106,21 @@ import org.jboss.weld.context.unbound.UnboundLiteral;
 import org.jboss.weld.ejb.spi.EjbServices;
 import org.jboss.weld.event.CurrentEventMetadata;
 import org.jboss.weld.event.GlobalObserverNotifierService;
+import org.jboss.weld.executor.AbstractExecutorServices;
 import org.jboss.weld.executor.ExecutorServicesFactory;
+import org.jboss.weld.executor.IterativeWorkerTaskFactory;
 import org.jboss.weld.injection.CurrentInjectionPoint;
 import org.jboss.weld.injection.SLSBInvocationInjectionPoint;
 import org.jboss.weld.injection.producer.InjectionTargetService;
 import org.jboss.weld.logging.BootstrapLogger;
+import org.jboss.weld.logging.ResolutionLogger;
 import org.jboss.weld.logging.VersionLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.manager.BeanManagerLookupService;
 import org.jboss.weld.manager.api.ExecutorServices;
 import org.jboss.weld.metadata.TypeStore;
 import org.jboss.weld.metadata.cache.MetaAnnotationStore;
+import org.jboss.weld.resolution.AssignabilityMemo;
 import org.jboss.weld.resources.ClassTransformer;
 import org.jboss.weld.resources.DefaultResourceLoader;
 import org.jboss.weld.resources.MemberTransformer;
@@ -162,6 +170,10 @@ public class WeldStartup {
     private DeploymentVisitor deploymentVisitor;
     private final ServiceRegistry initialServices = new SimpleServiceRegistry();
     private String contextId;
+    private ExecutorServices archiveDeploymentExecutor;
+    private boolean pregenerateProxies;
+    private boolean pregenerateProxiesInBackground;
+    private BootstrapProfiler profiler;
 
 
     public WeldStartup() {
@@ -196,6 +208,17 @@ public class WeldStartup {
         WeldConfiguration configuration = new WeldConfiguration(registry.get(BootstrapConfiguration.class), registry.get(ExternalConfiguration.class), deployment);
         registry.add(WeldConfiguration.class, configuration);
 
+        this.profiler = registry.get(BootstrapProfiler.class);
+        profiler.init(contextId, configuration);
+        try (Frame frame = profiler.start(BootstrapProfiler.PHASE, "startContainer")) {
+            initializeContainer(environment, deployment, registry, configuration);
+        }
+        Container.currentId.remove();
+
+        return new WeldRuntime(contextId, deploymentManager, bdaMapping.getBdaToBeanManagerMap());
+    }
+
+    private void initializeContainer(Environment environment, Deployment deployment, ServiceRegistry registry, WeldConfiguration configuration) {
         if (!registry.contains(ScheduledExecutorServiceFactory.class)) {
             registry.add(ScheduledExecutorServiceFactory.class, new SingleThreadScheduledExecutorServiceFactory());
         }
@@ -205,6 +228,14 @@ public class WeldStartup {
 
         addImplementationServices(registry);
 
+        if (configuration.getBooleanProperty(ConfigurationKey.CONCURRENT_DEPLOYMENT)
+                && configuration.getBooleanProperty(ConfigurationKey.CONCURRENT_ARCHIVE_DEPLOYMENT)) {
+            this.archiveDeploymentExecutor = registry.get(ExecutorServices.class);
+        }
+        this.pregenerateProxies = configuration.getBooleanProperty(ConfigurationKey.PROXY_PREGENERATION);
+        this.pregenerateProxiesInBackground = pregenerateProxies && configuration.getBooleanProperty(ConfigurationKey.PROXY_PREGENERATION_BACKGROUND)
+                && registry.contains(ExecutorServices.class);
+
         verifyServices(registry, environment.getRequiredDeploymentServices());
         if (!registry.contains(TransactionServices.class)) {
             BootstrapLogger.LOG.jtaUnavailable();
@@ -231,10 +262,6 @@ public class WeldStartup {
         // Read the deployment structure, bdaMapping will be the physical structure
         // as caused by the presence of beans.xml
         deploymentVisitor.visit();
-
-        Container.currentId.remove();
-
-        return new WeldRuntime(contextId, deploymentManager, bdaMapping.getBdaToBeanManagerMap());
     }
 
     private void checkApiVersion() {
@@ -254,7 +281,9 @@ public class WeldStartup {
         TypeStore store = new TypeStore();
         SharedObjectCache cache = new SharedObjectCache();
         ReflectionCache reflectionCache = ReflectionCacheFactory.newInstance(store);
-        ClassTransformer classTransformer = new ClassTransformer(store, cache, reflectionCache, contextId);
+        BootstrapProfiler profiler = new BootstrapProfiler();
+        ClassTransformer classTransformer = new ClassTransformer(store, cache, reflectionCache, contextId, profiler);
+        initialServices.add(BootstrapProfiler.class, profiler);
         initialServices.add(TypeStore.class, store);
         initialServices.add(SharedObjectCache.class, cache);
         initialServices.add(ReflectionCache.class, reflectionCache);
@@ -269,9 +298,11 @@ public class WeldStartup {
         }
         services.add(MemberTransformer.class, new MemberTransformer(services.get(ClassTransformer.class)));
         services.add(MetaAnnotationStore.class, new MetaAnnotationStore(services.get(ClassTransformer.class)));
+        services.add(AssignabilityMemo.class, new AssignabilityMemo());
         BeanIdentifierIndex beanIdentifierIndex = new BeanIdentifierIndex();
         services.add(BeanIdentifierIndex.class, beanIdentifierIndex);
-        services.add(ContextualStore.class, new ContextualStoreImpl(contextId, beanIdentifierIndex));
+        services.add(ContextualStore.class, new ContextualStoreImpl(contextId, beanIdentifierIndex,
+                configuration.getBooleanProperty(ConfigurationKey.CONTEXTUAL_STORE_WEAK_CONTEXTUALS)));
         services.add(CurrentInjectionPoint.class, new CurrentInjectionPoint());
         services.add(SLSBInvocationInjectionPoint.class, new SLSBInvocationInjectionPoint());
         services.add(CurrentEventMetadata.class, new CurrentEventMetadata());
@@ -344,13 +375,21 @@ public class WeldStartup {
             throw BootstrapLogger.LOG.managerNotInitialized();
         }
 
+        try (Frame frame = profiler.start(BootstrapProfiler.PHASE, "startInitialization")) {
+            initializeDeployments();
+        }
+    }
+
+    private void initializeDeployments() {
         Set<BeanDeployment> physicalBeanDeploymentArchives = new HashSet<BeanDeployment>(getBeanDeployments());
 
-        ExtensionBeanDeployer extensionBeanDeployer = new ExtensionBeanDeployer(deploymentManager, deployment, bdaMapping, contexts);
-        extensionBeanDeployer.addExtensions(extensions);
-        extensionBeanDeployer.deployBeans();
+        try (Frame extensionsFrame = profiler.start(BootstrapProfiler.PHASE, "deployExtensions")) {
+            ExtensionBeanDeployer extensionBeanDeployer = new ExtensionBeanDeployer(deploymentManager, deployment, bdaMapping, contexts);
+            extensionBeanDeployer.addExtensions(extensions);
+            extensionBeanDeployer.deployBeans();
 
-        installFastProcessAnnotatedTypeResolver(deploymentManager.getServices());
+            installFastProcessAnnotatedTypeResolver(deploymentManager.getServices());
+        }
 
         // Add the Deployment BeanManager Bean to the Deployment BeanManager
         deploymentManager.addBean(new BeanManagerBean(deploymentManager));
@@ -361,59 +400,59 @@ public class WeldStartup {
         // physical BDA
         deploymentVisitor.visit();
 
-        BeforeBeanDiscoveryImpl.fire(deploymentManager, deployment, bdaMapping, contexts);
+        try (Frame bbdFrame = profiler.start(BootstrapProfiler.PHASE, "BeforeBeanDiscovery")) {
+            BeforeBeanDiscoveryImpl.fire(deploymentManager, deployment, bdaMapping, contexts);
+        }
 
         // for each physical BDA transform its classes into AnnotatedType instances
-        for (BeanDeployment beanDeployment : physicalBeanDeploymentArchives) {
-            beanDeployment.createClasses();
-        }
+        createClasses(physicalBeanDeploymentArchives);
 
         // Re-Read the deployment structure, bdaMapping will be the physical
         // structure, extensions and any classes added using addAnnotatedType
         // outside the physical BDA
         deploymentVisitor.visit();
 
-        for (BeanDeployment beanDeployment : getBeanDeployments()) {
-            beanDeployment.createTypes();
-        }
-
-        AfterTypeDiscoveryImpl.fire(deploymentManager, deployment, bdaMapping, contexts);
+        forEachBeanDeployment("createTypes", getBeanDeployments(), BeanDeployment::createTypes);
 
-        for (BeanDeployment beanDeployment : getBeanDeployments()) {
-            beanDeployment.createEnablement();
+        try (Frame atdFrame = profiler.start(BootstrapProfiler.PHASE, "AfterTypeDiscovery")) {
+            AfterTypeDiscoveryImpl.fire(deploymentManager, deployment, bdaMapping, contexts);
         }
+
+        forEachBeanDeployment("createEnablement", getBeanDeployments(), BeanDeployment::createEnablement);
     }
 
 
     public void deployBeans() {
-        for (BeanDeployment deployment : getBeanDeployments()) {
-            deployment.createBeans(environment);
+        try (Frame frame = profiler.start(BootstrapProfiler.PHASE, "deployBeans")) {
+            doDeployBeans();
         }
+    }
+
+    private void doDeployBeans() {
+        forEachBeanDeployment("createBeans", getBeanDeployments(), (deployment) -> deployment.createBeans(environment));
         // we must use separate loops, otherwise cyclic specialization would not work
-        for (BeanDeployment deployment : getBeanDeployments()) {
+        forEachBeanDeployment("processClassBeanAttributes", getBeanDeployments(), (deployment) -> {
             deployment.getBeanDeployer().processClassBeanAttributes();
             deployment.getBeanDeployer().createProducersAndObservers();
-        }
-        for (BeanDeployment deployment : getBeanDeployments()) {
+        });
+        forEachBeanDeployment("processProducerAttributes", getBeanDeployments(), (deployment) -> {
             deployment.getBeanDeployer().processProducerAttributes();
             deployment.getBeanDeployer().createNewBeans();
-        }
+        });
 
-        for (BeanDeployment beanDeployment : getBeanDeployments()) {
-            beanDeployment.deploySpecialized(environment);
-        }
+        forEachBeanDeployment("deploySpecialized", getBeanDeployments(), (beanDeployment) -> beanDeployment.deploySpecialized(environment));
 
         // TODO keep a list of new bdas, add them all in, and deploy beans for them, then merge into existing
-        for (BeanDeployment beanDeployment : getBeanDeployments()) {
-            beanDeployment.deployBeans(environment);
-        }
+        forEachBeanDeployment("deployBeans", getBeanDeployments(), (beanDeployment) -> beanDeployment.deployBeans(environment));
 
         getContainer().setState(ContainerState.DISCOVERED);
 
         // Flush caches for BeanManager.getBeans() to be usable in ABD (WELD-1729)
         flushCaches();
 
-        AfterBeanDiscoveryImpl.fire(deploymentManager, deployment, bdaMapping, contexts);
+        try (Frame abdFrame = profiler.start(BootstrapProfiler.PHASE, "AfterBeanDiscovery")) {
+            AfterBeanDiscoveryImpl.fire(deploymentManager, deployment, bdaMapping, contexts);
+        }
 
         // Extensions may have registered beans / observers. We need to flush caches.
         flushCaches();
@@ -423,28 +462,50 @@ public class WeldStartup {
         // outside the physical structure
         deploymentVisitor.visit();
 
-        for (BeanDeployment beanDeployment : getBeanDeployments()) {
+        forEachBeanDeployment("afterBeanDiscovery", getBeanDeployments(), (beanDeployment) -> {
             beanDeployment.getBeanManager().getServices().get(InjectionTargetService.class).initialize();
             beanDeployment.afterBeanDiscovery(environment);
-        }
+        });
         getContainer().putBeanDeployments(bdaMapping);
         getContainer().setState(ContainerState.DEPLOYED);
     }
 
     public void validateBeans() {
         BootstrapLogger.LOG.validatingBeans();
-        for (BeanDeployment beanDeployment : getBeanDeployments()) {
+        try (Frame frame = profiler.start(BootstrapProfiler.PHASE, "validateBeans")) {
+            doValidateBeans();
+        }
+    }
+
+    private void doValidateBeans() {
+        forEachBeanDeployment("validateDeployment", getBeanDeployments(), (beanDeployment) -> {
             BeanManagerImpl beanManager = beanDeployment.getBeanManager();
             beanManager.getBeanResolver().clear();
             deployment.getServices().get(Validator.class).validateDeployment(beanManager, beanDeployment);
             beanManager.getServices().get(InjectionTargetService.class).validate();
-        }
+        });
         getContainer().setState(ContainerState.VALIDATED);
-        AfterDeploymentValidationImpl.fire(deploymentManager);
+        try (Frame advFrame = profiler.start(BootstrapProfiler.PHASE, "AfterDeploymentValidation")) {
+            AfterDeploymentValidationImpl.fire(deploymentManager);
+        }
     }
 
     public void endInitialization() {
+        try (Frame frame = profiler.start(BootstrapProfiler.PHASE, "endInitialization")) {
+            cleanupAfterBoot();
+        }
+        profiler.writeReport();
+        AssignabilityMemo assignabilityMemo = deploymentManager.getServices().get(AssignabilityMemo.class);
+        ResolutionLogger.LOG.assignabilityCacheStatistics(assignabilityMemo.getHits(), assignabilityMemo.getMisses(), assignabilityMemo.getSize());
+
+        getContainer().setState(ContainerState.INITIALIZED);
+
+        if (pregenerateProxies && pregenerateProxiesInBackground) {
+            pregenerateClientProxies(true);
+        }
+    }
 
+    private void cleanupAfterBoot() {
         // Build a special index of bean identifiers
         deploymentManager.getServices().get(BeanIdentifierIndex.class).build(getBeansForBeanIdentifierIndex());
 
@@ -484,7 +545,62 @@ public class WeldStartup {
             beanDeployment.getBeanDeployer().cleanup();
         }
 
-        getContainer().setState(ContainerState.INITIALIZED);
+        if (pregenerateProxies && !pregenerateProxiesInBackground) {
+            pregenerateClientProxies(false);
+        }
+    }
+
+    /**
+     * Generates the client proxies of the enabled beans which require one so that the proxy classes are not generated when the beans are first used. In the
+     * background mode the tasks are only submitted to {@link ExecutorServices}. A thread which needs a proxy that is still being generated waits for the
+     * given proxy only.
+     */
+    private void pregenerateClientProxies(boolean background) {
+        final ClientProxyProvider clientProxyProvider = deploymentManager.getClientProxyProvider();
+        Set<Bean<?>> beans = new HashSet<Bean<?>>();
+        for (BeanDeployment beanDeployment : getBeanDeployments()) {
+            BeanManagerImpl beanManager = beanDeployment.getBeanManager();
+            for (Bean<?> bean : beanManager.getBeans()) {
+                if (beanManager.isProxyRequired(bean)) {
+                    beans.add(bean);
+                }
+            }
+        }
+        ExecutorServices executor = deploymentManager.getServices().get(ExecutorServices.class);
+        BootstrapLogger.LOG.pregeneratingClientProxies(beans.size(), background ? "in background" : "");
+        if (executor == null) {
+            for (Bean<?> bean : beans) {
+                pregenerateClientProxy(clientProxyProvider, bean);
+            }
+            return;
+        }
+        IterativeWorkerTaskFactory<Bean<?>> factory = new IterativeWorkerTaskFactory<Bean<?>>(beans) {
+            @Override
+            protected void doWork(Bean<?> bean) {
+                pregenerateClientProxy(clientProxyProvider, bean);
+            }
+        };
+        if (background) {
+            if (executor instanceof AbstractExecutorServices) {
+                ((AbstractExecutorServices) executor).submitAll(factory);
+            } else {
+                // the size of the thread pool of an integrator-provided implementation is not known
+                for (Callable<Void> task : factory.createTasks(Runtime.getRuntime().availableProcessors())) {
+                    executor.getTaskExecutor().submit(task);
+                }
+            }
+        } else {
+            executor.invokeAllAndCheckForExceptions(factory);
+        }
+    }
+
+    private static void pregenerateClientProxy(ClientProxyProvider clientProxyProvider, Bean<?> bean) {
+        try {
+            clientProxyProvider.pregenerateClientProxy(bean);
+        } catch (RuntimeException e) {
+            // the proxy is generated again once actually needed
+            BootstrapLogger.LOG.clientProxyPregenerationFailed(bean, e);
+        }
     }
 
     private void flushCaches() {
@@ -509,6 +625,48 @@ public class WeldStartup {
         return bdaMapping.getBeanDeployments();
     }
 
+    /**
+     * Loads the classes of the given bean deployments. If {@link ConfigurationKey#CONCURRENT_ARCHIVE_DEPLOYMENT} is enabled, the classes of all the bean
+     * deployments are loaded by a single set of workers. Otherwise, the bean deployments are processed one by one, each of them possibly loading its classes
+     * concurrently. In any case, this method only returns once the classes of all the bean deployments are loaded.
+     */
+    private void createClasses(Collection<BeanDeployment> beanDeployments) {
+        if (archiveDeploymentExecutor == null || beanDeployments.size() < 2) {
+            forEachBeanDeployment("createClasses", beanDeployments, BeanDeployment::createClasses);
+            return;
+        }
+        try (Frame frame = profiler.start(BootstrapProfiler.PHASE, "createClasses")) {
+            List<Runnable> tasks = new ArrayList<Runnable>();
+            for (BeanDeployment beanDeployment : beanDeployments) {
+                tasks.addAll(beanDeployment.createClassTasks());
+            }
+            // the tasks of all the archives share the workers so that no task waits for other tasks submitted to the same executor
+            archiveDeploymentExecutor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<Runnable>(tasks) {
+                @Override
+                protected void doWork(Runnable task) {
+                    task.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * Performs the given action for each of the bean deployments, in the order of the bean deployments.
+     */
+    private void forEachBeanDeployment(String phase, Collection<BeanDeployment> beanDeployments, final Consumer<BeanDeployment> action) {
+        try (Frame frame = profiler.start(BootstrapProfiler.PHASE, phase)) {
+            for (BeanDeployment beanDeployment : beanDeployments) {
+                processBeanDeployment(beanDeployment, action);
+            }
+        }
+    }
+
+    private void processBeanDeployment(BeanDeployment beanDeployment, Consumer<BeanDeployment> action) {
+        try (Frame frame = profiler.start(BootstrapProfiler.ARCHIVE, beanDeployment.getBeanDeploymentArchive().getId())) {
+            action.accept(beanDeployment);
+        }
+    }
+
     private Container getContainer() {
         return Container.instance(contextId);
     }
@@ -173,6 +173,27 @@ public class ContainerLifecycleEvents extends AbstractBootstrapService {
         return event;
     }
 
+    /**
+     * Indicates whether the {@link ProcessAnnotatedType} event for the given type may be fired from a worker thread. This is the case if the event is not
+     * observed at all or if the observer methods were resolved by FastProcessAnnotatedTypeResolver and all of them are declared
+     * {@link ThreadSafeObserver thread-safe}.
+     */
+    public boolean isProcessAnnotatedTypeConcurrentlyDeliverable(SlimAnnotatedTypeContext<?> annotatedTypeContext) {
+        if (!isProcessAnnotatedTypeObserved()) {
+            return true;
+        }
+        final Set<ExtensionObserverMethodImpl<?, ?>> observers = annotatedTypeContext.getResolvedProcessAnnotatedTypeObservers();
+        if (observers == null) {
+            return false;
+        }
+        for (ExtensionObserverMethodImpl<?, ?> observer : observers) {
+            if (!observer.isThreadSafe()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Fires a {@link ProcessAnnotatedType} or {@link ProcessSyntheticAnnotatedType} using the default event mechanism.
      */
@@ -0,0 +1,46 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.events;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import javax.enterprise.inject.spi.ProcessAnnotatedType;
+import javax.enterprise.inject.spi.ProcessBeanAttributes;
+import javax.enterprise.inject.spi.ProcessInjectionPoint;
+
+/**
+ * Declares that extension observer methods of {@link ProcessAnnotatedType}, {@link ProcessBeanAttributes} and {@link ProcessInjectionPoint} may be notified
+ * concurrently. If placed on an extension class, the declaration applies to all such observer methods declared by the extension. Otherwise, it only applies to
+ * the annotated observer method. The annotation has no effect on observer methods of other container lifecycle events.
+ * <p>
+ * By default, the delivery of container lifecycle events is serialized. Observer methods declared thread-safe are notified without holding the container-wide
+ * delivery lock and, if the concurrent deployer is enabled, {@link ProcessAnnotatedType} events for types observed by thread-safe observer methods only are
+ * fired from worker threads. The observer method is responsible for guarding any state shared across notifications.
+ *
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ TYPE, METHOD })
+public @interface ThreadSafeObserver {
+
+}
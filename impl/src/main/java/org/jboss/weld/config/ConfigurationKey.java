@@ -37,6 +37,17 @@ public enum ConfigurationKey {
      */
     CONCURRENT_DEPLOYMENT("org.jboss.weld.bootstrap.concurrentDeployment", true),
 
+    /**
+     * Indicates whether bean deployment archives should be processed concurrently. If enabled, the classes of all bean archives are loaded by a single set
+     * of workers instead of one archive after another. The loading is completed for all bean archives before the next phase starts. The other deployment
+     * phases process the bean archives one by one, the work within a single bean archive is performed concurrently as usual.
+     *
+     * This option has no effect if {@link #CONCURRENT_DEPLOYMENT} is disabled or there are no {@link org.jboss.weld.manager.api.ExecutorServices} available.
+     *
+     * By default, concurrent archive deployment is disabled.
+     */
+    CONCURRENT_ARCHIVE_DEPLOYMENT("org.jboss.weld.bootstrap.concurrentArchiveDeployment", false),
+
     /**
      * The number of threads used by ContainerLifecycleEventPreloader. The ContainerLifecycleEventPreloader allows observer methods for container lifecycle
      * events to be resolved upfront while the deployment is waiting for classloader or reflection API.
@@ -93,6 +104,14 @@ public enum ConfigurationKey {
      */
     PROXY_DUMP("org.jboss.weld.proxy.dump", ""),
 
+    /**
+     * For debug purposes, it's possible to record a timeline of the bootstrap (phases, extension observer methods, bean archives, annotated type creation and
+     * proxy class generation). If set to a non-empty string, the report is written to the given directory at the end of the bootstrap.
+     *
+     * @see org.jboss.weld.bootstrap.BootstrapProfiler
+     */
+    BOOTSTRAP_PROFILER_OUTPUT("org.jboss.weld.bootstrap.profiler.output", ""),
+
     /**
      * Weld supports a non-standard workaround to be able to create client proxies for Java types that cannot be proxied by the container, using non-portable
      * JVM APIs.
@@ -112,6 +131,19 @@ public enum ConfigurationKey {
      */
     PROXY_UNSAFE("org.jboss.weld.proxy.unsafe", false),
 
+    /**
+     * If set to <code>true</code>, the client proxies of the enabled beans which require one are generated at the end of the container initialization
+     * instead of on first use. The proxies are generated concurrently if {@link org.jboss.weld.manager.api.ExecutorServices} are available.
+     */
+    PROXY_PREGENERATION("org.jboss.weld.proxy.pregeneration", false),
+
+    /**
+     * If set to <code>true</code>, the client proxies are pre-generated in the background and the container initialization does not wait for them. A thread
+     * which needs a proxy that is being generated waits for that proxy only. This option has no effect if {@link #PROXY_PREGENERATION} is disabled or there
+     * are no {@link org.jboss.weld.manager.api.ExecutorServices} available.
+     */
+    PROXY_PREGENERATION_BACKGROUND("org.jboss.weld.proxy.pregeneration.background", false),
+
     /**
      * XML descriptor validation is enabled by default.
      */
@@ -123,6 +155,54 @@ public enum ConfigurationKey {
      */
     INJECTABLE_REFERENCE_OPTIMIZATION("org.jboss.weld.injection.injectableReferenceOptimization", false),
 
+    /**
+     * If set to <code>true</code>, the EL resolver returns the client proxy of a named normal-scoped bean instead of looking up the contextual instance. The
+     * client proxy is memoized per bean name. Note that the identity of the resolved object differs and that the contextual instance is looked up upon each
+     * method invocation.
+     */
+    EL_CLIENT_PROXY_LOOKUP("org.jboss.weld.el.clientProxyLookup", false),
+
+    /**
+     * If set to <code>true</code>, bean constructors and initializer methods are invoked and {@link javax.inject.Inject}-annotated fields are injected using
+     * method handles instead of reflection.
+     */
+    INJECTION_METHOD_HANDLES("org.jboss.weld.injection.methodHandles", false),
+
+    /**
+     * If set to <code>true</code>, a specialized delegate class is generated for each decorator of a bean. The decorated methods of the decorator and the
+     * methods of the next delegate are invoked directly from the generated bytecode instead of using reflection.
+     */
+    DECORATOR_DIRECT_INVOCATION("org.jboss.weld.decorator.directInvocation", false),
+
+    /**
+     * If set to <code>true</code>, the {@link javax.interceptor.InvocationContext} of an around invoke interception chain is reused for subsequent
+     * invocations of the same method. This is only safe if no interceptor uses the invocation context once the invocation is finished (e.g. to continue the
+     * interception in a different thread).
+     */
+    INTERCEPTOR_REUSABLE_INVOCATION_CONTEXT("org.jboss.weld.interceptor.reusableInvocationContext", false),
+
+    /**
+     * If set to <code>true</code>, a {@link javax.enterprise.context.Dependent} bean instance obtained through {@link javax.enterprise.inject.Instance}
+     * injected into a normal-scoped bean is not bound to the creational context of the normal-scoped bean. Instead, it is tracked weakly so that it may be
+     * garbage collected once the application no longer references it. An instance which has to be destroyed, e.g. one with a
+     * {@link javax.annotation.PreDestroy} callback, is only released once destroyed.
+     */
+    INSTANCE_RELEASABLE_DEPENDENTS("org.jboss.weld.instance.releasableDependents", false),
+
+    /**
+     * If set to <code>true</code>, a request which refers to a locked long-running conversation is suspended (using Servlet 3 asynchronous processing) instead
+     * of blocking the request thread, and it is resumed once the conversation is released. Only applies to requests processed by
+     * {@link org.jboss.weld.servlet.ConversationFilter} which support asynchronous processing.
+     */
+    CONVERSATION_ASYNC_ACQUISITION("org.jboss.weld.conversation.asyncAcquisition", false),
+
+    /**
+     * If set to <code>true</code>, the contextuals which are not passivation capable (e.g. the ones created for programmatic
+     * {@link javax.enterprise.inject.spi.InjectionTarget}s) are only referenced weakly by {@link org.jboss.weld.serialization.ContextualStoreImpl} and are
+     * evicted once garbage collected.
+     */
+    CONTEXTUAL_STORE_WEAK_CONTEXTUALS("org.jboss.weld.serialization.weakContextuals", false),
+
     /**
      * A regular expression. If a non-empty string and the base type for an AnnotatedType or a declaring type for an AnnotatedMember matches this pattern the
      * type is excluded from monitoring, i.e. the invocation monitor interceptor is not associated.
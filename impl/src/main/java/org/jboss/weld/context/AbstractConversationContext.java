@@ -429,6 +429,23 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         return getConversationMap().get(id);
     }
 
+    /**
+     * Looks up a long-running conversation stored in the session of the given request. Unlike {@link #getConversation(String)}, this method does not
+     * require the context to be associated with the request and neither initializes the context nor locks the conversation.
+     *
+     * @param request
+     * @param id
+     * @return the conversation with the given id or <code>null</code> if there is no such conversation
+     */
+    public ManagedConversation getConversationFromSession(R request, String id) {
+        Object conversations = getSessionAttribute(request, CONVERSATIONS_ATTRIBUTE_NAME, false);
+        if (conversations instanceof Map<?, ?>) {
+            Map<String, ManagedConversation> conversationMap = cast(conversations);
+            return conversationMap.get(id);
+        }
+        return null;
+    }
+
     @Override
     public Collection<ManagedConversation> getConversations() {
         // Don't return the map view to avoid concurrency issues
@@ -18,6 +18,8 @@ package org.jboss.weld.context.conversation;
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -47,6 +49,8 @@ public class ConversationImpl implements ManagedConversation, Serializable {
 
     private transient ReentrantLock concurrencyLock;
 
+    private transient Queue<Runnable> unlockCallbacks;
+
     private long lastUsed;
 
     private BeanManagerImpl manager;
@@ -57,6 +61,7 @@ public class ConversationImpl implements ManagedConversation, Serializable {
         this._transient = true;
         this.timeout = isContextActive() ? getActiveConversationContext().getDefaultTimeout() : 0;
         this.concurrencyLock = new ReentrantLock();
+        this.unlockCallbacks = new ConcurrentLinkedQueue<Runnable>();
         touch();
     }
 
@@ -185,12 +190,55 @@ public class ConversationImpl implements ManagedConversation, Serializable {
         if (concurrencyLock.isHeldByCurrentThread()) {
             concurrencyLock.unlock();
             ConversationLogger.LOG.conversationUnlocked(this);
+            if (!concurrencyLock.isLocked()) {
+                notifyUnlockCallbacks();
+            }
         } else {
             ConversationLogger.LOG.illegalConversationUnlockAttempt(this, "not owner");
         }
         return !concurrencyLock.isLocked();
     }
 
+    /**
+     * Unlike other methods this method does not require the conversation context to be active, it is intended to be called before the context is activated.
+     *
+     * @return <code>true</code> if the conversation is currently locked, <code>false</code> otherwise
+     */
+    public boolean isLocked() {
+        return concurrencyLock.isLocked();
+    }
+
+    /**
+     * Registers a callback which is notified once the conversation lock is released. This method never blocks and does not require the conversation context
+     * to be active. The callback is notified at most once and is not guaranteed to acquire the lock afterwards - it should simply attempt the acquisition
+     * again.
+     *
+     * @param callback
+     * @return <code>true</code> if the callback was registered, <code>false</code> if the conversation is not locked and the callback was not registered
+     */
+    public boolean notifyWhenUnlocked(Runnable callback) {
+        if (!concurrencyLock.isLocked()) {
+            return false;
+        }
+        unlockCallbacks.add(callback);
+        if (!concurrencyLock.isLocked()) {
+            // The lock was released in the meantime and the callback might have been missed
+            notifyUnlockCallbacks();
+        }
+        return true;
+    }
+
+    private void notifyUnlockCallbacks() {
+        Runnable callback;
+        while ((callback = unlockCallbacks.poll()) != null) {
+            try {
+                callback.run();
+            } catch (RuntimeException e) {
+                ConversationLogger.LOG.unlockCallbackFailed(this, e);
+            }
+        }
+    }
+
     private void verifyConversationContextActive() {
         if (!isContextActive()) {
             throw new ContextNotActiveException("Conversation Context not active when method called on conversation " + this);
@@ -207,6 +255,7 @@ public class ConversationImpl implements ManagedConversation, Serializable {
 
     private Object readResolve() throws ObjectStreamException {
         this.concurrencyLock = new ReentrantLock();
+        this.unlockCallbacks = new ConcurrentLinkedQueue<Runnable>();
         return this;
     }
 
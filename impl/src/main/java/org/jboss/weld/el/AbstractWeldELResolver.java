@@ -19,12 +19,17 @@ package org.jboss.weld.el;
 import java.beans.FeatureDescriptor;
 import java.lang.annotation.Annotation;
 import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.el.ELContext;
 import javax.el.ELResolver;
 import javax.enterprise.context.Dependent;
 import javax.enterprise.inject.spi.Bean;
 
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.logging.ElLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
 
@@ -35,6 +40,19 @@ import org.jboss.weld.manager.BeanManagerImpl;
  */
 public abstract class AbstractWeldELResolver extends ELResolver {
 
+    /**
+     * Client proxies of normal-scoped beans memoized by bean name, only used if {@link ConfigurationKey#EL_CLIENT_PROXY_LOOKUP} is enabled. An entry is only
+     * valid as long as the name resolves to the very same set of beans, i.e. until the name index of the bean manager is rebuilt. The number of entries is
+     * bounded by the number of named normal-scoped beans.
+     */
+    private final ConcurrentMap<String, ClientProxyReference> clientProxyReferences = new ConcurrentHashMap<String, ClientProxyReference>();
+
+    /**
+     * The value of {@link ConfigurationKey#EL_CLIENT_PROXY_LOOKUP}, read upon the first lookup. The configuration is shared by all the bean managers of a
+     * container.
+     */
+    private volatile Boolean clientProxyLookup;
+
     protected abstract BeanManagerImpl getManager(ELContext context);
 
     @Override
@@ -98,12 +116,25 @@ public abstract class AbstractWeldELResolver extends ELResolver {
     }
 
     private Object lookup(BeanManagerImpl beanManager, ELContext context, String name) {
-        final Bean<?> bean = beanManager.resolve(beanManager.getBeans(name));
+        final Set<Bean<?>> beans = beanManager.getBeans(name);
+        final boolean clientProxyLookup = isClientProxyLookup(beanManager);
+        if (clientProxyLookup) {
+            final ClientProxyReference reference = clientProxyReferences.get(name);
+            if (reference != null && reference.beans == beans) {
+                return reference.proxy;
+            }
+        }
+        final Bean<?> bean = beanManager.resolve(beans);
         if (bean == null) {
             return null;
         }
         Class<? extends Annotation> scope = bean.getScope();
-        if (!scope.equals(Dependent.class)) {
+        if (clientProxyLookup && beanManager.isProxyRequired(bean)) {
+            // client proxies are stable, no need to create a creational context
+            Object proxy = beanManager.getClientProxyProvider().getClientProxy(bean);
+            clientProxyReferences.put(name, new ClientProxyReference(beans, proxy));
+            return proxy;
+        } else if (!scope.equals(Dependent.class)) {
             return beanManager.getReference(bean, null, beanManager.createCreationalContext(bean), true);
         } else {
             // Need to use a "special" creationalContext that can make sure that we do share dependent instances referenced by the EL Expression
@@ -133,6 +164,15 @@ public abstract class AbstractWeldELResolver extends ELResolver {
         }
     }
 
+    private boolean isClientProxyLookup(BeanManagerImpl beanManager) {
+        Boolean value = clientProxyLookup;
+        if (value == null) {
+            value = beanManager.getServices().get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.EL_CLIENT_PROXY_LOOKUP);
+            clientProxyLookup = value;
+        }
+        return value;
+    }
+
     @Override
     public boolean isReadOnly(ELContext context, Object base, Object property) {
         return false;
@@ -141,5 +181,15 @@ public abstract class AbstractWeldELResolver extends ELResolver {
     @Override
     public void setValue(ELContext context, Object base, Object property, Object value) {
     }
-}
 
+    private static class ClientProxyReference {
+
+        private final Set<Bean<?>> beans;
+        private final Object proxy;
+
+        private ClientProxyReference(Set<Bean<?>> beans, Object proxy) {
+            this.beans = beans;
+            this.proxy = proxy;
+        }
+    }
+}
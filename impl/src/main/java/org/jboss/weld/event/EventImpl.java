@@ -114,27 +114,32 @@ public class EventImpl<T> extends AbstractFacade<T, Event<T>> implements Experim
 
     private CachedObservers getObservers(T event) {
         Class<?> runtimeType = event.getClass();
+        // observer methods may be added or removed at runtime, see TypeSafeObserverResolver.getGeneration()
+        int generation = getBeanManager().getGlobalStrictObserverNotifier().getResolverGeneration();
         CachedObservers lastResolvedObservers = this.lastCachedObservers;
         // fast track for cases when the same type is used repeatedly
-        if (lastResolvedObservers != null && lastResolvedObservers.rawType.equals(runtimeType)) {
+        if (lastResolvedObservers != null && lastResolvedObservers.rawType.equals(runtimeType) && lastResolvedObservers.generation == generation) {
             return lastResolvedObservers;
         }
         lastResolvedObservers = cachedObservers.get(runtimeType);
         if (lastResolvedObservers == null) {
             // this is not atomic and less elegant than computeIfAbsent but is faster and atomicity does not really matter here
             // as createCachedObservers() does not have any side effects
-            lastResolvedObservers = putIfAbsent(cachedObservers, runtimeType, createCachedObservers(runtimeType));
+            lastResolvedObservers = putIfAbsent(cachedObservers, runtimeType, createCachedObservers(runtimeType, generation));
+        } else if (lastResolvedObservers.generation != generation) {
+            lastResolvedObservers = createCachedObservers(runtimeType, generation);
+            cachedObservers.put(runtimeType, lastResolvedObservers);
         }
         return this.lastCachedObservers = lastResolvedObservers;
     }
 
-    private CachedObservers createCachedObservers(Class<?> runtimeType) {
+    private CachedObservers createCachedObservers(Class<?> runtimeType, int generation) {
         final Type eventType = getEventType(runtimeType);
         // this performs type check
         final ResolvedObservers<T> observers = getBeanManager().getGlobalStrictObserverNotifier().resolveObserverMethods(eventType, getQualifiers());
         final EventMetadata syncMetadata = new EventMetadataImpl(eventType, getInjectionPoint(), getQualifiers(), false);
         final EventMetadata asyncMetadata = new EventMetadataImpl(eventType, getInjectionPoint(), getQualifiers(), true);
-        return new CachedObservers(runtimeType, observers, syncMetadata, asyncMetadata);
+        return new CachedObservers(runtimeType, generation, observers, syncMetadata, asyncMetadata);
     }
 
     @Override
@@ -208,12 +213,14 @@ public class EventImpl<T> extends AbstractFacade<T, Event<T>> implements Experim
 
     private class CachedObservers {
         private final Class<?> rawType;
+        private final int generation;
         private final ResolvedObservers<T> observers;
         private final EventMetadata syncMetadata;
         private final EventMetadata asyncMetadata;
 
-        private CachedObservers(Class<?> rawType, ResolvedObservers<T> observers, EventMetadata syncMetadata, EventMetadata asyncMetadata) {
+        private CachedObservers(Class<?> rawType, int generation, ResolvedObservers<T> observers, EventMetadata syncMetadata, EventMetadata asyncMetadata) {
             this.rawType = rawType;
+            this.generation = generation;
             this.observers = observers;
             this.syncMetadata = syncMetadata;
             this.asyncMetadata = asyncMetadata;
@@ -27,6 +27,8 @@ import javax.enterprise.event.Observes;
 import javax.enterprise.inject.spi.Extension;
 import javax.enterprise.inject.spi.ObserverMethod;
 import javax.enterprise.inject.spi.ProcessAnnotatedType;
+import javax.enterprise.inject.spi.ProcessBeanAttributes;
+import javax.enterprise.inject.spi.ProcessInjectionPoint;
 import javax.enterprise.inject.spi.ProcessSyntheticAnnotatedType;
 import javax.enterprise.inject.spi.WithAnnotations;
 
@@ -34,7 +36,10 @@ import org.jboss.weld.Container;
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedMethod;
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedParameter;
 import org.jboss.weld.bean.RIBean;
+import org.jboss.weld.bootstrap.BootstrapProfiler;
+import org.jboss.weld.bootstrap.BootstrapProfiler.Frame;
 import org.jboss.weld.bootstrap.events.NotificationListener;
+import org.jboss.weld.bootstrap.events.ThreadSafeObserver;
 import org.jboss.weld.injection.MethodInjectionPoint;
 import org.jboss.weld.injection.InjectionPointFactory;
 import org.jboss.weld.logging.EventLogger;
@@ -54,11 +59,27 @@ public class ExtensionObserverMethodImpl<T, X> extends ObserverMethodImpl<T, X>
     private final Container containerLifecycleEventDeliveryLock;
     private final Set<Class<? extends Annotation>> requiredTypeAnnotations;
     private volatile Set<Class<? extends Annotation>> requiredScopeTypeAnnotations;
+    private final BootstrapProfiler profiler;
+    private final String profilerFrameName;
+    private final boolean threadSafe;
 
     protected ExtensionObserverMethodImpl(EnhancedAnnotatedMethod<T, ? super X> observer, RIBean<X> declaringBean, BeanManagerImpl manager) {
         super(observer, declaringBean, manager);
         this.containerLifecycleEventDeliveryLock = Container.instance(manager);
         this.requiredTypeAnnotations = initRequiredTypeAnnotations(observer);
+        BootstrapProfiler profiler = manager.getServices().get(BootstrapProfiler.class);
+        this.profiler = profiler != null ? profiler : BootstrapProfiler.DISABLED;
+        this.profilerFrameName = declaringBean.getBeanClass().getName() + "." + observer.getJavaMember().getName();
+        this.threadSafe = initThreadSafe(observer, declaringBean);
+    }
+
+    private boolean initThreadSafe(EnhancedAnnotatedMethod<T, ? super X> observer, RIBean<X> declaringBean) {
+        if (!observer.isAnnotationPresent(ThreadSafeObserver.class) && !declaringBean.getBeanClass().isAnnotationPresent(ThreadSafeObserver.class)) {
+            return false;
+        }
+        Class<?> rawObserverType = Reflections.getRawType(getObservedType());
+        return ProcessAnnotatedType.class.isAssignableFrom(rawObserverType) || ProcessBeanAttributes.class.isAssignableFrom(rawObserverType)
+                || ProcessInjectionPoint.class.isAssignableFrom(rawObserverType);
     }
 
     protected Set<Class<? extends Annotation>> initRequiredTypeAnnotations(EnhancedAnnotatedMethod<T, ? super X> observer) {
@@ -116,11 +137,30 @@ public class ExtensionObserverMethodImpl<T, X> extends ObserverMethodImpl<T, X>
 
     @Override
     protected void sendEvent(T event, Object receiver, CreationalContext<?> creationalContext) {
-        synchronized (containerLifecycleEventDeliveryLock) {
+        if (threadSafe) {
+            doSendEvent(event, receiver, creationalContext);
+        } else {
+            synchronized (containerLifecycleEventDeliveryLock) {
+                doSendEvent(event, receiver, creationalContext);
+            }
+        }
+    }
+
+    private void doSendEvent(T event, Object receiver, CreationalContext<?> creationalContext) {
+        try (Frame frame = profiler.start(BootstrapProfiler.EXTENSION_OBSERVER, profilerFrameName)) {
             super.sendEvent(event, receiver, creationalContext);
         }
     }
 
+    /**
+     * Indicates whether this observer method is declared {@link ThreadSafeObserver thread-safe} and may therefore be notified concurrently.
+     *
+     * @return <code>true</code> if this observer method may be notified concurrently, <code>false</code> otherwise
+     */
+    public boolean isThreadSafe() {
+        return threadSafe;
+    }
+
     public Collection<Class<? extends Annotation>> getRequiredAnnotations() {
         return requiredTypeAnnotations;
     }
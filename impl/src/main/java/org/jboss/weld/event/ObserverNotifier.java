@@ -119,10 +119,36 @@ public class ObserverNotifier {
 
     public void fireEvent(Type eventType, Object event, EventMetadata metadata, Annotation... qualifiers) {
         checkEventObjectType(eventType);
+        if (!isObserved(eventType, qualifiers)) {
+            return;
+        }
         // we use the array of qualifiers for resolution so that we can catch duplicate qualifiers
         notify(resolveObserverMethods(buildEventResolvable(eventType, qualifiers)), event, metadata);
     }
 
+    /**
+     * Indicates whether an event of the given type and qualifiers may be observed by any observer method. If this method returns false, the event may be
+     * dropped without resolving observer methods. The event type is not checked.
+     *
+     * @param eventType the event type
+     * @param qualifiers the event qualifiers
+     * @return false if the event is not observed, true otherwise
+     * @see TypeSafeObserverResolver#isObserved(Set, Annotation...)
+     */
+    public boolean isObserved(Type eventType, Annotation... qualifiers) {
+        return resolver.isObserved(sharedObjectCache.getTypeClosureHolder(eventType).get(), qualifiers);
+    }
+
+    /**
+     * Returns a number which changes whenever the resolved observer methods may no longer be valid.
+     *
+     * @return the current generation of the observer resolutions
+     * @see TypeSafeObserverResolver#getGeneration()
+     */
+    public int getResolverGeneration() {
+        return resolver.getGeneration();
+    }
+
     public void fireEvent(Object event, Resolvable resolvable) {
         checkEventObjectType(event);
         notify(resolveObserverMethods(resolvable), event, null);
@@ -16,6 +16,7 @@
  */
 package org.jboss.weld.executor;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Callable;
@@ -48,6 +49,21 @@ public abstract class AbstractExecutorServices implements ExecutorServices {
         return invokeAllAndCheckForExceptions(factory.createTasks(getThreadPoolSize()));
     }
 
+    /**
+     * Submits the tasks created by the given factory for the size of the thread pool. Unlike {@link #invokeAllAndCheckForExceptions(TaskFactory)}, this
+     * method does not wait for the tasks to complete.
+     *
+     * @param factory
+     * @return the futures of the submitted tasks
+     */
+    public <T> List<Future<T>> submitAll(TaskFactory<T> factory) {
+        List<Future<T>> futures = new ArrayList<Future<T>>();
+        for (Callable<T> task : factory.createTasks(getThreadPoolSize())) {
+            futures.add(getTaskExecutor().submit(task));
+        }
+        return futures;
+    }
+
     protected <T> List<Future<T>> checkForExceptions(List<Future<T>> futures) {
         for (Future<T> result : futures) {
             try {
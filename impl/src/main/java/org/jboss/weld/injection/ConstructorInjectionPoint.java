@@ -18,6 +18,9 @@ package org.jboss.weld.injection;
 
 import static org.jboss.weld.injection.Exceptions.rethrowException;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.security.AccessController;
@@ -33,6 +36,8 @@ import javax.enterprise.inject.spi.Bean;
 
 import org.jboss.weld.annotated.enhanced.ConstructorSignature;
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedConstructor;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.construction.api.AroundConstructCallback;
 import org.jboss.weld.construction.api.ConstructionHandle;
 import org.jboss.weld.context.CreationalContextImpl;
@@ -58,12 +63,42 @@ public class ConstructorInjectionPoint<T> extends AbstractCallableInjectionPoint
     private final AnnotatedConstructor<T> constructor;
     private final ConstructorSignature signature;
     private final Constructor<T> accessibleConstructor;
+    private final boolean useMethodHandle;
+    private volatile MethodHandle methodHandle;
 
     protected ConstructorInjectionPoint(EnhancedAnnotatedConstructor<T> constructor, Bean<T> declaringBean, Class<?> declaringComponentClass, InjectionPointFactory factory, BeanManagerImpl manager) {
         super(constructor, declaringBean, declaringComponentClass, false, factory, manager);
         this.constructor = constructor.slim();
         this.signature = constructor.getSignature();
         this.accessibleConstructor = AccessController.doPrivileged(new GetAccessibleCopyOfMember<Constructor<T>>(constructor.getJavaMember()));
+        this.useMethodHandle = manager.getServices().get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.INJECTION_METHOD_HANDLES);
+    }
+
+    /**
+     * Binds the method handle used to invoke the constructor if method handles are enabled. Otherwise, this method is a no-op. If the method handle is not
+     * bound explicitly, it is bound when the first instance is created.
+     */
+    public void initializeMethodHandle() {
+        if (useMethodHandle) {
+            getMethodHandle();
+        }
+    }
+
+    private MethodHandle getMethodHandle() {
+        MethodHandle handle = methodHandle;
+        if (handle == null) {
+            try {
+                // the type of the method handle is (Object[])Object
+                handle = MethodHandles.lookup().unreflectConstructor(accessibleConstructor)
+                        .asSpreader(Object[].class, accessibleConstructor.getParameterTypes().length)
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+            } catch (IllegalAccessException e) {
+                throw new WeldException(e);
+            }
+            // the same method handle may be created twice, but that is ok
+            methodHandle = handle;
+        }
+        return handle;
     }
 
     public T newInstance(BeanManagerImpl manager, CreationalContext<?> ctx) {
@@ -115,6 +150,15 @@ public class ConstructorInjectionPoint<T> extends AbstractCallableInjectionPoint
     }
 
     protected T newInstance(Object[] parameterValues) {
+        if (useMethodHandle) {
+            try {
+                return Reflections.cast(getMethodHandle().invokeExact(parameterValues));
+            } catch (Throwable e) {
+                // exceptions thrown by the constructor are handled the same way as if the constructor were invoked using reflection
+                rethrowException(new InvocationTargetException(e));
+                return null;
+            }
+        }
         try {
             return accessibleConstructor.newInstance(parameterValues);
         } catch (IllegalArgumentException e) {
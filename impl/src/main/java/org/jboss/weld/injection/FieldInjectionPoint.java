@@ -20,6 +20,9 @@ import static org.jboss.weld.injection.Exceptions.rethrowException;
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.security.AccessController;
 
@@ -31,6 +34,7 @@ import javax.enterprise.inject.spi.InjectionPoint;
 import javax.enterprise.inject.spi.ProcessInjectionPoint;
 
 import org.jboss.weld.bean.proxy.DecoratorProxy;
+import org.jboss.weld.exceptions.WeldException;
 import org.jboss.weld.injection.attributes.FieldInjectionPointAttributes;
 import org.jboss.weld.injection.attributes.ForwardingInjectionPointAttributes;
 import org.jboss.weld.injection.attributes.WeldInjectionPointAttributes;
@@ -75,23 +79,7 @@ public class FieldInjectionPoint<T, X> extends ForwardingInjectionPointAttribute
 
     public void inject(Object declaringInstance, BeanManagerImpl manager, CreationalContext<?> creationalContext) {
         try {
-            Object instanceToInject = declaringInstance;
-            if (!(instanceToInject instanceof DecoratorProxy)) {
-                // if declaringInstance is a proxy, unwrap it
-                if (declaringInstance instanceof TargetInstanceProxy) {
-                    instanceToInject = Reflections.<TargetInstanceProxy<T>> cast(declaringInstance).getTargetInstance();
-                }
-            }
-            Object objectToInject;
-            if (!cacheable) {
-                objectToInject = manager.getInjectableReference(this, creationalContext);
-            } else {
-                if (cachedBean == null) {
-                    cachedBean = manager.resolve(manager.getBeans(this));
-                }
-                objectToInject = manager.getInjectableReference(this, cachedBean, creationalContext);
-            }
-            accessibleField.set(instanceToInject, objectToInject);
+            accessibleField.set(getInstanceToInject(declaringInstance), getValueToInject(manager, creationalContext));
         } catch (IllegalArgumentException e) {
             rethrowException(e);
         } catch (IllegalAccessException e) {
@@ -99,6 +87,53 @@ public class FieldInjectionPoint<T, X> extends ForwardingInjectionPointAttribute
         }
     }
 
+    /**
+     * Injects the field using the given setter instead of reflection.
+     *
+     * @param setter the method handle created by {@link #createSetter()}
+     */
+    public void inject(Object declaringInstance, MethodHandle setter, BeanManagerImpl manager, CreationalContext<?> creationalContext) {
+        try {
+            setter.invokeExact(getInstanceToInject(declaringInstance), getValueToInject(manager, creationalContext));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new WeldException(e);
+        }
+    }
+
+    /**
+     * Creates a method handle which sets the value of the field. The type of the method handle is <code>(Object, Object)void</code>.
+     */
+    public MethodHandle createSetter() {
+        try {
+            return MethodHandles.lookup().unreflectSetter(accessibleField).asType(MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new WeldException(e);
+        }
+    }
+
+    private Object getInstanceToInject(Object declaringInstance) {
+        if (!(declaringInstance instanceof DecoratorProxy)) {
+            // if declaringInstance is a proxy, unwrap it
+            if (declaringInstance instanceof TargetInstanceProxy) {
+                return Reflections.<TargetInstanceProxy<T>> cast(declaringInstance).getTargetInstance();
+            }
+        }
+        return declaringInstance;
+    }
+
+    private Object getValueToInject(BeanManagerImpl manager, CreationalContext<?> creationalContext) {
+        if (!cacheable) {
+            return manager.getInjectableReference(this, creationalContext);
+        } else {
+            if (cachedBean == null) {
+                cachedBean = manager.resolve(manager.getBeans(this));
+            }
+            return manager.getInjectableReference(this, cachedBean, creationalContext);
+        }
+    }
+
     @Override
     protected FieldInjectionPointAttributes<T, X> delegate() {
         return attributes;
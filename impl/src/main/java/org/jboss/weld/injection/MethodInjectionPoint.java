@@ -16,6 +16,7 @@
  */
 package org.jboss.weld.injection;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 
 import javax.enterprise.context.spi.CreationalContext;
@@ -54,6 +55,25 @@ public abstract class MethodInjectionPoint<T, X> extends AbstractCallableInjecti
 
     abstract T invoke(Object receiver, Object[] parameters, Class<? extends RuntimeException> exceptionTypeToThrow);
 
+    /**
+     * Invokes the method using the given method handle instead of reflection.
+     *
+     * @param receiver the instance to receive the method invocation or null if this is a static method
+     * @param methodHandle the method handle created by {@link #createMethodHandle()}
+     * @param manager the bean manager
+     * @param ctx the creational context
+     * @param exceptionTypeToThrow exception type to be used to wrap potential exceptions within
+     * @return the value returned from the method
+     */
+    public abstract T invoke(Object receiver, MethodHandle methodHandle, BeanManagerImpl manager, CreationalContext<?> ctx,
+            Class<? extends RuntimeException> exceptionTypeToThrow);
+
+    /**
+     * Creates a method handle which invokes the method. The type of the method handle is <code>(Object, Object[])Object</code> - the receiver and the
+     * parameter values.
+     */
+    public abstract MethodHandle createMethodHandle();
+
     @Override
     public abstract AnnotatedMethod<X> getAnnotated();
 }
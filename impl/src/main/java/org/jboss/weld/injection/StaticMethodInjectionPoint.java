@@ -20,8 +20,12 @@ import static org.jboss.weld.injection.Exceptions.rethrowException;
 import static org.jboss.weld.util.reflection.Reflections.cast;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.List;
 
 import javax.enterprise.context.spi.CreationalContext;
@@ -31,6 +35,7 @@ import javax.enterprise.inject.spi.Bean;
 
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedMethod;
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedParameter;
+import org.jboss.weld.exceptions.WeldException;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.util.collections.Arrays2;
 
@@ -100,6 +105,44 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
         return null;
     }
 
+    @Override
+    public T invoke(Object receiver, MethodHandle methodHandle, BeanManagerImpl manager, CreationalContext<?> ctx,
+            Class<? extends RuntimeException> exceptionTypeToThrow) {
+        CreationalContext<?> transientReferenceContext = null;
+        if (hasTransientReferenceParameter) {
+            transientReferenceContext = manager.createCreationalContext(null);
+        }
+        try {
+            return cast(methodHandle.invokeExact(receiver, getParameterValues(null, manager, ctx, transientReferenceContext)));
+        } catch (Throwable e) {
+            // exceptions thrown by the method are handled the same way as if the method were invoked using reflection
+            rethrowException(new InvocationTargetException(e), exceptionTypeToThrow);
+            return null;
+        } finally {
+            if (hasTransientReferenceParameter) {
+                transientReferenceContext.release();
+            }
+        }
+    }
+
+    @Override
+    public MethodHandle createMethodHandle() {
+        return createMethodHandle(accessibleMethod);
+    }
+
+    static MethodHandle createMethodHandle(Method method) {
+        try {
+            MethodHandle methodHandle = MethodHandles.lookup().unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+            }
+            return methodHandle.asSpreader(Object[].class, method.getParameterTypes().length)
+                    .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+        } catch (IllegalAccessException e) {
+            throw new WeldException(e);
+        }
+    }
+
     /**
      * Helper method for getting the current parameter values from a list of annotated parameters.
      *
@@ -16,8 +16,8 @@
  */
 package org.jboss.weld.injection;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
 
 import org.jboss.weld.context.cache.RequestScopedCache;
 import org.jboss.weld.context.cache.RequestScopedItem;
@@ -37,9 +37,8 @@ import org.jboss.weld.context.cache.RequestScopedItem;
  *
  * Secondly, we reduce the number of ThreadLocal.get() accesses by returning a {@link ThreadLocalStackReference} which a client uses to pop a value.
  *
- * Lastly, the {@link ThreadLocal} instance is configured to set a new initial value by default. This is safe when {@link RequestScopedCache} is used
- * but may lead to {@link ThreadLocal} leak when it is not. Therefore, special care needs to be take to guarantee that each {@link ThreadLocal#get()}
- * operation has a matching {@link Stack#removeIfEmpty()} call (see {@link ThreadLocalStack#peek()}) as an example.
+ * Lastly, a stack is only created (and set) by {@link #push(Object)}. {@link #peek()} never creates a stack so that reading an empty stack does not
+ * involve setting and removing the thread-local. The stack itself is backed by an array which only grows, so that nested pushes do not allocate.
  *
  */
 public class ThreadLocalStack<T> {
@@ -47,12 +46,7 @@ public class ThreadLocalStack<T> {
     private final ThreadLocal<Stack<T>> threadLocalStack;
 
     public ThreadLocalStack() {
-        this.threadLocalStack = new ThreadLocal<Stack<T>>() {
-            @Override
-            protected Stack<T> initialValue() {
-                return new Stack<T>(this);
-            }
-        };
+        this.threadLocalStack = new ThreadLocal<Stack<T>>();
     }
 
     /**
@@ -64,14 +58,18 @@ public class ThreadLocalStack<T> {
     }
 
     private static class Stack<T> implements RequestScopedItem, ThreadLocalStackReference<T> {
-        private final Deque<T> elements;
+
+        private static final int INITIAL_CAPACITY = 4;
+
+        private Object[] elements;
+        private int size;
         private final ThreadLocal<Stack<T>> interceptionContexts;
         private boolean removeWhenEmpty;
         private boolean valid;
 
         private Stack(ThreadLocal<Stack<T>> interceptionContexts) {
             this.interceptionContexts = interceptionContexts;
-            this.elements = new ArrayDeque<T>();
+            this.elements = new Object[INITIAL_CAPACITY];
             /*
              * Setting / removing of a thread-local is much more expensive compared to get. Therefore,
              * if RequestScopedCache is active we register the thread-local for removal at the end of the
@@ -91,23 +89,32 @@ public class ThreadLocalStack<T> {
 
         public void push(T item) {
             checkState();
-            elements.addFirst(item);
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, size << 1);
+            }
+            elements[size++] = item;
         }
 
+        @SuppressWarnings("unchecked")
         public T peek() {
             checkState();
-            return elements.peekFirst();
+            return size == 0 ? null : (T) elements[size - 1];
         }
 
+        @SuppressWarnings("unchecked")
         public T pop() {
             checkState();
-            T top = elements.removeFirst();
+            if (size == 0) {
+                throw new NoSuchElementException();
+            }
+            T top = (T) elements[--size];
+            elements[size] = null;
             removeIfEmpty();
             return top;
         }
 
         private void removeIfEmpty() {
-            if (removeWhenEmpty && elements.isEmpty()) {
+            if (removeWhenEmpty && size == 0) {
                 interceptionContexts.remove();
                 valid = false;
             }
@@ -128,16 +135,17 @@ public class ThreadLocalStack<T> {
 
     public ThreadLocalStackReference<T> push(T item) {
         Stack<T> stack = threadLocalStack.get();
+        if (stack == null) {
+            stack = new Stack<T>(threadLocalStack);
+            threadLocalStack.set(stack);
+        }
         stack.push(item);
         return stack;
     }
 
     public T peek() {
         Stack<T> stack = threadLocalStack.get();
-        T top = stack.peek();
-        // If RequestScopedCache is not active we should remove immediately in order to prevent a leak
-        stack.removeIfEmpty();
-        return top;
+        return stack == null ? null : stack.peek();
     }
 
     /**
@@ -16,15 +16,18 @@
  */
 package org.jboss.weld.injection;
 
+import static org.jboss.weld.injection.Exceptions.rethrowException;
 import static org.jboss.weld.util.reflection.Reflections.isPackagePrivate;
 import static org.jboss.weld.util.reflection.Reflections.isPrivate;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 
+import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.spi.Bean;
 
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedMethod;
@@ -42,11 +45,13 @@ import org.jboss.weld.util.collections.ImmutableMap;
 class VirtualMethodInjectionPoint<T, X> extends StaticMethodInjectionPoint<T, X> {
 
     private volatile Map<Class<?>, Method> methods;
+    private volatile Map<Class<?>, MethodHandle> methodHandles;
 
     VirtualMethodInjectionPoint(EnhancedAnnotatedMethod<T, X> enhancedMethod, Bean<?> declaringBean, Class<?> declaringComponentClass,
             Class<? extends Annotation> specialParameterMarker, InjectionPointFactory factory, BeanManagerImpl manager) {
         super(enhancedMethod, declaringBean, declaringComponentClass, specialParameterMarker, factory, manager);
         this.methods = Collections.<Class<?>, Method>singletonMap(getAnnotated().getJavaMember().getDeclaringClass(), accessibleMethod);
+        this.methodHandles = Collections.emptyMap();
     }
 
     @Override
@@ -68,4 +73,35 @@ class VirtualMethodInjectionPoint<T, X> extends StaticMethodInjectionPoint<T, X>
         }
         return method;
     }
+
+    /**
+     * The given method handle is only used if the method resolved for the receiver is the method this injection point was created for. Otherwise, a method
+     * handle is created for the resolved method.
+     */
+    @Override
+    public T invoke(Object receiver, MethodHandle methodHandle, BeanManagerImpl manager, CreationalContext<?> ctx,
+            Class<? extends RuntimeException> exceptionTypeToThrow) {
+        final Method method;
+        try {
+            method = getMethod(receiver);
+        } catch (NoSuchMethodException e) {
+            rethrowException(e, exceptionTypeToThrow);
+            return null;
+        }
+        if (method != accessibleMethod) {
+            methodHandle = getMethodHandle(receiver.getClass(), method);
+        }
+        return super.invoke(receiver, methodHandle, manager, ctx, exceptionTypeToThrow);
+    }
+
+    private MethodHandle getMethodHandle(Class<?> receiverClass, Method method) {
+        final Map<Class<?>, MethodHandle> methodHandles = this.methodHandles;
+        MethodHandle methodHandle = methodHandles.get(receiverClass);
+        if (methodHandle == null) {
+            // the same method handle may be written to the map twice, but that is ok
+            methodHandle = createMethodHandle(method);
+            this.methodHandles = ImmutableMap.<Class<?>, MethodHandle>builder().putAll(methodHandles).put(receiverClass, methodHandle).build();
+        }
+        return methodHandle;
+    }
 }
@@ -16,6 +16,7 @@
  */
 package org.jboss.weld.injection.producer;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.enterprise.context.spi.CreationalContext;
@@ -23,11 +24,16 @@ import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.Decorator;
 import javax.enterprise.inject.spi.InjectionPoint;
 
+import org.jboss.weld.Container;
+import org.jboss.weld.bean.DecoratorImpl;
 import org.jboss.weld.bean.proxy.CombinedInterceptorAndDecoratorStackMethodHandler;
 import org.jboss.weld.bean.proxy.DecorationHelper;
+import org.jboss.weld.bean.proxy.DecoratorDelegateProxyFactory;
 import org.jboss.weld.bean.proxy.ProxyFactory;
 import org.jboss.weld.bean.proxy.ProxyObject;
 import org.jboss.weld.bean.proxy.TargetBeanInstance;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.exceptions.WeldException;
 import org.jboss.weld.injection.CurrentInjectionPoint;
 import org.jboss.weld.logging.BeanLogger;
@@ -47,14 +53,22 @@ public abstract class AbstractDecoratorApplyingInstantiator<T> extends Forwardin
     private final Bean<T> bean;
     private final Class<T> proxyClass;
     private final List<Decorator<?>> decorators;
+    private final String contextId;
+    private final Class<? extends T> implementationClass;
+    private final boolean directInvocation;
+    private volatile List<Class<T>> decoratorProxyClasses;
 
     public AbstractDecoratorApplyingInstantiator(String contextId, Instantiator<T> delegate, Bean<T> bean, List<Decorator<?>> decorators, Class<? extends T> implementationClass) {
         super(delegate);
         this.bean = bean;
         this.decorators = decorators;
+        this.contextId = contextId;
+        this.implementationClass = implementationClass;
         ProxyFactory<T> factory = new ProxyFactory<T>(contextId, implementationClass, bean.getTypes(), bean, true);
         // eagerly generate the proxy class
         this.proxyClass = factory.getProxyClass();
+        this.directInvocation = Container.instance(contextId).deploymentManager().getServices().get(WeldConfiguration.class)
+                .getBooleanProperty(ConfigurationKey.DECORATOR_DIRECT_INVOCATION);
     }
 
     @Override
@@ -67,7 +81,7 @@ public abstract class AbstractDecoratorApplyingInstantiator<T> extends Forwardin
 
     protected T getOuterDelegate(T instance, CreationalContext<T> creationalContext, InjectionPoint originalInjectionPoint, BeanManagerImpl manager) {
         TargetBeanInstance beanInstance = new TargetBeanInstance(bean, instance);
-        DecorationHelper<T> decorationHelper = new DecorationHelper<T>(beanInstance, bean, proxyClass, manager, manager.getServices().get(ContextualStore.class), decorators);
+        DecorationHelper<T> decorationHelper = new DecorationHelper<T>(beanInstance, bean, proxyClass, getDecoratorProxyClasses(), manager, manager.getServices().get(ContextualStore.class), decorators);
         DecorationHelper.push(decorationHelper);
         try {
             final T outerDelegate = decorationHelper.getNextDelegate(originalInjectionPoint, creationalContext);
@@ -80,6 +94,37 @@ public abstract class AbstractDecoratorApplyingInstantiator<T> extends Forwardin
         }
     }
 
+    /**
+     * The delegate proxy classes specialized for each decorator are generated lazily as the decorators may not be initialized when this instantiator is
+     * created. Decorators other than {@link DecoratorImpl} (i.e. custom decorators) use the default delegate proxy class.
+     *
+     * @return the delegate proxy class for each decorator or <code>null</code> if the direct invocation is not enabled
+     */
+    private List<Class<T>> getDecoratorProxyClasses() {
+        if (!directInvocation) {
+            return null;
+        }
+        List<Class<T>> classes = decoratorProxyClasses;
+        if (classes == null) {
+            synchronized (this) {
+                classes = decoratorProxyClasses;
+                if (classes == null) {
+                    classes = new ArrayList<Class<T>>(decorators.size());
+                    for (Decorator<?> decorator : decorators) {
+                        if (decorator instanceof DecoratorImpl<?>) {
+                            classes.add(new DecoratorDelegateProxyFactory<T>(contextId, implementationClass, bean.getTypes(), bean, (DecoratorImpl<?>) decorator)
+                                    .getProxyClass());
+                        } else {
+                            classes.add(proxyClass);
+                        }
+                    }
+                    decoratorProxyClasses = classes;
+                }
+            }
+        }
+        return classes;
+    }
+
     protected void registerOuterDecorator(ProxyObject instance, T outerDelegate) {
         CombinedInterceptorAndDecoratorStackMethodHandler wrapperMethodHandler = (CombinedInterceptorAndDecoratorStackMethodHandler) instance.getHandler();
         wrapperMethodHandler.setOuterDecorator(outerDelegate);
@@ -27,6 +27,8 @@ import javax.inject.Inject;
 
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedType;
 import org.jboss.weld.annotated.slim.SlimAnnotatedType;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.injection.MethodInjectionPoint;
 import org.jboss.weld.injection.FieldInjectionPoint;
 import org.jboss.weld.injection.InjectionContextImpl;
@@ -51,10 +53,13 @@ public class DefaultInjector<T> implements Injector<T> {
 
     private final List<Set<FieldInjectionPoint<?, ?>>> injectableFields;
     private final List<Set<MethodInjectionPoint<?, ?>>> initializerMethods;
+    private final boolean useMethodHandles;
+    private volatile InjectionMethodHandles methodHandles;
 
     public DefaultInjector(EnhancedAnnotatedType<T> type, Bean<T> bean, BeanManagerImpl beanManager) {
         this.injectableFields = InjectionPointFactory.instance().getFieldInjectionPoints(bean, type, beanManager);
         this.initializerMethods = BeanMethods.getInitializerMethods(bean, type, beanManager);
+        this.useMethodHandles = beanManager.getServices().get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.INJECTION_METHOD_HANDLES);
     }
 
     @Override
@@ -68,11 +73,36 @@ public class DefaultInjector<T> implements Injector<T> {
         new InjectionContextImpl<T>(manager, injectionTarget, type, instance) {
             @Override
             public void proceed() {
-                Beans.injectFieldsAndInitializers(instance, ctx, manager, injectableFields, initializerMethods);
+                injectFieldsAndInitializers(instance, ctx, manager);
             }
         }.run();
     }
 
+    protected void injectFieldsAndInitializers(T instance, CreationalContext<T> ctx, BeanManagerImpl manager) {
+        if (useMethodHandles) {
+            getMethodHandles().inject(instance, ctx, manager);
+        } else {
+            Beans.injectFieldsAndInitializers(instance, ctx, manager, injectableFields, initializerMethods);
+        }
+    }
+
+    /**
+     * The method handles are created lazily when the first instance is injected.
+     */
+    private InjectionMethodHandles getMethodHandles() {
+        InjectionMethodHandles handles = methodHandles;
+        if (handles == null) {
+            synchronized (this) {
+                handles = methodHandles;
+                if (handles == null) {
+                    handles = new InjectionMethodHandles(injectableFields, initializerMethods);
+                    methodHandles = handles;
+                }
+            }
+        }
+        return handles;
+    }
+
     @Override
     public List<Set<FieldInjectionPoint<?, ?>>> getInjectableFields() {
         return injectableFields;
@@ -0,0 +1,79 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.injection.producer;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
+import java.util.Set;
+
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.CreationException;
+
+import org.jboss.weld.injection.FieldInjectionPoint;
+import org.jboss.weld.injection.MethodInjectionPoint;
+import org.jboss.weld.logging.UtilLogger;
+import org.jboss.weld.manager.BeanManagerImpl;
+
+/**
+ * Injects {@link javax.inject.Inject}-annotated fields and calls initializer methods using {@link MethodHandle}s bound to the fields and methods of a
+ * particular bean class. Fields and initializers are processed in the same order as in
+ * {@link org.jboss.weld.util.Beans#injectFieldsAndInitializers(Object, CreationalContext, BeanManagerImpl, List, List)}.
+ *
+ * @see DefaultInjector
+ * @see org.jboss.weld.config.ConfigurationKey#INJECTION_METHOD_HANDLES
+ */
+class InjectionMethodHandles {
+
+    private final FieldInjectionPoint<?, ?>[][] fields;
+    private final MethodHandle[][] setters;
+    private final MethodInjectionPoint<?, ?>[][] initializers;
+    private final MethodHandle[][] initializerHandles;
+
+    InjectionMethodHandles(List<Set<FieldInjectionPoint<?, ?>>> injectableFields, List<Set<MethodInjectionPoint<?, ?>>> initializerMethods) {
+        if (injectableFields.size() != initializerMethods.size()) {
+            throw UtilLogger.LOG.invalidQuantityInjectableFieldsAndInitializerMethods(injectableFields, initializerMethods);
+        }
+        int levels = injectableFields.size();
+        this.fields = new FieldInjectionPoint<?, ?>[levels][];
+        this.setters = new MethodHandle[levels][];
+        this.initializers = new MethodInjectionPoint<?, ?>[levels][];
+        this.initializerHandles = new MethodHandle[levels][];
+        for (int i = 0; i < levels; i++) {
+            fields[i] = injectableFields.get(i).toArray(new FieldInjectionPoint<?, ?>[0]);
+            setters[i] = new MethodHandle[fields[i].length];
+            for (int j = 0; j < fields[i].length; j++) {
+                setters[i][j] = fields[i][j].createSetter();
+            }
+            initializers[i] = initializerMethods.get(i).toArray(new MethodInjectionPoint<?, ?>[0]);
+            initializerHandles[i] = new MethodHandle[initializers[i].length];
+            for (int j = 0; j < initializers[i].length; j++) {
+                initializerHandles[i][j] = initializers[i][j].createMethodHandle();
+            }
+        }
+    }
+
+    void inject(Object instance, CreationalContext<?> ctx, BeanManagerImpl manager) {
+        for (int i = 0; i < fields.length; i++) {
+            for (int j = 0; j < fields[i].length; j++) {
+                fields[i][j].inject(instance, setters[i][j], manager, ctx);
+            }
+            for (int j = 0; j < initializers[i].length; j++) {
+                initializers[i][j].invoke(instance, initializerHandles[i][j], manager, ctx, CreationException.class);
+            }
+        }
+    }
+}
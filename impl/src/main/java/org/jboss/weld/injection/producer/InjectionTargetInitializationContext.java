@@ -19,6 +19,7 @@ package org.jboss.weld.injection.producer;
 import javax.enterprise.inject.spi.InjectionTarget;
 
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedType;
+import org.jboss.weld.injection.ConstructorInjectionPoint;
 
 /**
  * Carries extended metadata - {@link EnhancedAnnotatedType} for a given {@link InjectionTarget}. This object is dropped after
@@ -40,6 +41,19 @@ public class InjectionTargetInitializationContext<T> {
 
     public void initialize() {
         injectionTarget.initializeAfterBeanDiscovery(enhancedAnnotatedType);
+        initializeConstructor(injectionTarget.getInstantiator());
+    }
+
+    private void initializeConstructor(Instantiator<T> instantiator) {
+        while (instantiator instanceof ForwardingInstantiator<?>) {
+            instantiator = ((ForwardingInstantiator<T>) instantiator).delegate();
+        }
+        if (instantiator instanceof AbstractInstantiator<?>) {
+            ConstructorInjectionPoint<T> constructor = ((AbstractInstantiator<T>) instantiator).getConstructorInjectionPoint();
+            if (constructor != null) {
+                constructor.initializeMethodHandle();
+            }
+        }
     }
 
     public BasicInjectionTarget<T> getInjectionTarget() {
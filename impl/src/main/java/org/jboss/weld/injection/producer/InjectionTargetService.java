@@ -23,7 +23,9 @@ public class InjectionTargetService extends AbstractBootstrapService {
     private final Collection<InjectionTargetInitializationContext<?>> injectionTargetsToInitialize;
 
     public InjectionTargetService(BeanManagerImpl beanManager) {
-        this.validator = new Validator();
+        // use the deployment-wide validator so that deferred producer validation may run concurrently
+        Validator validator = beanManager.getServices().get(Validator.class);
+        this.validator = validator != null ? validator : new Validator();
         this.producersToValidate = new ConcurrentLinkedQueue<Producer<?>>();
         this.injectionTargetsToInitialize = new ConcurrentLinkedQueue<InjectionTargetInitializationContext<?>>();
         this.container = Container.instance(beanManager);
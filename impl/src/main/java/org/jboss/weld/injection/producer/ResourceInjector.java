@@ -66,7 +66,7 @@ public class ResourceInjector<T> extends DefaultInjector<T> {
             public void proceed() {
                 // Java EE component environment resource dependencies are injected first
                 Beans.injectEEFields(resourceInjectionsHierarchy, instance, ctx);
-                Beans.injectFieldsAndInitializers(instance, ctx, manager, getInjectableFields(), getInitializerMethods());
+                injectFieldsAndInitializers(instance, ctx, manager);
             }
         }.run();
     }
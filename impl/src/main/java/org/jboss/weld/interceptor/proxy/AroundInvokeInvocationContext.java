@@ -21,7 +21,6 @@ import static org.jboss.weld.util.reflection.Reflections.unwrapInvocationTargetE
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -50,14 +49,15 @@ import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
  * @author Jozef Hartinger
  * @see TerminalAroundInvokeInvocationContext
  * @see NonTerminalAroundInvokeInvocationContext
+ * @see ReusableAroundInvokeInvocationContext
  *
  */
 abstract class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
-    public static AroundInvokeInvocationContext create(Object instance, Method method, Method proceed, Object[] args,  List<InterceptorMethodInvocation> chain,
+    public static AroundInvokeInvocationContext create(Object instance, Method method, Method proceed, Object[] args, InterceptorMethodInvocation[] chain,
             Set<Annotation> interceptorBindings, Stack stack) {
         CombinedInterceptorAndDecoratorStackMethodHandler currentHandler = (stack == null) ? null : stack.peek();
-        if (chain.size() == 1) {
+        if (chain.length == 1) {
             return new TerminalAroundInvokeInvocationContext(instance, method, proceed, args, null, interceptorBindings, currentHandler);
         } else {
             return new NonTerminalAroundInvokeInvocationContext(instance, method, proceed, args, interceptorBindings, chain, currentHandler);
@@ -95,6 +95,10 @@ public class InterceptionContext implements Serializable {
         return WeldCollections.immutableMapView(interceptorInstances);
     }
 
+    BeanManagerImpl getManager() {
+        return manager;
+    }
+
     public InterceptionModel getInterceptionModel() {
         return interceptionModel;
     }
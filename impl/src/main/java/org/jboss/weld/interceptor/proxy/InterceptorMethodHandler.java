@@ -11,10 +11,13 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.jboss.weld.bean.proxy.InterceptionDecorationContext;
 import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
 import org.jboss.weld.bean.proxy.StackAwareMethodHandler;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.experimental.ExperimentalInvocationContext;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
 import org.jboss.weld.interceptor.util.InterceptionUtils;
@@ -28,6 +31,7 @@ import org.jboss.weld.util.reflection.Reflections;
 public class InterceptorMethodHandler implements StackAwareMethodHandler, Serializable {
 
     public static final String INTERCEPTOR_BINDINGS_KEY = "org.jboss.weld.interceptor.bindings";
+    private static final String ASYNCHRONOUS_ANNOTATION_NAME = "javax.ejb.Asynchronous";
     private static final long serialVersionUID = 1L;
 
     private final InterceptionContext ctx;
@@ -61,7 +65,7 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
     }
 
     protected Object executeInterception(Object instance, Method method, Method proceed, Object[] args, InterceptionType interceptionType, Stack stack) throws Throwable {
-        CachedInterceptionChain chain = getInterceptionChain(instance, method, interceptionType);
+        CachedInterceptionChain chain = getInterceptionChain(instance, method, proceed, interceptionType);
         if (chain.interceptorMethods.isEmpty()) {
             // shortcut if there are no interceptors
             if (proceed == null) {
@@ -81,20 +85,39 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
     }
 
     protected Object executeAroundInvoke(Object instance, Method method, Method proceed, Object[] args, CachedInterceptionChain chain, Stack stack) throws Throwable {
-        ExperimentalInvocationContext ctx = create(instance, method, proceed, args, chain.interceptorMethods, chain.interceptorBindings, stack);
+        if (chain.reusableContext != null) {
+            // the context is not available if the method is invoked reentrantly or concurrently
+            ReusableAroundInvokeInvocationContext reusableContext = chain.reusableContext.getAndSet(null);
+            if (reusableContext != null) {
+                try {
+                    if (reusableContext.isTarget(instance)) {
+                        return reusableContext.invoke(args, stack);
+                    }
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                } finally {
+                    chain.reusableContext.lazySet(reusableContext);
+                }
+            }
+        }
+        ExperimentalInvocationContext ctx = create(instance, method, proceed, args, chain.invocations, chain.interceptorBindings, stack);
         try {
-            return chain.interceptorMethods.get(0).invoke(ctx);
+            return chain.invocations[0].invoke(ctx);
         } catch (InvocationTargetException e) {
             throw e.getCause();
         }
     }
 
-    private CachedInterceptionChain getInterceptionChain(Object instance, Method method, InterceptionType interceptionType) {
+    private CachedInterceptionChain getInterceptionChain(Object instance, Method method, Method proceed, InterceptionType interceptionType) {
         if (method != null) {
             CachedInterceptionChain cachedChain = cachedChains.get(method);
             if (cachedChain == null) {
                 cachedChain = new CachedInterceptionChain(ctx.buildInterceptorMethodInvocations(instance, method, interceptionType), ctx.getInterceptionModel()
                         .getMemberInterceptorBindings(method));
+                if (InterceptionType.AROUND_INVOKE == interceptionType && !cachedChain.interceptorMethods.isEmpty() && isInvocationContextReusable(method)) {
+                    cachedChain.reusableContext = new AtomicReference<ReusableAroundInvokeInvocationContext>(new ReusableAroundInvokeInvocationContext(instance,
+                            method, proceed, cachedChain.interceptorBindings, cachedChain.invocations));
+                }
                 CachedInterceptionChain old = cachedChains.putIfAbsent(method, cachedChain);
                 if (old != null) {
                     cachedChain = old;
@@ -105,6 +128,26 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
         return new CachedInterceptionChain(ctx.buildInterceptorMethodInvocations(instance, null, interceptionType), ctx.getInterceptionModel().getClassInterceptorBindings());
     }
 
+    /**
+     * The invocation context may only be reused if the application guarantees that the interceptors do not use the context once the invocation is finished.
+     * This is never the case for asynchronous methods.
+     */
+    private boolean isInvocationContextReusable(Method method) {
+        if (!ctx.getManager().getServices().get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.INTERCEPTOR_REUSABLE_INVOCATION_CONTEXT)) {
+            return false;
+        }
+        return !isAsynchronous(method.getAnnotations()) && !isAsynchronous(method.getDeclaringClass().getAnnotations());
+    }
+
+    private static boolean isAsynchronous(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation.annotationType().getName().equals(ASYNCHRONOUS_ANNOTATION_NAME)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private boolean isInterceptorMethod(Method method) {
         return ctx.getInterceptionModel().getTargetClassInterceptorMetadata().isInterceptorMethod(method);
     }
@@ -116,10 +159,15 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
     private static class CachedInterceptionChain {
 
         private final List<InterceptorMethodInvocation> interceptorMethods;
+        // the same invocations bound to the interceptor instances, used for around invoke interception
+        private final InterceptorMethodInvocation[] invocations;
         private final Set<Annotation> interceptorBindings;
+        // null if the invocation context may not be reused
+        private AtomicReference<ReusableAroundInvokeInvocationContext> reusableContext;
 
         public CachedInterceptionChain(List<InterceptorMethodInvocation> chain, Set<Annotation> interceptorBindings) {
             this.interceptorMethods = chain;
+            this.invocations = chain.toArray(new InterceptorMethodInvocation[chain.size()]);
             this.interceptorBindings = interceptorBindings;
         }
     }
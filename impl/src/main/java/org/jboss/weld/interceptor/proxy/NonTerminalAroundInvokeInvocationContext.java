@@ -18,7 +18,6 @@ package org.jboss.weld.interceptor.proxy;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -40,10 +39,10 @@ import org.jboss.weld.experimental.ExperimentalInvocationContext;
 class NonTerminalAroundInvokeInvocationContext extends AroundInvokeInvocationContext {
 
     private final int position;
-    private final List<InterceptorMethodInvocation> chain;
+    private final InterceptorMethodInvocation[] chain;
 
     public NonTerminalAroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters, Set<Annotation> interceptorBindings,
-            List<InterceptorMethodInvocation> chain, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
+            InterceptorMethodInvocation[] chain, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
         this(target, method, proceed, parameters, newContextData(interceptorBindings), interceptorBindings, 0, chain, currentHandler);
     }
 
@@ -53,7 +52,7 @@ class NonTerminalAroundInvokeInvocationContext extends AroundInvokeInvocationCon
     }
 
     private NonTerminalAroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters, Map<String, Object> contextData,
-            Set<Annotation> interceptorBindings, int position, List<InterceptorMethodInvocation> chain,
+            Set<Annotation> interceptorBindings, int position, InterceptorMethodInvocation[] chain,
             CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
         super(target, method, proceed, parameters, contextData, interceptorBindings, currentHandler);
         this.position = position;
@@ -63,11 +62,11 @@ class NonTerminalAroundInvokeInvocationContext extends AroundInvokeInvocationCon
     @Override
     public Object proceedInternal() throws Exception {
         ExperimentalInvocationContext ctx = createNextContext();
-        return chain.get(position + 1).invoke(ctx);
+        return chain[position + 1].invoke(ctx);
     }
 
     private ExperimentalInvocationContext createNextContext() {
-        if (position + 2 == chain.size()) {
+        if (position + 2 == chain.length) {
             return new TerminalAroundInvokeInvocationContext(this);
         } else {
             return new NonTerminalAroundInvokeInvocationContext(this);
@@ -76,6 +75,6 @@ class NonTerminalAroundInvokeInvocationContext extends AroundInvokeInvocationCon
 
     @Override
     public String toString() {
-        return "NonTerminalAroundInvokeInvocationContext [method=" + method + ", interceptor=" + chain.get(position) + ']';
+        return "NonTerminalAroundInvokeInvocationContext [method=" + method + ", interceptor=" + chain[position] + ']';
     }
 }
@@ -0,0 +1,103 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.interceptor.proxy;
+
+import static org.jboss.weld.util.reflection.Reflections.unwrapInvocationTargetException;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import javax.interceptor.InvocationContext;
+
+import org.jboss.weld.bean.proxy.CombinedInterceptorAndDecoratorStackMethodHandler;
+import org.jboss.weld.bean.proxy.InterceptionDecorationContext;
+import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
+
+/**
+ * An {@link InvocationContext} which tracks the position in the interception chain in a mutable field and which is reused for subsequent invocations of the
+ * same intercepted method. Therefore, a single instance is used for the whole interception chain and no per-invocation allocation is needed. The position and
+ * the parameters are restored once {@link #proceed()} returns so that each interceptor observes the same state as with {@link AroundInvokeInvocationContext}.
+ *
+ * Unlike {@link AroundInvokeInvocationContext}, this context must not be used once the invocation is finished, e.g. by an interceptor which continues the
+ * interception in a different thread. The context is only used if the application declares that the interceptors do not do that.
+ *
+ * @see InterceptorMethodHandler
+ * @see org.jboss.weld.config.ConfigurationKey#INTERCEPTOR_REUSABLE_INVOCATION_CONTEXT
+ */
+class ReusableAroundInvokeInvocationContext extends AbstractInvocationContext {
+
+    private final InterceptorMethodInvocation[] chain;
+    private int position;
+    private CombinedInterceptorAndDecoratorStackMethodHandler currentHandler;
+
+    ReusableAroundInvokeInvocationContext(Object target, Method method, Method proceed, Set<Annotation> interceptorBindings,
+            InterceptorMethodInvocation[] chain) {
+        super(target, method, proceed, null, null, interceptorBindings);
+        this.chain = chain;
+    }
+
+    /**
+     * Invokes the interception chain. The caller is responsible for making sure that the context is not used by multiple invocations at the same time.
+     */
+    Object invoke(Object[] parameters, Stack stack) throws Exception {
+        this.parameters = parameters;
+        this.currentHandler = (stack == null) ? null : stack.peek();
+        this.position = 0;
+        try {
+            return chain[0].invoke(this);
+        } finally {
+            this.parameters = null;
+            this.contextData = null;
+            this.currentHandler = null;
+        }
+    }
+
+    boolean isTarget(Object instance) {
+        return target == instance;
+    }
+
+    @Override
+    public Object proceed() throws Exception {
+        final Stack stack = InterceptionDecorationContext.startIfNotOnTop(currentHandler);
+        // each level of the chain has its own position and parameters, i.e. the parameters set by the subsequent interceptors are not visible to this one
+        final int current = position;
+        final Object[] currentParameters = parameters;
+        try {
+            if (current + 1 < chain.length) {
+                position = current + 1;
+                return chain[current + 1].invoke(this);
+            } else {
+                return getProceed().invoke(getTarget(), getParameters());
+            }
+        } catch (InvocationTargetException e) {
+            throw unwrapInvocationTargetException(e);
+        } finally {
+            position = current;
+            parameters = currentParameters;
+            if (stack != null) {
+                stack.end();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ReusableAroundInvokeInvocationContext [method=" + method + ", interceptor=" + chain[position] + ']';
+    }
+}
@@ -190,4 +190,33 @@ public interface BootstrapLogger extends WeldLogger {
 
     @Message(id = 144, value = "CDI API version mismatch. CDI 1.0 API detected on classpath. Weld requires version 1.1 or better.")
     IllegalStateException cdiApiVersionMismatch();
-}
\ No newline at end of file
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 145, value = "Unable to write the bootstrap profiler report to {0}", format = Format.MESSAGE_FORMAT)
+    void unableToWriteBootstrapProfile(Object path);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 146, value = "Bootstrap profiler report written to {0} and {1}", format = Format.MESSAGE_FORMAT)
+    void bootstrapProfileWritten(Object trace, Object collapsedStacks);
+
+    @Message(id = 147, value = "Classes may only be redeployed once the container is initialized. Current state: {0}", format = Format.MESSAGE_FORMAT)
+    IllegalStateException redeploymentNotAllowed(Object state);
+
+    @Message(id = 148, value = "{0} cannot be redeployed incrementally. Interceptors, decorators, extensions, alternatives, specializing beans and session beans require a full restart of the container.", format = Format.MESSAGE_FORMAT)
+    IllegalArgumentException classNotRedeployable(Object clazz);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 149, value = "Redeployment completed: {0} beans removed, {1} beans added, {2} dependent beans reinitialized", format = Format.MESSAGE_FORMAT)
+    void redeploymentCompleted(int removed, int added, int impacted);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 150, value = "Unable to pre-generate the client proxy for {0}, the proxy will be generated on first use: {1}", format = Format.MESSAGE_FORMAT)
+    void clientProxyPregenerationFailed(Object bean, Object cause);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 151, value = "Pre-generating client proxies for {0} beans {1}", format = Format.MESSAGE_FORMAT)
+    void pregeneratingClientProxies(int beans, Object mode);
+
+    @Message(id = 152, value = "{0} cannot be replaced by a class loaded by a different class loader as it is injected directly at {1}. Inject it through a type which is not redeployed, e.g. an interface loaded by a parent class loader, or restart the container.", format = Format.MESSAGE_FORMAT)
+    IllegalArgumentException injectedClassNotReplaceable(Object clazz, Object injectionPoint);
+}
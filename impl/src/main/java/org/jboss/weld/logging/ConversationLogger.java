@@ -20,6 +20,7 @@ import static org.jboss.weld.logging.WeldLogger.WELD_PROJECT_CODE;
 
 import org.jboss.logging.Logger;
 import org.jboss.logging.Logger.Level;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.Message.Format;
@@ -128,4 +129,16 @@ public interface ConversationLogger extends WeldLogger {
     @LogMessage(level = Level.WARN)
     @Message(id = 342, value = "Going to end a locked conversation with id {0}", format = Format.MESSAGE_FORMAT)
     void endLockedConversation(String cid);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 343, value = "Unable to notify an unlock callback registered for conversation {0}", format = Format.MESSAGE_FORMAT)
+    void unlockCallbackFailed(Object conversation, @Cause Throwable cause);
+
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 344, value = "Conversation {0} is locked, suspending request {1} until the conversation is released", format = Format.MESSAGE_FORMAT)
+    void suspendingRequestForLockedConversation(Object conversation, Object request);
+
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 345, value = "Resuming suspended request {0}", format = Format.MESSAGE_FORMAT)
+    void resumingSuspendedRequest(Object request);
 }
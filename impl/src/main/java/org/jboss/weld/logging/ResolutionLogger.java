@@ -19,6 +19,7 @@ package org.jboss.weld.logging;
 import static org.jboss.weld.logging.WeldLogger.WELD_PROJECT_CODE;
 
 import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.Message.Format;
 import org.jboss.logging.annotations.MessageLogger;
@@ -38,6 +39,10 @@ public interface ResolutionLogger extends WeldLogger {
     @Message(id = 1601, value = "Cannot extract rawType from {0}", format = Format.MESSAGE_FORMAT)
     IllegalArgumentException cannotExtractRawType(Object param1);
 
-    // Last message id used was 1602
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 1603, value = "Assignability decisions cache: {0} hits, {1} misses, {2} entries", format = Format.MESSAGE_FORMAT)
+    void assignabilityCacheStatistics(Object hits, Object misses, Object size);
+
+    // Last message id used was 1603
 
 }
\ No newline at end of file
@@ -131,6 +131,7 @@ import org.jboss.weld.metadata.cache.InterceptorBindingModel;
 import org.jboss.weld.metadata.cache.MetaAnnotationStore;
 import org.jboss.weld.metadata.cache.ScopeModel;
 import org.jboss.weld.metadata.cache.StereotypeModel;
+import org.jboss.weld.resolution.AssignabilityMemo;
 import org.jboss.weld.resolution.BeanTypeAssignabilityRules;
 import org.jboss.weld.resolution.DecoratorResolvableBuilder;
 import org.jboss.weld.resolution.InterceptorResolvable;
@@ -145,6 +146,7 @@ import org.jboss.weld.resolution.TypeSafeInterceptorResolver;
 import org.jboss.weld.resolution.TypeSafeObserverResolver;
 import org.jboss.weld.resources.ClassTransformer;
 import org.jboss.weld.resources.MemberTransformer;
+import org.jboss.weld.serialization.ContextualStoreImpl;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 import org.jboss.weld.serialization.spi.ContextualStore;
 import org.jboss.weld.util.Beans;
@@ -224,7 +226,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
     private final transient TypeSafeInterceptorResolver interceptorResolver;
     private final transient NameBasedResolver nameBasedResolver;
     private final transient ELResolver weldELResolver;
-    private transient Namespace rootNamespace;
+    private transient volatile Namespace rootNamespace;
 
     /*
      * Lenient instances do not perform event type checking - this is required for firing container lifecycle events.
@@ -379,7 +381,8 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         this.weldELResolver = new WeldELResolver(this);
 
         TypeSafeObserverResolver accessibleObserverResolver = new TypeSafeObserverResolver(getServices().get(MetaAnnotationStore.class),
-                createDynamicAccessibleIterable(ObserverMethodTransform.INSTANCE), getServices().get(WeldConfiguration.class));
+                createDynamicAccessibleIterable(ObserverMethodTransform.INSTANCE), getServices().get(WeldConfiguration.class),
+                getServices().get(AssignabilityMemo.class));
         this.accessibleLenientObserverNotifier = ObserverNotifier.of(contextId, accessibleObserverResolver, getServices(), false);
         GlobalObserverNotifierService globalObserverNotifierService = services.get(GlobalObserverNotifierService.class);
         this.globalLenientObserverNotifier = globalObserverNotifierService.getGlobalLenientObserverNotifier();
@@ -452,7 +455,9 @@ public class BeanManagerImpl implements WeldManager, Serializable {
     }
 
     private void addBean(Bean<?> bean, List<Bean<?>> beanList, List<Bean<?>> transitiveBeans) {
-        if (beanSet.add(bean)) {
+        // the bean set is dropped after bootstrap, beans added later on (see IncrementalDeployer) are always new instances
+        Set<Bean<?>> beanSet = this.beanSet;
+        if (beanSet == null || beanSet.add(bean)) {
             if (bean.isAlternative() && !registry.isEnabledInAnyBeanDeployment(bean)) {
                 BootstrapLogger.LOG.foundDisabledAlternative(bean);
             } else if (registry.isSpecializedInAnyBeanDeployment(bean)) {
@@ -480,6 +485,26 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         }
     }
 
+    /**
+     * Removes the given beans from this bean archive. The caller is responsible for invalidating the resolver caches of all the managers the beans are
+     * accessible from.
+     *
+     * For internal use only.
+     *
+     * @param beans
+     */
+    public void removeBeans(Collection<? extends Bean<?>> beans) {
+        this.enabledBeans.removeAll(beans);
+        this.sharedBeans.removeAll(beans);
+        this.clientProxyProvider.invalidate(beans);
+        ContextualStore contextualStore = getServices().get(ContextualStore.class);
+        if (contextualStore instanceof ContextualStoreImpl) {
+            for (Bean<?> bean : beans) {
+                ((ContextualStoreImpl) contextualStore).remove(bean);
+            }
+        }
+    }
+
     public void addDecorator(Decorator<?> bean) {
         decorators.add(bean);
         getServices().get(ContextualStore.class).putIfAbsent(bean);
@@ -624,6 +649,17 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         observers.add(observer);
     }
 
+    /**
+     * Removes the given observer methods from this bean archive.
+     *
+     * For internal use only.
+     *
+     * @param observers
+     */
+    public void removeObservers(Collection<? extends ObserverMethod<?>> observers) {
+        this.observers.removeAll(observers);
+    }
+
     /**
      * Fires an event object with given event object for given bindings
      *
@@ -635,9 +671,15 @@ public class BeanManagerImpl implements WeldManager, Serializable {
     @Override
     public void fireEvent(Object event, Annotation... qualifiers) {
         Preconditions.checkArgumentNotNull(event, "event");
-        Type eventType = Types.getCanonicalType(event.getClass());
-        EventMetadata metadata = new EventMetadataImpl(eventType, null, qualifiers);
-        globalStrictObserverNotifier.fireEvent(event, metadata, qualifiers);
+        Class<?> eventClass = event.getClass();
+        ObserverNotifier notifier = globalStrictObserverNotifier;
+        notifier.checkEventObjectType(eventClass);
+        // an unobserved event is dropped before resolution and before any metadata is created
+        if (!notifier.isObserved(eventClass, qualifiers)) {
+            return;
+        }
+        EventMetadata metadata = new EventMetadataImpl(Types.getCanonicalType(eventClass), null, qualifiers);
+        notifier.notify(notifier.resolveObserverMethods(notifier.buildEventResolvable(eventClass, qualifiers)), event, metadata);
     }
 
     /**
@@ -710,7 +752,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         }
     }
 
-    private boolean isProxyRequired(Bean<?> bean) {
+    public boolean isProxyRequired(Bean<?> bean) {
         if (bean instanceof RIBean<?>) {
             return ((RIBean<?>) bean).isProxyRequired();
         } else {
@@ -1047,9 +1089,15 @@ public class BeanManagerImpl implements WeldManager, Serializable {
     }
 
     public Namespace getRootNamespace() {
-        // TODO I don't like this lazy init
+        Namespace rootNamespace = this.rootNamespace;
         if (rootNamespace == null) {
-            rootNamespace = new Namespace(createDynamicAccessibleIterable(new NamespaceTransform()));
+            synchronized (this) {
+                rootNamespace = this.rootNamespace;
+                if (rootNamespace == null) {
+                    rootNamespace = new Namespace(createDynamicAccessibleIterable(new NamespaceTransform()));
+                    this.rootNamespace = rootNamespace;
+                }
+            }
         }
         return rootNamespace;
     }
@@ -19,6 +19,9 @@ package org.jboss.weld.metadata.cache;
 import java.lang.annotation.Annotation;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import javax.enterprise.inject.spi.Bean;
@@ -26,6 +29,7 @@ import javax.inject.Named;
 
 import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.resolution.QualifierBitSet;
 import org.jboss.weld.resolution.QualifierInstance;
 import org.jboss.weld.resources.ClassTransformer;
 import org.jboss.weld.resources.SharedObjectCache;
@@ -134,6 +138,10 @@ public class MetaAnnotationStore implements Service {
 
     private final ComputingCache<Annotation, QualifierInstance> qualifierInstanceCache;
 
+    // the ids of interned qualifier instances, an id is never reassigned
+    private final ConcurrentMap<QualifierInstance, Integer> qualifierInstanceIds;
+    private final AtomicInteger nextQualifierInstanceId;
+
     private final SharedObjectCache sharedObjectCache;
 
     public MetaAnnotationStore(ClassTransformer classTransformer) {
@@ -143,6 +151,8 @@ public class MetaAnnotationStore implements Service {
         this.qualifiers = cacheBuilder.build(new QualifierFunction(classTransformer));
         this.interceptorBindings = cacheBuilder.build(new InterceptorBindingFunction(classTransformer));
         this.qualifierInstanceCache = cacheBuilder.build(new QualifierInstanceFunction(this));
+        this.qualifierInstanceIds = new ConcurrentHashMap<QualifierInstance, Integer>();
+        this.nextQualifierInstanceId = new AtomicInteger();
         this.sharedObjectCache = classTransformer.getSharedObjectCache();
     }
 
@@ -252,6 +262,60 @@ public class MetaAnnotationStore implements Service {
         return useSharedCache ? sharedObjectCache.getSharedSet(builder.build()) : builder.build();
     }
 
+    /**
+     * Interns the given qualifier instances and returns their bit set. This method should only be used for qualifiers of beans, observer methods and other
+     * components known at deployment time.
+     *
+     * @param qualifiers
+     * @return the complete bit set of the given qualifier instances
+     */
+    public QualifierBitSet getQualifierBitSet(final Set<QualifierInstance> qualifiers) {
+        if (qualifiers.isEmpty()) {
+            return QualifierBitSet.EMPTY;
+        }
+        int[] ids = new int[qualifiers.size()];
+        int i = 0;
+        for (QualifierInstance qualifier : qualifiers) {
+            ids[i++] = qualifierInstanceIds.computeIfAbsent(qualifier, (key) -> nextQualifierInstanceId.getAndIncrement());
+        }
+        return createQualifierBitSet(ids, ids.length, true);
+    }
+
+    /**
+     * Returns the bit set of the given qualifier instances without interning them. Qualifier instances which have not been interned yet are not
+     * represented and the bit set is not complete.
+     *
+     * @param qualifiers
+     * @return the bit set of the given qualifier instances
+     * @see QualifierBitSet#isComplete()
+     */
+    public QualifierBitSet findQualifierBitSet(final Set<QualifierInstance> qualifiers) {
+        if (qualifiers.isEmpty()) {
+            return QualifierBitSet.EMPTY;
+        }
+        int[] ids = new int[qualifiers.size()];
+        int count = 0;
+        for (QualifierInstance qualifier : qualifiers) {
+            Integer id = qualifierInstanceIds.get(qualifier);
+            if (id != null) {
+                ids[count++] = id;
+            }
+        }
+        return createQualifierBitSet(ids, count, count == ids.length);
+    }
+
+    private static QualifierBitSet createQualifierBitSet(int[] ids, int count, boolean complete) {
+        int maxId = -1;
+        for (int i = 0; i < count; i++) {
+            maxId = Math.max(maxId, ids[i]);
+        }
+        long[] words = new long[(maxId >> 6) + 1];
+        for (int i = 0; i < count; i++) {
+            words[ids[i] >> 6] |= 1L << ids[i];
+        }
+        return new QualifierBitSet(words, complete);
+    }
+
     /**
      * Gets a string representation
      *
@@ -267,6 +331,7 @@ public class MetaAnnotationStore implements Service {
         buffer.append("Registered stereotype models: ").append(stereotypes.size()).append(newLine);
         buffer.append("Registered interceptor binding models: ").append(interceptorBindings.size()).append(newLine);
         buffer.append("Cached qualifier instances: ").append(qualifierInstanceCache.size()).append(newLine);
+        buffer.append("Interned qualifier instances: ").append(qualifierInstanceIds.size()).append(newLine);
         return buffer.toString();
     }
 
@@ -277,6 +342,7 @@ public class MetaAnnotationStore implements Service {
         this.stereotypes.clear();
         this.interceptorBindings.clear();
         this.qualifierInstanceCache.clear();
+        this.qualifierInstanceIds.clear();
     }
 
 
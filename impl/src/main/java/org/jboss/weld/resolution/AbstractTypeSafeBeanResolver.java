@@ -37,6 +37,7 @@ import javax.enterprise.inject.spi.Bean;
 import javax.inject.Provider;
 
 import org.jboss.weld.bean.AbstractProducerBean;
+import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.bootstrap.SpecializationAndEnablementRegistry;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.manager.BeanManagerImpl;
@@ -60,8 +61,12 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
     private final ComputingCache<Set<Bean<?>>, Set<Bean<?>>> disambiguatedBeans;
     private final SpecializationAndEnablementRegistry registry;
     private final MetaAnnotationStore store;
+    private final AssignabilityRules beanTypeRules;
+    private final AssignabilityRules delegateRules;
 
     private final LazyValueHolder<Map<Type, ArrayList<T>>> beansByType;
+    // incremented whenever the cached resolutions are invalidated because beans were added or removed at runtime
+    private volatile int generation;
 
     public class BeanDisambiguation implements Function<Set<Bean<?>>, Set<Bean<?>>> {
 
@@ -134,6 +139,9 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
         this.registry = beanManager.getServices().get(SpecializationAndEnablementRegistry.class);
         this.disambiguatedBeans = ComputingCacheBuilder.newBuilder().build(new BeanDisambiguation());
         this.store = beanManager.getServices().get(MetaAnnotationStore.class);
+        AssignabilityMemo assignabilityMemo = beanManager.getServices().get(AssignabilityMemo.class);
+        this.beanTypeRules = assignabilityMemo.memoize(BeanTypeAssignabilityRules.instance());
+        this.delegateRules = assignabilityMemo.memoize(DelegateInjectionPointAssignabilityRules.instance());
         // beansByType stores a map of a type to all beans that are assignable to
         // that type. This means that it most cases we do not need to loop through
         // every bean in the system when performing resolution
@@ -193,14 +201,24 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
 
     @Override
     protected boolean matches(Resolvable resolvable, T bean) {
-        AssignabilityRules rules = null;
-        if (resolvable.isDelegate()) {
-            rules = DelegateInjectionPointAssignabilityRules.instance();
-        } else {
-            rules = BeanTypeAssignabilityRules.instance();
+        AssignabilityRules rules = resolvable.isDelegate() ? delegateRules : beanTypeRules;
+        return rules.matches(resolvable.getTypes(), bean.getTypes()) && containsAllQualifiers(getQualifierBitSet(bean), resolvable);
+    }
+
+    private QualifierBitSet getQualifierBitSet(T bean) {
+        if (bean instanceof RIBean<?>) {
+            return ((RIBean<?>) bean).getQualifierBitSet();
         }
-        return rules.matches(resolvable.getTypes(), bean.getTypes())
-                && Beans.containsAllQualifiers(resolvable.getQualifiers(), QualifierInstance.of(bean, store));
+        return store.getQualifierBitSet(store.getQualifierInstances(bean));
+    }
+
+    /**
+     * The bit set of the bean must be obtained first so that the qualifiers of the bean are interned before the bit set of the resolvable is looked up.
+     */
+    private boolean containsAllQualifiers(QualifierBitSet beanQualifiers, Resolvable resolvable) {
+        QualifierBitSet requiredQualifiers = QualifierBitSet.of(resolvable, store);
+        // a qualifier which was never interned is not a qualifier of any bean
+        return requiredQualifiers.isComplete() && beanQualifiers.containsAll(requiredQualifiers);
     }
 
     @Override
@@ -268,6 +286,54 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
         this.beansByType.clear();
     }
 
+    /**
+     * Resets the cached resolutions which may be affected by adding or removing beans of the given types. Unlike {@link #clear()}, the resolutions of
+     * unrelated types are retained.
+     *
+     * @param beanTypes the types of the added or removed beans
+     */
+    public void invalidate(Collection<? extends Type> beanTypes) {
+        final Set<Class<?>> rawBeanTypes = new HashSet<Class<?>>();
+        for (Type beanType : beanTypes) {
+            Class<?> rawBeanType = Reflections.getRawType(beanType);
+            if (rawBeanType == null) {
+                // we cannot tell which resolutions are affected
+                clear();
+                this.generation++;
+                return;
+            }
+            rawBeanTypes.add(Primitives.wrap(rawBeanType));
+        }
+        invalidate((resolvable) -> isAffected(resolvable, rawBeanTypes));
+        this.beansByType.clear();
+        this.generation++;
+    }
+
+    /**
+     * Returns a number which changes whenever beans are added or removed at runtime, i.e. whenever the resolutions obtained before may no longer be valid.
+     *
+     * @return the current generation of resolutions
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    private static boolean isAffected(Resolvable resolvable, Set<Class<?>> rawBeanTypes) {
+        for (Type type : resolvable.getTypes()) {
+            Class<?> rawType = Reflections.getRawType(type);
+            if (rawType == null) {
+                return true;
+            }
+            rawType = Primitives.wrap(rawType);
+            for (Class<?> rawBeanType : rawBeanTypes) {
+                if (rawType.isAssignableFrom(rawBeanType)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     MetaAnnotationStore getStore() {
         return store;
     }
@@ -0,0 +1,163 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resolution;
+
+import java.lang.reflect.Type;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
+
+/**
+ * Memoizes the assignability decisions of the {@link AssignabilityRules} used by the typesafe resolvers of a container. Generic assignability is expensive
+ * to compute and the same pairs of types are matched repeatedly, e.g. for each bean during typesafe resolution.
+ * <p>
+ * The memo is a per-container service so that it never keeps the classes of another (e.g. undeployed) application reachable. The decisions are dropped
+ * once the bound is exceeded and when the container is shut down.
+ * </p>
+ */
+public class AssignabilityMemo implements Service {
+
+    // the maximum number of memoized decisions, the table is cleared once the bound is exceeded
+    private static final long MAX_SIZE = 0x10000L;
+
+    private final ComputingCache<MemoKey, Boolean> decisions;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    public AssignabilityMemo() {
+        this.decisions = ComputingCacheBuilder.newBuilder().setMaxSize(MAX_SIZE).build(MemoKey::compute);
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    /**
+     *
+     * @param rules
+     * @return the rules whose decisions are memoized by this service
+     */
+    public AssignabilityRules memoize(AssignabilityRules rules) {
+        return new MemoizingAssignabilityRules(rules);
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getSize() {
+        return decisions.size();
+    }
+
+    @Override
+    public void cleanup() {
+        decisions.clear();
+    }
+
+    /**
+     * Assignability of two classes is cheap and therefore not memoized.
+     */
+    private boolean matches(AssignabilityRules rules, Type requiredType, Type beanType) {
+        if (requiredType instanceof Class<?> && beanType instanceof Class<?>) {
+            return rules.matches(requiredType, beanType);
+        }
+        MemoKey key = new MemoKey(rules, requiredType, beanType);
+        Boolean result = decisions.getValueIfPresent(key);
+        if (result != null) {
+            hits.increment();
+            return result;
+        }
+        misses.increment();
+        return decisions.getValue(key);
+    }
+
+    private class MemoizingAssignabilityRules implements AssignabilityRules {
+
+        private final AssignabilityRules delegate;
+
+        private MemoizingAssignabilityRules(AssignabilityRules delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean matches(Set<Type> requiredTypes, Set<Type> beanTypes) {
+            for (Type requiredType : requiredTypes) {
+                if (matches(requiredType, beanTypes)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean matches(Type requiredType, Set<? extends Type> beanTypes) {
+            for (Type beanType : beanTypes) {
+                if (AssignabilityMemo.this.matches(delegate, requiredType, beanType)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean matches(Type requiredType, Type beanType) {
+            return AssignabilityMemo.this.matches(delegate, requiredType, beanType);
+        }
+    }
+
+    private static final class MemoKey {
+
+        private final AssignabilityRules rules;
+        private final Type requiredType;
+        private final Type beanType;
+        private final int hashCode;
+
+        private MemoKey(AssignabilityRules rules, Type requiredType, Type beanType) {
+            this.rules = rules;
+            this.requiredType = requiredType;
+            this.beanType = beanType;
+            this.hashCode = (31 * System.identityHashCode(rules) + requiredType.hashCode()) * 31 + beanType.hashCode();
+        }
+
+        private Boolean compute() {
+            return rules.matches(requiredType, beanType);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof MemoKey) {
+                MemoKey that = (MemoKey) obj;
+                return rules == that.rules && Objects.equals(requiredType, that.requiredType) && Objects.equals(beanType, that.beanType);
+            }
+            return false;
+        }
+    }
+}
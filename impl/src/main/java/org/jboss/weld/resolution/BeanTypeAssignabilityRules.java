@@ -43,6 +43,10 @@ public class BeanTypeAssignabilityRules extends AbstractAssignabilityRules {
 
     @Override
     public boolean matches(Type requiredType, Type beanType) {
+        if (requiredType == beanType) {
+            // legal bean types contain no wildcards, identical types are always assignable (equal types are mostly identical, see TypeInterner)
+            return true;
+        }
         return matchesNoBoxing(Types.boxedType(requiredType), Types.boxedType(beanType));
     }
 
@@ -57,6 +57,9 @@ public class CovariantTypes {
     }
 
     public static boolean isAssignableFrom(Type type1, Type type2) {
+        if (type1 == type2 && Types.isActualType(type1)) {
+            return true;
+        }
         if (type1 instanceof Class<?>) {
             if (type2 instanceof Class<?>) {
                 return isAssignableFrom((Class<?>) type1, (Class<?>) type2);
@@ -16,65 +16,56 @@
  */
 package org.jboss.weld.resolution;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
-import java.util.function.Function;
 
 import javax.enterprise.inject.spi.Bean;
 
 import org.jboss.weld.bootstrap.SpecializationAndEnablementRegistry;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.util.Beans;
-import org.jboss.weld.util.cache.ComputingCache;
-import org.jboss.weld.util.cache.ComputingCacheBuilder;
+import org.jboss.weld.util.collections.ImmutableMap;
+import org.jboss.weld.util.collections.ImmutableSet;
 
 /**
- * Implementation of name based bean resolution
+ * Implementation of name based bean resolution.
+ *
+ * <p>
+ * An index of all the accessible named beans is built upon the first lookup and kept until the resolver is cleared. Lookups are served from the index. Names
+ * which do not match any bean are not cached, so that unqualified identifiers passed in by EL (loop variables, implicit objects, etc.) neither grow the index
+ * nor trigger a scan of all the beans.
+ * </p>
  *
  * @author Pete Muir
  */
 public class NameBasedResolver {
 
-    private static class NameToBeanSet implements Function<String, Set<Bean<?>>> {
-
-        private final BeanManagerImpl beanManager;
-        private final Iterable<? extends Bean<?>> allBeans;
-        private final SpecializationAndEnablementRegistry registry;
-
-        private NameToBeanSet(BeanManagerImpl beanManager, Iterable<? extends Bean<?>> allBeans) {
-            this.beanManager = beanManager;
-            this.allBeans = allBeans;
-            this.registry = beanManager.getServices().get(SpecializationAndEnablementRegistry.class);
-        }
-
-        public Set<Bean<?>> apply(String from) {
-            Set<Bean<?>> matchedBeans = new HashSet<Bean<?>>();
-            for (Bean<?> bean : allBeans) {
-                if ((bean.getName() == null && from == null) || (bean.getName() != null && bean.getName().equals(from))) {
-                    matchedBeans.add(bean);
-                }
-            }
-            return Beans.removeDisabledBeans(matchedBeans, beanManager, registry);
-        }
-
-    }
+    private final BeanManagerImpl beanManager;
+    private final Iterable<? extends Bean<?>> allBeans;
 
     // The resolved names
-    private ComputingCache<String, Set<Bean<?>>> resolvedNames;
+    private volatile Map<String, Set<Bean<?>>> index;
 
     /**
      * Constructor
      */
     public NameBasedResolver(BeanManagerImpl manager, Iterable<? extends Bean<?>> allBeans) {
-        this.resolvedNames = ComputingCacheBuilder.newBuilder().build(new NameToBeanSet(manager, allBeans));
+        this.beanManager = manager;
+        this.allBeans = allBeans;
     }
 
     /**
      * Reset all cached injection points. You must reset all cached injection
      * points when you add a bean to the manager
+     * <p>
+     * The index is built while holding the same lock so that an index built concurrently from the beans seen before this call cannot be published after it.
+     * </p>
      */
-    public void clear() {
-        this.resolvedNames.clear();
+    public synchronized void clear() {
+        this.index = null;
     }
 
     /**
@@ -84,7 +75,58 @@ public class NameBasedResolver {
      * @return The set of matching beans
      */
     public Set<Bean<?>> resolve(final String name) {
-        return resolvedNames.getValue(name);
+        if (name == null) {
+            return resolveUnnamed();
+        }
+        Set<Bean<?>> beans = getIndex().get(name);
+        return beans != null ? beans : Collections.<Bean<?>>emptySet();
+    }
+
+    private Map<String, Set<Bean<?>>> getIndex() {
+        Map<String, Set<Bean<?>>> index = this.index;
+        if (index == null) {
+            synchronized (this) {
+                index = this.index;
+                if (index == null) {
+                    index = buildIndex();
+                    this.index = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    private Map<String, Set<Bean<?>>> buildIndex() {
+        Map<String, Set<Bean<?>>> namedBeans = new HashMap<String, Set<Bean<?>>>();
+        for (Bean<?> bean : allBeans) {
+            if (bean.getName() != null) {
+                Set<Bean<?>> beans = namedBeans.get(bean.getName());
+                if (beans == null) {
+                    beans = new HashSet<Bean<?>>();
+                    namedBeans.put(bean.getName(), beans);
+                }
+                beans.add(bean);
+            }
+        }
+        SpecializationAndEnablementRegistry registry = beanManager.getServices().get(SpecializationAndEnablementRegistry.class);
+        ImmutableMap.Builder<String, Set<Bean<?>>> builder = ImmutableMap.builder();
+        for (Map.Entry<String, Set<Bean<?>>> entry : namedBeans.entrySet()) {
+            Set<Bean<?>> enabledBeans = Beans.removeDisabledBeans(entry.getValue(), beanManager, registry);
+            if (!enabledBeans.isEmpty()) {
+                builder.put(entry.getKey(), ImmutableSet.copyOf(enabledBeans));
+            }
+        }
+        return builder.build();
+    }
+
+    private Set<Bean<?>> resolveUnnamed() {
+        Set<Bean<?>> matchedBeans = new HashSet<Bean<?>>();
+        for (Bean<?> bean : allBeans) {
+            if (bean.getName() == null) {
+                matchedBeans.add(bean);
+            }
+        }
+        return Beans.removeDisabledBeans(matchedBeans, beanManager, beanManager.getServices().get(SpecializationAndEnablementRegistry.class));
     }
 
     /**
@@ -94,9 +136,10 @@ public class NameBasedResolver {
      */
     @Override
     public String toString() {
+        Map<String, Set<Bean<?>>> index = this.index;
         StringBuilder buffer = new StringBuilder();
         buffer.append("Resolver\n");
-        buffer.append("Resolved names points: ").append(resolvedNames.size()).append('\n');
+        buffer.append("Indexed names: ").append(index == null ? 0 : index.size()).append('\n');
         return buffer.toString();
     }
 
@@ -0,0 +1,89 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resolution;
+
+import java.util.Arrays;
+
+import org.jboss.weld.metadata.cache.MetaAnnotationStore;
+
+/**
+ * An immutable set of qualifier instances represented as a bit set. Every bit stands for a qualifier instance interned by
+ * {@link MetaAnnotationStore}, so checking whether one set of qualifiers contains another only takes a few bitwise
+ * operations.
+ *
+ * <p>
+ * A bit set created for qualifiers that are required by a {@link Resolvable} may be incomplete - qualifier instances which were never interned have no
+ * bit and are not represented. A bean that has such a qualifier does not exist.
+ * </p>
+ *
+ * @see MetaAnnotationStore#getQualifierBitSet(java.util.Set)
+ * @see MetaAnnotationStore#findQualifierBitSet(java.util.Set)
+ */
+public final class QualifierBitSet {
+
+    public static final QualifierBitSet EMPTY = new QualifierBitSet(new long[0], true);
+
+    private final long[] words;
+    private final boolean complete;
+
+    public QualifierBitSet(long[] words, boolean complete) {
+        this.words = words;
+        this.complete = complete;
+    }
+
+    /**
+     *
+     * @param resolvable
+     * @param store
+     * @return the bit set of the qualifiers of the given resolvable, reused if possible
+     */
+    static QualifierBitSet of(Resolvable resolvable, MetaAnnotationStore store) {
+        if (resolvable instanceof ResolvableBuilder.ResolvableImpl) {
+            return ((ResolvableBuilder.ResolvableImpl) resolvable).getQualifierBitSet(store);
+        }
+        return store.findQualifierBitSet(resolvable.getQualifiers());
+    }
+
+    /**
+     *
+     * @param other
+     * @return true if every qualifier of the other bit set is also present in this bit set
+     */
+    public boolean containsAll(QualifierBitSet other) {
+        long[] otherWords = other.words;
+        for (int i = 0; i < otherWords.length; i++) {
+            long word = i < words.length ? words[i] : 0L;
+            if ((otherWords[i] & ~word) != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     *
+     * @return false if some of the qualifier instances are not represented by this bit set
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    @Override
+    public String toString() {
+        return "QualifierBitSet " + Arrays.toString(words) + (complete ? "" : " (incomplete)");
+    }
+}
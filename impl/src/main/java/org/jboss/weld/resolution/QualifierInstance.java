@@ -17,9 +17,12 @@
 package org.jboss.weld.resolution;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.security.AccessController;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -120,7 +123,7 @@ public class QualifierInstance {
                     } else {
                         method.getJavaMember().setAccessible(true);
                     }
-                    builder.put(method.getJavaMember().getName(), method.getJavaMember().invoke(instance));
+                    builder.put(method.getJavaMember().getName(), canonicalize(method.getJavaMember().invoke(instance)));
                 } catch (IllegalAccessException e) {
                     throw new WeldException(e);
                 } catch (InvocationTargetException e) {
@@ -131,6 +134,21 @@ public class QualifierInstance {
         return builder.build();
     }
 
+    /**
+     * Array members are replaced with lists so that qualifier instances with equal array members are equal.
+     */
+    private static Object canonicalize(Object value) {
+        if (value == null || !value.getClass().isArray()) {
+            return value;
+        }
+        int length = Array.getLength(value);
+        List<Object> elements = new ArrayList<Object>(length);
+        for (int i = 0; i < length; i++) {
+            elements.add(Array.get(value, i));
+        }
+        return Collections.unmodifiableList(elements);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
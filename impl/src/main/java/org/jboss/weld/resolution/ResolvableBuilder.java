@@ -38,6 +38,7 @@ import javax.enterprise.inject.spi.Interceptor;
 import javax.inject.Named;
 import javax.inject.Provider;
 
+import org.jboss.weld.bean.builtin.WeldInstance;
 import org.jboss.weld.experimental.ExperimentalEvent;
 import org.jboss.weld.literal.NamedLiteral;
 import org.jboss.weld.literal.NewLiteral;
@@ -49,7 +50,7 @@ import org.jboss.weld.util.reflection.Reflections;
 
 public class ResolvableBuilder {
 
-    private static final Class<?>[] FACADE_TYPES = new Class<?>[] { Event.class, Instance.class, Provider.class, ExperimentalEvent.class };
+    private static final Class<?>[] FACADE_TYPES = new Class<?>[] { Event.class, Instance.class, Provider.class, ExperimentalEvent.class, WeldInstance.class };
     private static final Class<?>[] METADATA_TYPES = new Class<?>[] { Interceptor.class, Decorator.class, Bean.class };
     private static final Set<QualifierInstance> ANY_SINGLETON = Collections.singleton(QualifierInstance.ANY);
 
@@ -228,6 +229,7 @@ public class ResolvableBuilder {
         private final Class<?> rawType;
         private final Bean<?> declaringBean;
         private final boolean delegate;
+        private volatile QualifierBitSet qualifierBitSet;
 
         protected ResolvableImpl(Class<?> rawType, Set<Type> typeClosure, Bean<?> declaringBean, final Set<QualifierInstance> qualifierInstances, boolean delegate) {
             this.typeClosure = typeClosure;
@@ -286,6 +288,18 @@ public class ResolvableBuilder {
         public boolean isDelegate() {
             return delegate;
         }
+
+        QualifierBitSet getQualifierBitSet(MetaAnnotationStore store) {
+            QualifierBitSet bitSet = this.qualifierBitSet;
+            if (bitSet == null) {
+                bitSet = store.findQualifierBitSet(qualifierInstances);
+                if (bitSet.isComplete()) {
+                    // an incomplete bit set may change as more qualifier instances get interned
+                    this.qualifierBitSet = bitSet;
+                }
+            }
+            return bitSet;
+        }
     }
 
     protected MetaAnnotationStore getMetaAnnotationStore() {
@@ -29,9 +29,9 @@ public class TypeSafeDisposerResolver extends TypeSafeResolver<Resolvable, Dispo
 
     private final AssignabilityRules rules;
 
-    public TypeSafeDisposerResolver(Iterable<DisposalMethod<?, ?>> disposers, WeldConfiguration configuration) {
+    public TypeSafeDisposerResolver(Iterable<DisposalMethod<?, ?>> disposers, WeldConfiguration configuration, AssignabilityMemo assignabilityMemo) {
         super(disposers, configuration);
-        this.rules = BeanTypeAssignabilityRules.instance();
+        this.rules = assignabilityMemo.memoize(BeanTypeAssignabilityRules.instance());
     }
 
     @Override
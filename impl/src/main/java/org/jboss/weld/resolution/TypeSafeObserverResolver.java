@@ -19,13 +19,20 @@ package org.jboss.weld.resolution;
 import static org.jboss.weld.util.reflection.Reflections.cast;
 
 import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import javax.enterprise.inject.Any;
 import javax.enterprise.inject.spi.ObserverMethod;
 
 import org.jboss.weld.bootstrap.events.ProcessAnnotatedTypeEventResolvable;
@@ -34,8 +41,10 @@ import org.jboss.weld.event.ExtensionObserverMethodImpl;
 import org.jboss.weld.event.ResolvedObservers;
 import org.jboss.weld.experimental.ExperimentalObserverMethod;
 import org.jboss.weld.metadata.cache.MetaAnnotationStore;
-import org.jboss.weld.util.Beans;
+import org.jboss.weld.util.LazyValueHolder;
 import org.jboss.weld.util.Observers;
+import org.jboss.weld.util.Types;
+import org.jboss.weld.util.collections.ImmutableList;
 import org.jboss.weld.util.reflection.Reflections;
 
 /**
@@ -57,13 +66,228 @@ public class TypeSafeObserverResolver extends TypeSafeResolver<Resolvable, Obser
         }
     }
 
+    /**
+     * Observer methods bucketed by the raw type of their observed type. An observer method observing a raw or parameterized type may only match an event
+     * whose type closure contains a type with the same raw type. Observer methods observing a type variable or an array type are not indexed and are
+     * considered for every event.
+     *
+     * <p>
+     * The index also summarizes the observed qualifiers of each bucket. Every qualifier type required by an observer method is assigned a bit (up to 64 of
+     * them) and each bucket holds the distinct bitmaps of its observer methods. An event whose qualifier bitmap does not cover any of these is not
+     * observed.
+     * </p>
+     */
+    private static class ObserverMethodIndex {
+
+        private static final long[] NO_QUALIFIERS_REQUIRED = new long[] { 0L };
+
+        private final Map<Class<?>, List<ObserverMethod<?>>> observersByRawType;
+        private final List<ObserverMethod<?>> unindexedObservers;
+        private final Map<Class<? extends Annotation>, Long> qualifierBits;
+        private final Map<Class<?>, long[]> qualifierBitmapsByRawType;
+        private final long[] unindexedQualifierBitmaps;
+        private final Map<ObserverMethod<?>, QualifierBitSet> observedQualifiers;
+        private final MetaAnnotationStore store;
+
+        private ObserverMethodIndex(Iterable<? extends ObserverMethod<?>> observers, MetaAnnotationStore store) {
+            Map<Class<?>, List<ObserverMethod<?>>> observersByRawType = new HashMap<Class<?>, List<ObserverMethod<?>>>();
+            List<ObserverMethod<?>> unindexedObservers = new ArrayList<ObserverMethod<?>>();
+            Map<Class<? extends Annotation>, Long> qualifierBits = new HashMap<Class<? extends Annotation>, Long>();
+            Map<Class<?>, Set<Long>> qualifierBitmapsByRawType = new HashMap<Class<?>, Set<Long>>();
+            Set<Long> unindexedQualifierBitmaps = new HashSet<Long>();
+            Map<ObserverMethod<?>, QualifierBitSet> observedQualifiers = new IdentityHashMap<ObserverMethod<?>, QualifierBitSet>();
+            for (ObserverMethod<?> observer : observers) {
+                observedQualifiers.put(observer, store.getQualifierBitSet(store.getQualifierInstances(observer.getObservedQualifiers())));
+                Class<?> rawType = getIndexedRawType(observer.getObservedType());
+                long qualifierBitmap = getQualifierBitmap(observer.getObservedQualifiers(), qualifierBits);
+                if (rawType == null) {
+                    unindexedObservers.add(observer);
+                    unindexedQualifierBitmaps.add(qualifierBitmap);
+                } else {
+                    observersByRawType.computeIfAbsent(rawType, (key) -> new ArrayList<ObserverMethod<?>>()).add(observer);
+                    qualifierBitmapsByRawType.computeIfAbsent(rawType, (key) -> new HashSet<Long>()).add(qualifierBitmap);
+                }
+            }
+            for (Map.Entry<Class<?>, List<ObserverMethod<?>>> entry : observersByRawType.entrySet()) {
+                entry.setValue(ImmutableList.copyOf(entry.getValue()));
+            }
+            Map<Class<?>, long[]> bitmaps = new HashMap<Class<?>, long[]>();
+            for (Map.Entry<Class<?>, Set<Long>> entry : qualifierBitmapsByRawType.entrySet()) {
+                bitmaps.put(entry.getKey(), toArray(entry.getValue()));
+            }
+            this.observersByRawType = observersByRawType;
+            this.unindexedObservers = ImmutableList.copyOf(unindexedObservers);
+            this.qualifierBits = qualifierBits;
+            this.qualifierBitmapsByRawType = bitmaps;
+            this.unindexedQualifierBitmaps = toArray(unindexedQualifierBitmaps);
+            this.observedQualifiers = observedQualifiers;
+            this.store = store;
+        }
+
+        private QualifierBitSet getObservedQualifiers(ObserverMethod<?> observer) {
+            QualifierBitSet qualifiers = observedQualifiers.get(observer);
+            if (qualifiers == null) {
+                // not indexed
+                qualifiers = store.getQualifierBitSet(store.getQualifierInstances(observer.getObservedQualifiers()));
+            }
+            return qualifiers;
+        }
+
+        private List<ObserverMethod<?>> getCandidates(Resolvable resolvable) {
+            List<ObserverMethod<?>> candidates = new ArrayList<ObserverMethod<?>>(unindexedObservers);
+            for (Type type : resolvable.getTypes()) {
+                Class<?> rawType = getIndexedRawType(type);
+                if (rawType != null) {
+                    List<ObserverMethod<?>> observers = observersByRawType.get(rawType);
+                    if (observers != null) {
+                        candidates.addAll(observers);
+                    }
+                }
+            }
+            return candidates;
+        }
+
+        private boolean isObserved(Set<Type> eventTypeClosure, long eventQualifierBitmap) {
+            if (covers(unindexedQualifierBitmaps, eventQualifierBitmap) || covers(qualifierBitmapsByRawType.get(Object.class), eventQualifierBitmap)) {
+                return true;
+            }
+            for (Type type : eventTypeClosure) {
+                Class<?> rawType = getIndexedRawType(type);
+                if (rawType != null && covers(qualifierBitmapsByRawType.get(rawType), eventQualifierBitmap)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean covers(long[] observedQualifierBitmaps, long eventQualifierBitmap) {
+            if (observedQualifierBitmaps != null) {
+                for (long observedQualifierBitmap : observedQualifierBitmaps) {
+                    if ((observedQualifierBitmap & ~eventQualifierBitmap) == 0L) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Every event has the {@link Any} qualifier so it is never required. Qualifier types that did not get a bit are not considered at all, which only
+         * makes the summary less precise.
+         */
+        private static long getQualifierBitmap(Set<Annotation> observedQualifiers, Map<Class<? extends Annotation>, Long> qualifierBits) {
+            long bitmap = 0L;
+            for (Annotation qualifier : observedQualifiers) {
+                Class<? extends Annotation> annotationType = qualifier.annotationType();
+                if (Any.class.equals(annotationType)) {
+                    continue;
+                }
+                Long bit = qualifierBits.get(annotationType);
+                if (bit == null && qualifierBits.size() < Long.SIZE) {
+                    bit = 1L << qualifierBits.size();
+                    qualifierBits.put(annotationType, bit);
+                }
+                if (bit != null) {
+                    bitmap |= bit;
+                }
+            }
+            return bitmap;
+        }
+
+        private static long[] toArray(Set<Long> bitmaps) {
+            if (bitmaps.contains(0L)) {
+                // an observer method without qualifiers covers every event
+                return NO_QUALIFIERS_REQUIRED;
+            }
+            return bitmaps.stream().mapToLong(Long::longValue).toArray();
+        }
+
+        /**
+         * Returns the raw type used as the index key for the given type or null if the type is not a raw or parameterized type.
+         */
+        private static Class<?> getIndexedRawType(Type type) {
+            Type boxedType = Types.boxedType(type);
+            if (boxedType instanceof Class<?>) {
+                Class<?> clazz = (Class<?>) boxedType;
+                return clazz.isArray() ? null : clazz;
+            }
+            if (boxedType instanceof ParameterizedType) {
+                return Reflections.getRawType(boxedType);
+            }
+            return null;
+        }
+    }
+
     private final MetaAnnotationStore metaAnnotationStore;
     private final AssignabilityRules rules;
+    // built lazily, as not all observer methods are known when the resolver is created. Calling clear() also clears the index
+    private final LazyValueHolder<ObserverMethodIndex> observerMethodIndex;
+    // incremented whenever the cached resolutions are reset
+    private volatile int generation;
 
-    public TypeSafeObserverResolver(MetaAnnotationStore metaAnnotationStore, Iterable<ObserverMethod<?>> observers, WeldConfiguration configuration) {
+    public TypeSafeObserverResolver(MetaAnnotationStore metaAnnotationStore, Iterable<ObserverMethod<?>> observers, WeldConfiguration configuration,
+            AssignabilityMemo assignabilityMemo) {
         super(observers, configuration);
         this.metaAnnotationStore = metaAnnotationStore;
-        this.rules = EventTypeAssignabilityRules.instance();
+        this.rules = assignabilityMemo.memoize(EventTypeAssignabilityRules.instance());
+        this.observerMethodIndex = LazyValueHolder.forSupplier(() -> new ObserverMethodIndex(getAllBeans(), metaAnnotationStore));
+    }
+
+    @Override
+    protected Iterable<? extends ObserverMethod<?>> getAllBeans(Resolvable resolvable) {
+        return observerMethodIndex.get().getCandidates(resolvable);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        observerMethodIndex.clear();
+        this.generation++;
+    }
+
+    /**
+     * Returns a number which changes whenever the cached resolutions are reset, e.g. because observer methods were added or removed at runtime, i.e.
+     * whenever the observer methods resolved before may no longer be valid.
+     *
+     * @return the current generation of resolutions
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Indicates whether an event with the given type closure and qualifiers may be observed by any observer method. This check is conservative: if it
+     * returns false, there is no observer method for the event and resolution may be skipped altogether. If it returns true, the event still needs to be
+     * resolved.
+     *
+     * <p>
+     * Qualifiers are not validated here. If a qualifier is not valid or the same qualifier type is used more than once, this method returns true so that
+     * the subsequent resolution reports the problem.
+     * </p>
+     *
+     * @param eventTypeClosure the type closure of the event type
+     * @param qualifiers the event qualifiers
+     * @return false if the event is not observed, true otherwise
+     */
+    public boolean isObserved(Set<Type> eventTypeClosure, Annotation... qualifiers) {
+        ObserverMethodIndex index = observerMethodIndex.get();
+        long qualifierBitmap = 0L;
+        for (int i = 0; i < qualifiers.length; i++) {
+            Class<? extends Annotation> annotationType = qualifiers[i].annotationType();
+            if (!metaAnnotationStore.getBindingTypeModel(annotationType).isValid()) {
+                return true;
+            }
+            for (int j = 0; j < i; j++) {
+                if (annotationType.equals(qualifiers[j].annotationType())) {
+                    return true;
+                }
+            }
+            Long bit = index.qualifierBits.get(annotationType);
+            if (bit != null) {
+                qualifierBitmap |= bit;
+            }
+        }
+        return index.isObserved(eventTypeClosure, qualifierBitmap);
     }
 
     @Override
@@ -71,7 +295,8 @@ public class TypeSafeObserverResolver extends TypeSafeResolver<Resolvable, Obser
         if (!rules.matches(observer.getObservedType(), resolvable.getTypes())) {
             return false;
         }
-        if (!Beans.containsAllQualifiers(QualifierInstance.of(observer.getObservedQualifiers(), metaAnnotationStore), resolvable.getQualifiers())) {
+        // the observed qualifiers are interned by the index so every qualifier an observer method may require is represented in the bit set of the event
+        if (!QualifierBitSet.of(resolvable, metaAnnotationStore).containsAll(observerMethodIndex.get().getObservedQualifiers(observer))) {
             return false;
         }
         if (observer instanceof ExtensionObserverMethodImpl<?, ?>) {
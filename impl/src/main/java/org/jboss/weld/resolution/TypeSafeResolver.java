@@ -23,6 +23,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
@@ -76,6 +77,13 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
         this.resolved.clear();
     }
 
+    /**
+     * Reset the cached resolutions of resolvables matching the given predicate
+     */
+    protected void invalidate(Predicate<? super R> predicate) {
+        this.resolved.invalidateIf(predicate);
+    }
+
     /**
      * Get the possible beans for the given element
      *
@@ -21,6 +21,7 @@ import static org.jboss.weld.util.reflection.Reflections.cast;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
@@ -35,6 +36,8 @@ import org.jboss.weld.annotated.slim.AnnotatedTypeIdentifier;
 import org.jboss.weld.annotated.slim.SlimAnnotatedType;
 import org.jboss.weld.annotated.slim.backed.BackedAnnotatedType;
 import org.jboss.weld.annotated.slim.unbacked.UnbackedAnnotatedType;
+import org.jboss.weld.bootstrap.BootstrapProfiler;
+import org.jboss.weld.bootstrap.BootstrapProfiler.Frame;
 import org.jboss.weld.bootstrap.api.BootstrapService;
 import org.jboss.weld.logging.BootstrapLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
@@ -80,16 +83,20 @@ public class ClassTransformer implements BootstrapService {
         public BackedAnnotatedType<?> apply(TypeHolder<?> typeHolder) {
             // make sure declaring class (if any) is loadable before loading this class
             Reflections.checkDeclaringClassLoadable(typeHolder.getRawType());
-            BackedAnnotatedType<?> type = BackedAnnotatedType.of(typeHolder.getRawType(), typeHolder.getBaseType(), cache,
-                    reflectionCache, contextId, typeHolder.getBdaId());
-            return updateLookupTable(type);
+            try (Frame frame = profiler.start(BootstrapProfiler.ANNOTATED_TYPE, typeHolder.getRawType().getName())) {
+                BackedAnnotatedType<?> type = BackedAnnotatedType.of(typeHolder.getRawType(), typeHolder.getBaseType(), cache,
+                        reflectionCache, contextId, typeHolder.getBdaId());
+                return updateLookupTable(type);
+            }
         }
     }
 
     private class TransformSlimAnnotatedTypeToEnhancedAnnotatedType implements Function<SlimAnnotatedType<?>, EnhancedAnnotatedType<?>> {
         @Override
         public EnhancedAnnotatedType<?> apply(SlimAnnotatedType<?> annotatedType) {
-            return EnhancedAnnotatedTypeImpl.of(annotatedType, ClassTransformer.this);
+            try (Frame frame = profiler.start(BootstrapProfiler.ENHANCED_ANNOTATED_TYPE, annotatedType.getJavaClass().getName())) {
+                return EnhancedAnnotatedTypeImpl.of(annotatedType, ClassTransformer.this);
+            }
         }
     }
 
@@ -152,8 +159,15 @@ public class ClassTransformer implements BootstrapService {
 
     private final String contextId;
 
+    private final BootstrapProfiler profiler;
+
     public ClassTransformer(TypeStore typeStore, SharedObjectCache cache, ReflectionCache reflectionCache, String contextId) {
+        this(typeStore, cache, reflectionCache, contextId, BootstrapProfiler.DISABLED);
+    }
+
+    public ClassTransformer(TypeStore typeStore, SharedObjectCache cache, ReflectionCache reflectionCache, String contextId, BootstrapProfiler profiler) {
         this.contextId = contextId;
+        this.profiler = profiler;
 
         ComputingCacheBuilder defaultBuilder = ComputingCacheBuilder.newBuilder();
         // if an AnnotatedType reference is not retained by a Bean we are not going to need it at runtime and can therefore drop
@@ -274,6 +288,19 @@ public class ClassTransformer implements BootstrapService {
         clearAnnotationData(annotation.getJavaClass());
     }
 
+    /**
+     * Discards the annotated types of the classes with the given names so that new versions of the classes can be transformed.
+     *
+     * For internal use only.
+     *
+     * @param classNames
+     */
+    public void disposeAnnotatedTypes(Set<String> classNames) {
+        slimAnnotatedTypesById.keySet().removeIf((identifier) -> classNames.contains(identifier.getClassName()));
+        backedAnnotatedTypes.invalidateIf((typeHolder) -> classNames.contains(typeHolder.getRawType().getName()));
+        enhancedAnnotatedTypes.invalidateIf((annotatedType) -> classNames.contains(annotatedType.getJavaClass().getName()));
+    }
+
     @Override
     public void cleanupAfterBoot() {
         this.enhancedAnnotatedTypes.clear();
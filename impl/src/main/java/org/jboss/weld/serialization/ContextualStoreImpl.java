@@ -18,9 +18,13 @@ package org.jboss.weld.serialization;
 
 import static org.jboss.weld.util.reflection.Reflections.cast;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.context.spi.CreationalContext;
@@ -38,6 +42,10 @@ import org.jboss.weld.util.reflection.Reflections;
 
 /**
  * Implementation of {@link org.jboss.weld.serialization.spi.ContextualStore}
+ * <p>
+ * Contextuals which are not passivation capable (e.g. the ones created for {@link javax.enterprise.inject.spi.InjectionTarget}s) are assigned a generated
+ * identifier. By default, these contextuals are held strongly for the lifetime of the container. If weak contextuals are enabled, they are only referenced
+ * weakly and their entries are evicted as soon as they are garbage collected.
  *
  * @author Pete Muir
  */
@@ -45,10 +53,10 @@ public class ContextualStoreImpl implements ContextualStore {
 
     private static final String GENERATED_ID_PREFIX = ContextualStoreImpl.class.getName();
 
-    // The map containing container-local contextuals
-    private final ConcurrentMap<Contextual<?>, BeanIdentifier> contextuals;
-    // Inverse mapping of container-local contextuals
-    private final ConcurrentMap<BeanIdentifier, Contextual<?>> contextualsInverse;
+    // The map containing container-local contextuals - the keys are either contextuals or ContextualReferences
+    private final ConcurrentMap<Object, BeanIdentifier> contextuals;
+    // Inverse mapping of container-local contextuals - the values are either contextuals or ContextualReferences
+    private final ConcurrentMap<BeanIdentifier, Object> contextualsInverse;
 
     // The map containing passivation capable contextuals
     private final ConcurrentMap<BeanIdentifier, Contextual<?>> passivationCapableContextuals;
@@ -59,13 +67,30 @@ public class ContextualStoreImpl implements ContextualStore {
 
     private final BeanIdentifierIndex beanIdentifierIndex;
 
+    // null unless container-local contextuals are held weakly
+    private final ReferenceQueue<Contextual<?>> queue;
+
+    private final AtomicLong evictedContextuals;
+
     public ContextualStoreImpl(String contextId, BeanIdentifierIndex beanIdentifierIndex) {
+        this(contextId, beanIdentifierIndex, false);
+    }
+
+    /**
+     *
+     * @param contextId
+     * @param beanIdentifierIndex
+     * @param weakContextuals if set to <code>true</code> the contextuals which are not passivation capable are only referenced weakly
+     */
+    public ContextualStoreImpl(String contextId, BeanIdentifierIndex beanIdentifierIndex, boolean weakContextuals) {
         this.contextId = contextId;
         this.beanIdentifierIndex = beanIdentifierIndex;
         this.idGenerator = new AtomicInteger(0);
-        this.contextuals = new ConcurrentHashMap<Contextual<?>, BeanIdentifier>();
-        this.contextualsInverse = new ConcurrentHashMap<BeanIdentifier, Contextual<?>>();
+        this.contextuals = new ConcurrentHashMap<Object, BeanIdentifier>();
+        this.contextualsInverse = new ConcurrentHashMap<BeanIdentifier, Object>();
         this.passivationCapableContextuals = new ConcurrentHashMap<BeanIdentifier, Contextual<?>>();
+        this.queue = weakContextuals ? new ReferenceQueue<Contextual<?>>() : null;
+        this.evictedContextuals = new AtomicLong();
     }
 
     /**
@@ -84,7 +109,12 @@ public class ContextualStoreImpl implements ContextualStore {
     @SuppressWarnings("unchecked")
     public <C extends Contextual<I>, I> C getContextual(BeanIdentifier identifier) {
         if (identifier.asString().startsWith(GENERATED_ID_PREFIX)) {
-            return (C) contextualsInverse.get(identifier);
+            expunge();
+            Object value = contextualsInverse.get(identifier);
+            if (value instanceof ContextualReference) {
+                return (C) ((ContextualReference) value).get();
+            }
+            return (C) value;
         } else {
             return (C) passivationCapableContextuals.get(identifier);
         }
@@ -114,16 +144,18 @@ public class ContextualStoreImpl implements ContextualStore {
             passivationCapableContextuals.putIfAbsent(identifier, contextual);
             return identifier;
         } else {
-            BeanIdentifier id = contextuals.get(contextual);
+            expunge();
+            BeanIdentifier id = contextuals.get(lookupKey(contextual));
             if (id != null) {
                 return id;
             } else {
                 synchronized (contextual) {
-                    id = contextuals.get(contextual);
+                    id = contextuals.get(lookupKey(contextual));
                     if (id == null) {
                         id = new StringBeanIdentifier(new StringBuilder().append(GENERATED_ID_PREFIX).append(idGenerator.incrementAndGet()).toString());
-                        contextuals.put(contextual, id);
-                        contextualsInverse.put(id, contextual);
+                        Object key = (queue != null) ? new ContextualReference(contextual, id, queue) : contextual;
+                        contextuals.put(key, id);
+                        contextualsInverse.put(id, key);
                     }
                     return id;
                 }
@@ -131,6 +163,71 @@ public class ContextualStoreImpl implements ContextualStore {
         }
     }
 
+    /**
+     * Remove a contextual from the store. Another contextual with the same id may be added afterwards.
+     *
+     * @param contextual the contextual to remove
+     */
+    public void remove(Contextual<?> contextual) {
+        if (contextual instanceof CommonBean<?>) {
+            passivationCapableContextuals.remove(((CommonBean<?>) contextual).getIdentifier(), contextual);
+        } else if (contextual instanceof PassivationCapable) {
+            passivationCapableContextuals.remove(new StringBeanIdentifier(((PassivationCapable) contextual).getId()), contextual);
+        } else {
+            expunge();
+            BeanIdentifier id = contextuals.remove(lookupKey(contextual));
+            if (id != null) {
+                contextualsInverse.remove(id);
+            }
+        }
+    }
+
+    /**
+     *
+     * @return the number of contextuals with a generated identifier currently held by the store
+     */
+    public int getContextualCount() {
+        expunge();
+        return contextuals.size();
+    }
+
+    /**
+     *
+     * @return the number of passivation capable contextuals currently held by the store
+     */
+    public int getPassivationCapableContextualCount() {
+        return passivationCapableContextuals.size();
+    }
+
+    /**
+     *
+     * @return the number of contextuals with a generated identifier which were evicted after being garbage collected
+     */
+    public long getEvictedContextualCount() {
+        expunge();
+        return evictedContextuals.get();
+    }
+
+    private Object lookupKey(Contextual<?> contextual) {
+        return (queue != null) ? new ContextualReference(contextual) : contextual;
+    }
+
+    /**
+     * Evicts the entries of the contextuals which have been garbage collected.
+     */
+    private void expunge() {
+        if (queue == null) {
+            return;
+        }
+        for (Reference<?> reference; (reference = queue.poll()) != null;) {
+            ContextualReference contextualReference = (ContextualReference) reference;
+            if (contextuals.remove(contextualReference) != null) {
+                contextualsInverse.remove(contextualReference.id, contextualReference);
+                evictedContextuals.incrementAndGet();
+            }
+        }
+    }
+
     public <C extends Contextual<I>, I> SerializableContextual<C, I> getSerializableContextual(Contextual<I> contextual) {
         if (contextual instanceof SerializableContextual<?, ?>) {
             return cast(contextual);
@@ -147,4 +244,44 @@ public class ContextualStoreImpl implements ContextualStore {
         contextualsInverse.clear();
         passivationCapableContextuals.clear();
     }
+
+    /**
+     * Weak reference to a container-local contextual which compares the referents using {@link Object#equals(Object)}. A cleared reference is only equal to
+     * itself.
+     */
+    private static final class ContextualReference extends WeakReference<Contextual<?>> {
+
+        private final BeanIdentifier id;
+        private final int hashCode;
+
+        private ContextualReference(Contextual<?> contextual, BeanIdentifier id, ReferenceQueue<Contextual<?>> queue) {
+            super(contextual, queue);
+            this.id = id;
+            this.hashCode = contextual.hashCode();
+        }
+
+        // lookup key
+        private ContextualReference(Contextual<?> contextual) {
+            super(contextual);
+            this.id = null;
+            this.hashCode = contextual.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ContextualReference)) {
+                return false;
+            }
+            Contextual<?> contextual = get();
+            return contextual != null && contextual.equals(((ContextualReference) obj).get());
+        }
+    }
 }
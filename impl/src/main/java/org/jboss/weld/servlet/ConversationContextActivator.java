@@ -16,14 +16,23 @@
  */
 package org.jboss.weld.servlet;
 
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.context.AbstractConversationContext;
 import org.jboss.weld.context.ConversationContext;
+import org.jboss.weld.context.ManagedConversation;
+import org.jboss.weld.context.conversation.ConversationImpl;
 import org.jboss.weld.context.http.HttpConversationContext;
+import org.jboss.weld.context.http.HttpConversationContextImpl;
 import org.jboss.weld.context.http.LazyHttpConversationContextImpl;
 import org.jboss.weld.event.FastEvent;
 import org.jboss.weld.literal.DestroyedLiteral;
@@ -50,6 +59,8 @@ public class ConversationContextActivator {
 
     private static final String CONTEXT_ACTIVATED_IN_REQUEST = ConversationContextActivator.class.getName() + "CONTEXT_ACTIVATED_IN_REQUEST";
 
+    private static final String ASYNC_ACQUISITION_DEADLINE = ConversationContextActivator.class.getName() + "ASYNC_ACQUISITION_DEADLINE";
+
     private final BeanManagerImpl beanManager;
     private HttpConversationContext httpConversationContextCache;
 
@@ -60,8 +71,12 @@ public class ConversationContextActivator {
 
     private final boolean lazy;
 
+    private final boolean asyncAcquisition;
+
     protected ConversationContextActivator(BeanManagerImpl beanManager, boolean lazy) {
         this.beanManager = beanManager;
+        this.asyncAcquisition = beanManager.getServices().get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.CONVERSATION_ASYNC_ACQUISITION)
+                && beanManager.getServices().get(ServletApiAbstraction.class).isAsyncSupported();
         conversationInitializedEvent = FastEvent.of(HttpServletRequest.class, beanManager, InitializedLiteral.CONVERSATION);
         conversationDestroyedEvent = FastEvent.of(HttpServletRequest.class, beanManager, DestroyedLiteral.CONVERSATION);
         lazyInitializationCallback = lazy ? conversationInitializedEvent::fire : null;
@@ -85,6 +100,54 @@ public class ConversationContextActivator {
 
     }
 
+    /**
+     * If the asynchronous acquisition is enabled and the given request refers to a long-running conversation which is currently locked, the request is put
+     * into asynchronous mode and dispatched again once the conversation is released (or the concurrent access timeout expires). No thread is held while the
+     * request is waiting.
+     *
+     * @param request
+     * @return <code>true</code> if the request was suspended and should not be processed any further, <code>false</code> otherwise
+     * @see ConfigurationKey#CONVERSATION_ASYNC_ACQUISITION
+     */
+    public boolean suspendIfConversationLocked(HttpServletRequest request) {
+        if (!asyncAcquisition || !request.isAsyncSupported() || request.isAsyncStarted()) {
+            return false;
+        }
+        HttpConversationContext conversationContext = httpConversationContext();
+        if (!(conversationContext instanceof HttpConversationContextImpl)) {
+            return false;
+        }
+        String cid = determineConversationId(request, conversationContext.getParameterName());
+        if (cid == null || cid.isEmpty()) {
+            return false;
+        }
+        // Do not associate the context - the request may not be processed by this thread any further
+        ManagedConversation conversation = ((HttpConversationContextImpl) conversationContext).getConversationFromSession(request, cid);
+        if (!(conversation instanceof ConversationImpl) || !((ConversationImpl) conversation).isLocked()) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        Long deadline = (Long) request.getAttribute(ASYNC_ACQUISITION_DEADLINE);
+        if (deadline == null) {
+            deadline = now + conversationContext.getConcurrentAccessTimeout();
+            request.setAttribute(ASYNC_ACQUISITION_DEADLINE, deadline);
+        }
+        if (deadline <= now) {
+            // Timeout expired - fall back to the blocking acquisition which fails with BusyConversationException if still locked
+            return false;
+        }
+        ConversationLogger.LOG.suspendingRequestForLockedConversation(conversation, request);
+        AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(deadline - now);
+        ConversationResumer resumer = new ConversationResumer(asyncContext);
+        asyncContext.addListener(resumer);
+        if (!((ConversationImpl) conversation).notifyWhenUnlocked(resumer)) {
+            // Released in the meantime
+            resumer.run();
+        }
+        return true;
+    }
+
     // Conversation handling
 
     protected void activateConversationContext(HttpServletRequest request) {
@@ -204,4 +267,46 @@ public class ConversationContextActivator {
         ConversationLogger.LOG.foundConversationFromRequest(cid);
         return cid;
     }
+
+    /**
+     * Dispatches a suspended request exactly once - either when the conversation is released or when the asynchronous operation times out.
+     */
+    private static class ConversationResumer implements Runnable, AsyncListener {
+
+        private final AsyncContext asyncContext;
+
+        private final AtomicBoolean resumed;
+
+        ConversationResumer(AsyncContext asyncContext) {
+            this.asyncContext = asyncContext;
+            this.resumed = new AtomicBoolean(false);
+        }
+
+        @Override
+        public void run() {
+            if (resumed.compareAndSet(false, true)) {
+                ConversationLogger.LOG.resumingSuspendedRequest(asyncContext.getRequest());
+                asyncContext.dispatch();
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            resumed.set(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            resumed.set(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
 }
@@ -65,6 +65,10 @@ public class ConversationFilter implements Filter {
             HttpServletRequest httpRequest = (HttpServletRequest) request;
 
             if (contextActivationFilter.accepts(httpRequest)) {
+                if (conversationContextActivator.suspendIfConversationLocked(httpRequest)) {
+                    // The request is dispatched again once the conversation is released
+                    return;
+                }
                 conversationContextActivator.startConversationContext(httpRequest);
             }
             chain.doFilter(request, response);
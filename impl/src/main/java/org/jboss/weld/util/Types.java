@@ -31,6 +31,7 @@ import org.jboss.weld.util.collections.ImmutableSet;
 import org.jboss.weld.util.reflection.GenericArrayTypeImpl;
 import org.jboss.weld.util.reflection.ParameterizedTypeImpl;
 import org.jboss.weld.util.reflection.Reflections;
+import org.jboss.weld.util.reflection.TypeInterner;
 
 /**
  * Utility class for Types
@@ -130,12 +131,12 @@ public class Types {
             if (componentType != resolvedComponentType) {
                 // identity check intentional
                 // a different identity means that we actually replaced the component Class with a ParameterizedType
-                return new GenericArrayTypeImpl(resolvedComponentType);
+                return TypeInterner.intern(new GenericArrayTypeImpl(resolvedComponentType));
             }
         }
         if (clazz.getTypeParameters().length > 0) {
             Type[] actualTypeParameters = clazz.getTypeParameters();
-            return new ParameterizedTypeImpl(clazz, actualTypeParameters, clazz.getDeclaringClass());
+            return TypeInterner.intern(new ParameterizedTypeImpl(clazz, actualTypeParameters, clazz.getDeclaringClass()));
         }
         return clazz;
     }
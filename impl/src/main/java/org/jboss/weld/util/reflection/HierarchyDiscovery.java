@@ -92,7 +92,11 @@ public class HierarchyDiscovery {
         this.resolver = resolver;
         this.resolvedTypeVariables = resolver.getResolvedTypeVariables();
         discoverTypes(type, false);
-        this.typeClosure = ImmutableSet.copyOf(types.values());
+        ImmutableSet.Builder<Type> typeClosure = ImmutableSet.builder();
+        for (Type discoveredType : types.values()) {
+            typeClosure.add(TypeInterner.intern(discoveredType));
+        }
+        this.typeClosure = typeClosure.build();
     }
 
     public Set<Type> getTypeClosure() {
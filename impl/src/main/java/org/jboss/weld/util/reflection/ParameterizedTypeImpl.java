@@ -32,6 +32,7 @@ public class ParameterizedTypeImpl implements ParameterizedType, Serializable {
     private final Type[] actualTypeArguments;
     private final Type rawType;
     private final Type ownerType;
+    private final int hashCode;
 
     @SuppressWarnings("EI_EXPOSE_REP")
     public ParameterizedTypeImpl(Type rawType, Type... actualTypeArguments) {
@@ -43,6 +44,8 @@ public class ParameterizedTypeImpl implements ParameterizedType, Serializable {
         this.actualTypeArguments = actualTypeArguments;
         this.rawType = rawType;
         this.ownerType = ownerType;
+        // the type is immutable, compute the hash code eagerly as parameterized types are frequently used as map keys
+        this.hashCode = Arrays.hashCode(actualTypeArguments) ^ (ownerType == null ? 0 : ownerType.hashCode()) ^ (rawType == null ? 0 : rawType.hashCode());
     }
 
     public Type[] getActualTypeArguments() {
@@ -59,7 +62,7 @@ public class ParameterizedTypeImpl implements ParameterizedType, Serializable {
 
     @Override
     public int hashCode() {
-        return Arrays.hashCode(actualTypeArguments) ^ (ownerType == null ? 0 : ownerType.hashCode()) ^ (rawType == null ? 0 : rawType.hashCode());
+        return hashCode;
     }
 
     @Override
@@ -0,0 +1,79 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.reflection;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Canonicalizes {@link ParameterizedType} and {@link GenericArrayType} instances so that equal types are represented by a single instance. Types created
+ * during hierarchy discovery and type variable resolution are interned so that equality checks of equal types mostly short-circuit on identity.
+ * <p>
+ * The interner is shared by all containers. Types are only referenced weakly so that interning does not prevent classes from being unloaded. The table is
+ * striped to limit contention during concurrent deployment.
+ */
+public final class TypeInterner {
+
+    private static final int STRIPES = 16;
+
+    private static final Stripe[] TABLE = new Stripe[STRIPES];
+
+    static {
+        for (int i = 0; i < STRIPES; i++) {
+            TABLE[i] = new Stripe();
+        }
+    }
+
+    private TypeInterner() {
+    }
+
+    /**
+     * Returns the canonical instance of the given type. Classes and type variables are returned as is.
+     *
+     * @param type the type to intern
+     * @return the canonical instance equal to the given type
+     */
+    public static Type intern(Type type) {
+        if (!(type instanceof ParameterizedType) && !(type instanceof GenericArrayType)) {
+            return type;
+        }
+        int hash = type.hashCode();
+        return TABLE[(hash ^ (hash >>> 16)) & (STRIPES - 1)].intern(type);
+    }
+
+    private static final class Stripe {
+
+        private final Map<Type, WeakReference<Type>> types = new WeakHashMap<Type, WeakReference<Type>>();
+
+        private synchronized Type intern(Type type) {
+            WeakReference<Type> reference = types.get(type);
+            if (reference != null) {
+                Type canonical = reference.get();
+                if (canonical != null) {
+                    return canonical;
+                }
+            }
+            // the value must not reference the key strongly
+            types.put(type, new WeakReference<Type>(type));
+            return type;
+        }
+    }
+}
@@ -73,7 +73,10 @@ public class TypeResolver {
         }
 
         if (modified) {
-            return new ParameterizedTypeImpl(type.getRawType(), resolvedTypeArguments, type.getOwnerType());
+            for (int i = 0; i < resolvedTypeArguments.length; i++) {
+                resolvedTypeArguments[i] = TypeInterner.intern(resolvedTypeArguments[i]);
+            }
+            return TypeInterner.intern(new ParameterizedTypeImpl(type.getRawType(), resolvedTypeArguments, type.getOwnerType()));
         } else {
             return type;
         }
@@ -108,7 +111,7 @@ public class TypeResolver {
         if (resolvedType == genericComponentType) {
             return type;
         } else {
-            return new GenericArrayTypeImpl(resolvedType);
+            return TypeInterner.intern(new GenericArrayTypeImpl(TypeInterner.intern(resolvedType)));
         }
     }
 
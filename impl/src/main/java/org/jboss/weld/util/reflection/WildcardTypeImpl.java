@@ -18,6 +18,7 @@ package org.jboss.weld.util.reflection;
 
 import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
+import java.util.Arrays;
 
 /**
  * Implementation of {@link WildcardType}.
@@ -62,4 +63,22 @@ public class WildcardTypeImpl implements WildcardType {
     public Type[] getLowerBounds() {
         return lowerBound;
     }
+
+    @Override
+    public int hashCode() {
+        // consistent with the JDK implementation
+        return Arrays.hashCode(lowerBound) ^ Arrays.hashCode(upperBound);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof WildcardType) {
+            WildcardType that = (WildcardType) obj;
+            return Arrays.equals(lowerBound, that.getLowerBounds()) && Arrays.equals(upperBound, that.getUpperBounds());
+        }
+        return false;
+    }
 }
@@ -0,0 +1,86 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.reflection.clazz;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.enterprise.inject.spi.AnnotatedType;
+
+import org.jboss.weld.annotated.slim.AnnotatedTypeIdentifier;
+import org.jboss.weld.annotated.slim.backed.BackedAnnotatedType;
+import org.jboss.weld.annotated.slim.unbacked.UnbackedAnnotatedType;
+import org.jboss.weld.bootstrap.api.helpers.RegistrySingletonProvider;
+import org.jboss.weld.metadata.TypeStore;
+import org.jboss.weld.resources.ClassTransformer;
+import org.jboss.weld.resources.ReflectionCacheFactory;
+import org.jboss.weld.resources.SharedObjectCache;
+import org.jboss.weld.util.annotated.ForwardingAnnotatedType;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unbacked annotated types are retained for the whole lifetime of the application. Verifies that the metadata of equivalent types is shared instead of
+ * being retained once per type.
+ */
+public class UnbackedAnnotatedTypeSharingTest {
+
+    private final TypeStore typeStore = new TypeStore();
+    private final ClassTransformer transformer = new ClassTransformer(typeStore, new SharedObjectCache(), ReflectionCacheFactory.newInstance(typeStore), RegistrySingletonProvider.STATIC_INSTANCE);
+
+    @Test
+    public void testTypeClosureAndAnnotationsShared() {
+        BackedAnnotatedType<Order> backedType = transformer.getBackedAnnotatedType(Order.class, AnnotatedTypeIdentifier.NULL_BDA_ID);
+        UnbackedAnnotatedType<Order> first = transformer.getUnbackedAnnotatedType(new CopyingAnnotatedType<Order>(backedType), AnnotatedTypeIdentifier.NULL_BDA_ID, "first");
+        UnbackedAnnotatedType<Order> second = transformer.getUnbackedAnnotatedType(new CopyingAnnotatedType<Order>(backedType), AnnotatedTypeIdentifier.NULL_BDA_ID, "second");
+
+        Assert.assertEquals(backedType.getTypeClosure(), first.getTypeClosure());
+        Assert.assertEquals(backedType.getAnnotations(), first.getAnnotations());
+        Assert.assertSame(first.getTypeClosure(), second.getTypeClosure());
+        Assert.assertSame(first.getAnnotations(), second.getAnnotations());
+        Assert.assertTrue(first.isAnnotationPresent(Random.class));
+    }
+
+    /**
+     * Returns a new copy of the type closure and annotations each time, e.g. like an extension which builds the metadata on the fly.
+     */
+    private static class CopyingAnnotatedType<X> extends ForwardingAnnotatedType<X> {
+
+        private final AnnotatedType<X> delegate;
+
+        private CopyingAnnotatedType(AnnotatedType<X> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public AnnotatedType<X> delegate() {
+            return delegate;
+        }
+
+        @Override
+        public Set<Type> getTypeClosure() {
+            return new HashSet<Type>(delegate.getTypeClosure());
+        }
+
+        @Override
+        public Set<Annotation> getAnnotations() {
+            return new HashSet<Annotation>(delegate.getAnnotations());
+        }
+    }
+}
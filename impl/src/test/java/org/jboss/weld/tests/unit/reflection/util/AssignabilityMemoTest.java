@@ -0,0 +1,91 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.reflection.util;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import javax.enterprise.util.TypeLiteral;
+
+import org.jboss.weld.resolution.AssignabilityMemo;
+import org.jboss.weld.resolution.AssignabilityRules;
+import org.jboss.weld.resolution.BeanTypeAssignabilityRules;
+import org.jboss.weld.resolution.EventTypeAssignabilityRules;
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("serial")
+public class AssignabilityMemoTest {
+
+    @Test
+    public void testRepeatedDecisionsMemoized() {
+        AssignabilityMemo memo = new AssignabilityMemo();
+        AssignabilityRules rules = memo.memoize(BeanTypeAssignabilityRules.instance());
+        Type required = new TypeLiteral<Foo<? extends Number>>() {
+        }.getType();
+        Set<Type> beanTypes = Collections.<Type> singleton(new TypeLiteral<Foo<Integer>>() {
+        }.getType());
+        Assert.assertTrue(rules.matches(required, beanTypes));
+        Assert.assertEquals(0, memo.getHits());
+        Assert.assertEquals(1, memo.getMisses());
+        Assert.assertTrue(rules.matches(required, beanTypes));
+        Assert.assertEquals(1, memo.getHits());
+        Assert.assertEquals(1, memo.getMisses());
+        Assert.assertEquals(1, memo.getSize());
+        memo.cleanup();
+        Assert.assertEquals(0, memo.getSize());
+    }
+
+    @Test
+    public void testClassesNotMemoized() {
+        AssignabilityMemo memo = new AssignabilityMemo();
+        Assert.assertTrue(memo.memoize(BeanTypeAssignabilityRules.instance()).matches(Integer.class, Collections.<Type> singleton(Integer.class)));
+        Assert.assertEquals(0, memo.getMisses());
+        Assert.assertEquals(0, memo.getSize());
+    }
+
+    @Test
+    public void testDecisionsOfRuleSetsKeptApart() {
+        AssignabilityMemo memo = new AssignabilityMemo();
+        AssignabilityRules beanTypeRules = memo.memoize(BeanTypeAssignabilityRules.instance());
+        AssignabilityRules eventTypeRules = memo.memoize(EventTypeAssignabilityRules.instance());
+        // a raw required type matches a parameterized bean type, a raw observed type does not match a parameterized event type
+        Type raw = List.class;
+        Set<Type> parameterized = Collections.<Type> singleton(new TypeLiteral<List<String>>() {
+        }.getType());
+        for (int i = 0; i < 2; i++) {
+            Assert.assertFalse(beanTypeRules.matches(raw, parameterized));
+            Assert.assertTrue(eventTypeRules.matches(raw, parameterized));
+        }
+        Assert.assertEquals(2, memo.getSize());
+    }
+
+    @Test
+    public void testMemosIndependent() {
+        AssignabilityMemo memo = new AssignabilityMemo();
+        AssignabilityMemo other = new AssignabilityMemo();
+        Type required = new TypeLiteral<Foo<? extends Number>>() {
+        }.getType();
+        Set<Type> beanTypes = Collections.<Type> singleton(new TypeLiteral<Foo<Integer>>() {
+        }.getType());
+        memo.memoize(BeanTypeAssignabilityRules.instance()).matches(required, beanTypes);
+        Assert.assertEquals(1, memo.getSize());
+        Assert.assertEquals(0, other.getSize());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.resolution;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.weld.bootstrap.api.helpers.RegistrySingletonProvider;
+import org.jboss.weld.literal.NamedLiteral;
+import org.jboss.weld.metadata.TypeStore;
+import org.jboss.weld.metadata.cache.MetaAnnotationStore;
+import org.jboss.weld.resolution.QualifierBitSet;
+import org.jboss.weld.resolution.QualifierInstance;
+import org.jboss.weld.resources.ClassTransformer;
+import org.jboss.weld.resources.ReflectionCacheFactory;
+import org.jboss.weld.resources.SharedObjectCache;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class QualifierBitSetTest {
+
+    private final TypeStore typeStore = new TypeStore();
+    private final ClassTransformer transformer = new ClassTransformer(typeStore, new SharedObjectCache(), ReflectionCacheFactory.newInstance(typeStore), RegistrySingletonProvider.STATIC_INSTANCE);
+    private final MetaAnnotationStore store = new MetaAnnotationStore(transformer);
+
+    @Test
+    public void testContainsAll() {
+        QualifierBitSet bean = store.getQualifierBitSet(qualifiers(QualifierInstance.ANY, named("foo")));
+        Assert.assertTrue(bean.isComplete());
+        Assert.assertTrue(bean.containsAll(QualifierBitSet.EMPTY));
+        Assert.assertTrue(bean.containsAll(store.findQualifierBitSet(qualifiers(named("foo")))));
+        Assert.assertTrue(bean.containsAll(store.findQualifierBitSet(qualifiers(QualifierInstance.ANY, named("foo")))));
+        Assert.assertFalse(store.findQualifierBitSet(qualifiers(QualifierInstance.ANY)).containsAll(bean));
+    }
+
+    @Test
+    public void testQualifierNotInterned() {
+        store.getQualifierBitSet(qualifiers(QualifierInstance.ANY));
+        QualifierBitSet required = store.findQualifierBitSet(qualifiers(QualifierInstance.ANY, named("bar")));
+        Assert.assertFalse(required.isComplete());
+        // looking up does not intern the qualifier
+        Assert.assertFalse(store.findQualifierBitSet(qualifiers(named("bar"))).isComplete());
+        store.getQualifierBitSet(qualifiers(named("bar")));
+        Assert.assertTrue(store.findQualifierBitSet(qualifiers(QualifierInstance.ANY, named("bar"))).isComplete());
+    }
+
+    @Test
+    public void testMoreThanSixtyFourQualifiers() {
+        List<QualifierInstance> instances = new ArrayList<QualifierInstance>();
+        for (int i = 0; i < 150; i++) {
+            instances.add(named("q" + i));
+        }
+        QualifierBitSet all = store.getQualifierBitSet(new HashSet<QualifierInstance>(instances));
+        QualifierBitSet last = store.findQualifierBitSet(qualifiers(instances.get(149)));
+        QualifierBitSet first = store.findQualifierBitSet(qualifiers(instances.get(0)));
+        Assert.assertTrue(all.containsAll(last));
+        Assert.assertTrue(all.containsAll(first));
+        Assert.assertFalse(first.containsAll(last));
+        Assert.assertFalse(last.containsAll(first));
+        Assert.assertFalse(first.containsAll(all));
+    }
+
+    private static QualifierInstance named(String value) {
+        return QualifierInstance.of(new NamedLiteral(value), null);
+    }
+
+    private static Set<QualifierInstance> qualifiers(QualifierInstance... instances) {
+        Set<QualifierInstance> result = new HashSet<QualifierInstance>();
+        Collections.addAll(result, instances);
+        return result;
+    }
+}
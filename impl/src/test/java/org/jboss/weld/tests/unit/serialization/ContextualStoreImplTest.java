@@ -0,0 +1,71 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.serialization;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.context.spi.CreationalContext;
+
+import org.jboss.weld.serialization.BeanIdentifierIndex;
+import org.jboss.weld.serialization.ContextualStoreImpl;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.junit.Test;
+
+public class ContextualStoreImplTest {
+
+    @Test
+    public void testWeakContextuals() {
+        ContextualStoreImpl store = new ContextualStoreImpl("foo", new BeanIdentifierIndex(), true);
+        Contextual<Object> contextual = new DummyContextual();
+        BeanIdentifier id = store.putIfAbsent(contextual);
+        assertEquals(id, store.putIfAbsent(contextual));
+        assertSame(contextual, store.getContextual(id));
+        assertEquals(1, store.getContextualCount());
+        store.remove(contextual);
+        assertNull(store.getContextual(id));
+        assertEquals(0, store.getContextualCount());
+        assertEquals(0, store.getEvictedContextualCount());
+    }
+
+    @Test
+    public void testCollectedContextualEvicted() throws InterruptedException {
+        ContextualStoreImpl store = new ContextualStoreImpl("foo", new BeanIdentifierIndex(), true);
+        BeanIdentifier id = store.putIfAbsent(new DummyContextual());
+        for (int i = 0; i < 50 && store.getEvictedContextualCount() == 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(1, store.getEvictedContextualCount());
+        assertEquals(0, store.getContextualCount());
+        assertNull(store.getContextual(id));
+    }
+
+    private static class DummyContextual implements Contextual<Object> {
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            return new Object();
+        }
+
+        @Override
+        public void destroy(Object instance, CreationalContext<Object> creationalContext) {
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.weld.context.cache.RequestScopedCache;
+import org.jboss.weld.injection.ThreadLocalStack;
+import org.jboss.weld.injection.ThreadLocalStack.ThreadLocalStackReference;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ThreadLocalStackTest {
+
+    @Test
+    public void testPeekOnEmptyStack() {
+        ThreadLocalStack<String> stack = new ThreadLocalStack<String>();
+        Assert.assertNull(stack.peek());
+        Assert.assertNull(stack.peek());
+    }
+
+    @Test
+    public void testNestedPushAndPop() {
+        ThreadLocalStack<Integer> stack = new ThreadLocalStack<Integer>();
+        List<ThreadLocalStackReference<Integer>> references = new ArrayList<ThreadLocalStackReference<Integer>>();
+        // exceed the initial capacity
+        for (int i = 0; i < 20; i++) {
+            references.add(stack.push(i));
+            Assert.assertEquals(Integer.valueOf(i), stack.peek());
+        }
+        for (int i = 19; i >= 0; i--) {
+            Assert.assertEquals(Integer.valueOf(i), references.get(i).pop());
+            Assert.assertEquals(i == 0 ? null : Integer.valueOf(i - 1), stack.peek());
+        }
+        // the stack is removed once empty and a new one is created by the next push
+        ThreadLocalStackReference<Integer> reference = stack.push(100);
+        Assert.assertEquals(Integer.valueOf(100), stack.peek());
+        Assert.assertEquals(Integer.valueOf(100), reference.pop());
+        Assert.assertNull(stack.peek());
+    }
+
+    @Test
+    public void testStackKeptUntilEndOfRequest() {
+        ThreadLocalStack<String> stack = new ThreadLocalStack<String>();
+        RequestScopedCache.beginRequest();
+        try {
+            ThreadLocalStackReference<String> first = stack.push("foo");
+            Assert.assertEquals("foo", first.pop());
+            ThreadLocalStackReference<String> second = stack.push("bar");
+            // the same stack is reused within the request
+            Assert.assertSame(first, second);
+            Assert.assertEquals("bar", second.pop());
+        } finally {
+            RequestScopedCache.endRequest();
+        }
+        Assert.assertNull(stack.peek());
+    }
+}
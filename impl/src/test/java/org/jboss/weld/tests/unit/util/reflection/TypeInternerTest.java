@@ -0,0 +1,80 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.util.reflection;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.enterprise.util.TypeLiteral;
+
+import org.jboss.weld.util.reflection.GenericArrayTypeImpl;
+import org.jboss.weld.util.reflection.HierarchyDiscovery;
+import org.jboss.weld.util.reflection.ParameterizedTypeImpl;
+import org.jboss.weld.util.reflection.TypeInterner;
+import org.jboss.weld.util.reflection.WildcardTypeImpl;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TypeInternerTest {
+
+    @Test
+    public void testEqualTypesInterned() {
+        Type first = new ParameterizedTypeImpl(Map.class, new Type[] { String.class, Integer.class }, null);
+        Type second = new ParameterizedTypeImpl(Map.class, new Type[] { String.class, Integer.class }, null);
+        Assert.assertNotSame(first, second);
+        Assert.assertSame(TypeInterner.intern(first), TypeInterner.intern(second));
+        Type array = new GenericArrayTypeImpl(List.class, String.class);
+        Assert.assertSame(TypeInterner.intern(array), TypeInterner.intern(new GenericArrayTypeImpl(List.class, String.class)));
+    }
+
+    @Test
+    public void testClassesNotInterned() {
+        Assert.assertSame(String.class, TypeInterner.intern(String.class));
+    }
+
+    @Test
+    public void testResolvedTypeClosureInterned() {
+        Type stringList = new TypeLiteral<ArrayList<String>>() {
+        }.getType();
+        Type first = findList(new HierarchyDiscovery(stringList).getTypeClosure());
+        Type second = findList(new HierarchyDiscovery(stringList).getTypeClosure());
+        Assert.assertEquals(new ParameterizedTypeImpl(List.class, new Type[] { String.class }, null), first);
+        Assert.assertSame(first, second);
+    }
+
+    @Test
+    public void testWildcardEquality() {
+        Type wildcard = ((ParameterizedType) new TypeLiteral<List<? extends Number>>() {
+        }.getType()).getActualTypeArguments()[0];
+        Assert.assertEquals(wildcard, WildcardTypeImpl.withUpperBound(Number.class));
+        Assert.assertEquals(WildcardTypeImpl.withUpperBound(Number.class), wildcard);
+        Assert.assertEquals(wildcard.hashCode(), WildcardTypeImpl.withUpperBound(Number.class).hashCode());
+        Assert.assertFalse(WildcardTypeImpl.withUpperBound(Number.class).equals(WildcardTypeImpl.withLowerBound(Number.class)));
+    }
+
+    private static Type findList(Iterable<Type> types) {
+        for (Type type : types) {
+            if (type instanceof ParameterizedType && List.class.equals(((ParameterizedType) type).getRawType())) {
+                return type;
+            }
+        }
+        throw new AssertionError("List not found in " + types);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.decorators.direct;
+
+import static org.junit.Assert.assertEquals;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.junit.Test;
+
+/**
+ * A chain of three decorators: {@link BracketDecorator} (field-injected delegate), {@link ExclaimingDecorator} (abstract, initializer-injected delegate)
+ * and {@link UpperCaseDecorator}. The same behavior is expected regardless of the direct invocation mode.
+ */
+public abstract class AbstractDecoratorChainTest {
+
+    static BeanArchive createBeanArchive() {
+        return ShrinkWrap.create(BeanArchive.class).decorate(BracketDecorator.class, ExclaimingDecorator.class, UpperCaseDecorator.class).addClasses(
+                Greeter.class, GreeterImpl.class, BracketDecorator.class, ExclaimingDecorator.class, UpperCaseDecorator.class, AbstractDecoratorChainTest.class);
+    }
+
+    @Inject
+    Greeter greeter;
+
+    @Test
+    public void testDecoratorChain() {
+        assertEquals("[HELLO JOE!]", greeter.greet("Joe"));
+        assertEquals("[HELLO JANE!]", greeter.greet("Jane"));
+    }
+
+    @Test
+    public void testMethodNotDecoratedByAbstractDecorator() {
+        // ExclaimingDecorator does not implement getCount() - the invocation is passed to the next delegate
+        greeter.greet("Joe");
+        assertEquals(10, greeter.getCount());
+    }
+
+}
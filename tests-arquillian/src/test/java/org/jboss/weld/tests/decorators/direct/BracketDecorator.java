@@ -0,0 +1,46 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.decorators.direct;
+
+import javax.decorator.Decorator;
+import javax.decorator.Delegate;
+import javax.inject.Inject;
+
+/**
+ * The outermost decorator - the delegate is injected into a field.
+ */
+@Decorator
+public class BracketDecorator implements Greeter {
+
+    static volatile Class<?> delegateClass;
+
+    @Inject
+    @Delegate
+    Greeter delegate;
+
+    @Override
+    public String greet(String name) {
+        delegateClass = delegate.getClass();
+        return "[" + delegate.greet(name) + "]";
+    }
+
+    @Override
+    public int getCount() {
+        return delegate.getCount();
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.decorators.direct;
+
+import static org.junit.Assert.assertTrue;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.weld.bean.proxy.DecoratorDelegateProxy;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.tests.util.PropertiesBuilder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests {@link ConfigurationKey#DECORATOR_DIRECT_INVOCATION}.
+ */
+@RunWith(Arquillian.class)
+public class DecoratorDirectInvocationTest extends AbstractDecoratorChainTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return createBeanArchive().addClasses(DecoratorDirectInvocationTest.class, PropertiesBuilder.class)
+                .addAsResource(PropertiesBuilder.newBuilder().set(ConfigurationKey.DECORATOR_DIRECT_INVOCATION.get(), "true").build(), "weld.properties");
+    }
+
+    @Test
+    public void testGeneratedDelegateProxyUsed() {
+        greeter.greet("Joe");
+        assertTrue(DecoratorDelegateProxy.class.isAssignableFrom(BracketDecorator.delegateClass));
+    }
+
+}
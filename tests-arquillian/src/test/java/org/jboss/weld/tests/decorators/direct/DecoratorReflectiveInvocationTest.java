@@ -0,0 +1,42 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.decorators.direct;
+
+import static org.junit.Assert.assertFalse;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.weld.bean.proxy.DecoratorDelegateProxy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class DecoratorReflectiveInvocationTest extends AbstractDecoratorChainTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return createBeanArchive().addClass(DecoratorReflectiveInvocationTest.class);
+    }
+
+    @Test
+    public void testDefaultDelegateProxyUsed() {
+        greeter.greet("Joe");
+        assertFalse(DecoratorDelegateProxy.class.isAssignableFrom(BracketDecorator.delegateClass));
+    }
+
+}
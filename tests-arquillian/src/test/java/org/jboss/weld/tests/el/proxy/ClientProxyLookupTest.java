@@ -0,0 +1,82 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.el.proxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import javax.el.ELContext;
+import javax.el.ExpressionFactory;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.weld.bean.proxy.ProxyFactory;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.test.util.el.EL;
+import org.jboss.weld.tests.util.PropertiesBuilder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests {@link ConfigurationKey#EL_CLIENT_PROXY_LOOKUP}.
+ */
+@RunWith(Arquillian.class)
+public class ClientProxyLookupTest {
+
+    @Deployment
+    public static JavaArchive createDeployment() {
+        return ShrinkWrap.create(BeanArchive.class).addClasses(Counter.class, Label.class, EL.class, PropertiesBuilder.class)
+                .addPackages(true, ExpressionFactory.class.getPackage())
+                .addAsResource(PropertiesBuilder.newBuilder().set(ConfigurationKey.EL_CLIENT_PROXY_LOOKUP.get(), "true").build(), "weld.properties");
+    }
+
+    @Inject
+    private BeanManagerImpl beanManager;
+
+    @Inject
+    private Counter injectedCounter;
+
+    @Test
+    public void testClientProxyReturned() {
+        ELContext elContext = EL.createELContext(beanManager);
+        Counter counter = (Counter) EL.EXPRESSION_FACTORY.createValueExpression(elContext, "#{counter}", Counter.class).getValue(elContext);
+        assertTrue(ProxyFactory.isProxy(counter));
+        // The memoized client proxy is returned for subsequent lookups, even from a different ELContext
+        ELContext elContext2 = EL.createELContext(beanManager);
+        assertSame(counter, EL.EXPRESSION_FACTORY.createValueExpression(elContext2, "#{counter}", Counter.class).getValue(elContext2));
+        // The client proxy delegates to the contextual instance of the current request
+        assertEquals(1, counter.increment());
+        assertEquals(2, injectedCounter.increment());
+        assertEquals(3, EL.EXPRESSION_FACTORY.createValueExpression(elContext, "#{counter.increment()}", Integer.class).getValue(elContext));
+    }
+
+    @Test
+    public void testDependentBeanNotProxied() {
+        ELContext elContext = EL.createELContext(beanManager);
+        Label label = (Label) EL.EXPRESSION_FACTORY.createValueExpression(elContext, "#{label}", Label.class).getValue(elContext);
+        assertFalse(ProxyFactory.isProxy(label));
+        assertEquals("label", EL.EXPRESSION_FACTORY.createValueExpression(elContext, "#{label.value}", String.class).getValue(elContext));
+    }
+
+}
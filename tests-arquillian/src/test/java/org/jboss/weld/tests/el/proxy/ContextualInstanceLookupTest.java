@@ -0,0 +1,63 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.el.proxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import javax.el.ELContext;
+import javax.el.ExpressionFactory;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.weld.bean.proxy.ProxyFactory;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.test.util.el.EL;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * By default, the EL resolver returns the contextual instance of a normal-scoped bean.
+ */
+@RunWith(Arquillian.class)
+public class ContextualInstanceLookupTest {
+
+    @Deployment
+    public static JavaArchive createDeployment() {
+        return ShrinkWrap.create(BeanArchive.class).addClasses(Counter.class, Label.class, EL.class).addPackages(true,
+                ExpressionFactory.class.getPackage());
+    }
+
+    @Inject
+    private BeanManagerImpl beanManager;
+
+    @Test
+    public void testContextualInstanceReturned() {
+        ELContext elContext = EL.createELContext(beanManager);
+        Counter counter = (Counter) EL.EXPRESSION_FACTORY.createValueExpression(elContext, "#{counter}", Counter.class).getValue(elContext);
+        assertFalse(ProxyFactory.isProxy(counter));
+        assertEquals(1, counter.increment());
+        Counter counter2 = (Counter) EL.EXPRESSION_FACTORY.createValueExpression(elContext, "#{counter}", Counter.class).getValue(elContext);
+        assertEquals(counter, counter2);
+        assertEquals(2, counter2.increment());
+    }
+
+}
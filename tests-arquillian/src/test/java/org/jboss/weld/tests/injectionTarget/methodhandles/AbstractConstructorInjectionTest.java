@@ -0,0 +1,85 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.injectionTarget.methodhandles;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+
+import javax.enterprise.inject.CreationException;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.junit.Test;
+
+/**
+ * Bean constructors are expected to behave the same regardless of whether method handles are used.
+ */
+public abstract class AbstractConstructorInjectionTest {
+
+    static BeanArchive createBeanArchive() {
+        return ShrinkWrap.create(BeanArchive.class).intercept(CountingInterceptor.class).addClasses(Foo.class, Car.class, InterceptedCar.class,
+                CheckedFailure.class, UncheckedFailure.class, Counted.class, CountingInterceptor.class, AbstractConstructorInjectionTest.class);
+    }
+
+    @Inject
+    Car car;
+
+    @Inject
+    InterceptedCar interceptedCar;
+
+    @Inject
+    Instance<CheckedFailure> checkedFailure;
+
+    @Inject
+    Instance<UncheckedFailure> uncheckedFailure;
+
+    @Test
+    public void testPrivateConstructor() {
+        assertNotNull(car.getFoo());
+        assertEquals("pong", car.getFoo().ping());
+    }
+
+    @Test
+    public void testConstructorOfInterceptedBean() {
+        // the constructor of the intercepted subclass is invoked
+        int count = CountingInterceptor.count;
+        assertNotNull(interceptedCar.getFoo());
+        assertTrue(CountingInterceptor.count > count);
+    }
+
+    @Test
+    public void testCheckedExceptionWrapped() {
+        try {
+            checkedFailure.get();
+            fail();
+        } catch (CreationException expected) {
+            assertTrue(expected.getCause() instanceof IOException);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUncheckedExceptionPropagated() {
+        uncheckedFailure.get();
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.injectionTarget.methodhandles;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.junit.Test;
+
+/**
+ * Private, overriding and static initializers. The same behavior is expected regardless of whether method handles are used.
+ */
+public abstract class AbstractInitializerInjectionTest {
+
+    static BeanArchive createBeanArchive() {
+        return ShrinkWrap.create(BeanArchive.class).intercept(CountingInterceptor.class).addClasses(Foo.class, Base.class, Child.class,
+                Counted.class, CountingInterceptor.class, InterceptedChild.class, AbstractInitializerInjectionTest.class);
+    }
+
+    @Inject
+    Child child;
+
+    @Inject
+    InterceptedChild interceptedChild;
+
+    @Test
+    public void testPrivateAndVirtualInitializers() {
+        List<String> initializers = child.getInitializers();
+        assertEquals(3, initializers.size());
+        // superclass initializers are called first, Base.initVirtual() is overridden
+        assertEquals("Base.initPrivate", initializers.get(0));
+        assertEquals(new HashSet<String>(Arrays.asList("Child.initPrivate", "Child.initVirtual")), new HashSet<String>(initializers.subList(1, 3)));
+    }
+
+    @Test
+    public void testStaticInitializerNotInvoked() {
+        assertFalse(Child.staticInitializerInvoked);
+    }
+
+    @Test
+    public void testInitializersOfInterceptedBean() {
+        List<String> initializers = interceptedChild.getInitializers();
+        assertEquals(2, initializers.size());
+        assertEquals("Base.initPrivate", initializers.get(0));
+        assertEquals("InterceptedChild.initVirtual", initializers.get(1));
+        // business methods are still intercepted
+        int count = CountingInterceptor.count;
+        interceptedChild.ping();
+        assertTrue(CountingInterceptor.count > count);
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.injectionTarget.methodhandles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.inject.Inject;
+
+public abstract class Base {
+
+    private final List<String> initializers = new ArrayList<String>();
+
+    private boolean invokedReflectively;
+
+    @Inject
+    private void initPrivate(Foo foo) {
+        record("Base.initPrivate", foo);
+    }
+
+    @Inject
+    public void initVirtual(Foo foo) {
+        record("Base.initVirtual", foo);
+    }
+
+    void record(String initializer, Foo foo) {
+        if (!"pong".equals(foo.ping())) {
+            throw new IllegalStateException();
+        }
+        initializers.add(initializer);
+        // [0] is this method, [1] is the initializer and [2] is whatever invoked the initializer
+        String caller = new Throwable().getStackTrace()[2].getClassName();
+        invokedReflectively |= caller.startsWith("sun.reflect.") || caller.startsWith("jdk.internal.reflect.") || caller.startsWith("java.lang.reflect.");
+    }
+
+    public List<String> getInitializers() {
+        return initializers;
+    }
+
+    public boolean isInvokedReflectively() {
+        return invokedReflectively;
+    }
+
+}
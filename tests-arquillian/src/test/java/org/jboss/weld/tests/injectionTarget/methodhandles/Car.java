@@ -0,0 +1,45 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.injectionTarget.methodhandles;
+
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+
+@Dependent
+public class Car {
+
+    private final Foo foo;
+
+    private final boolean invokedReflectively;
+
+    @Inject
+    private Car(Foo foo) {
+        this.foo = foo;
+        // [0] is this constructor and [1] is whatever invoked it
+        String caller = new Throwable().getStackTrace()[1].getClassName();
+        this.invokedReflectively = caller.startsWith("sun.reflect.") || caller.startsWith("jdk.internal.reflect.") || caller.startsWith("java.lang.reflect.");
+    }
+
+    public Foo getFoo() {
+        return foo;
+    }
+
+    public boolean isInvokedReflectively() {
+        return invokedReflectively;
+    }
+
+}
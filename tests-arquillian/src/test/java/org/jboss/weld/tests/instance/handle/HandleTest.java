@@ -0,0 +1,172 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.instance.handle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.enterprise.inject.AmbiguousResolutionException;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.UnsatisfiedResolutionException;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bean.builtin.WeldInstance;
+import org.jboss.weld.bean.builtin.WeldInstance.Handle;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class HandleTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ShrinkWrap.create(BeanArchive.class).addPackage(HandleTest.class.getPackage());
+    }
+
+    @Inject
+    @Any
+    WeldInstance<Processor> processors;
+
+    @Inject
+    Client client;
+
+    @Before
+    public void reset() {
+        Alpha.CREATED.set(0);
+        Alpha.DESTROYED.set(0);
+        Bravo.CREATED.set(0);
+        Bravo.DESTROYED.set(0);
+    }
+
+    @Test
+    public void testGetHandleIsLazy() {
+        Handle<Alpha> handle = processors.select(Alpha.class).getHandle();
+        assertEquals(Alpha.class, handle.getBean().getBeanClass());
+        assertEquals(0, Alpha.CREATED.get());
+        Alpha alpha = handle.get();
+        assertEquals("alpha", alpha.ping());
+        assertSame(alpha, handle.get());
+        assertEquals(1, Alpha.CREATED.get());
+        handle.destroy();
+    }
+
+    @Test
+    public void testDestroyDependent() {
+        Handle<Alpha> handle = processors.select(Alpha.class).getHandle();
+        handle.get();
+        handle.destroy();
+        assertEquals(1, Alpha.DESTROYED.get());
+        // subsequent invocations are no-op
+        handle.destroy();
+        handle.close();
+        assertEquals(1, Alpha.DESTROYED.get());
+        try {
+            handle.get();
+            fail("The handle was already destroyed");
+        } catch (IllegalStateException expected) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testDestroyNotCreatedDependent() {
+        Handle<Alpha> handle = processors.select(Alpha.class).getHandle();
+        handle.destroy();
+        assertEquals(0, Alpha.CREATED.get());
+        assertEquals(0, Alpha.DESTROYED.get());
+    }
+
+    @Test
+    public void testCloseDependent() {
+        try (Handle<Alpha> handle = processors.select(Alpha.class).getHandle()) {
+            handle.get();
+        }
+        assertEquals(1, Alpha.CREATED.get());
+        assertEquals(1, Alpha.DESTROYED.get());
+    }
+
+    @Test
+    public void testNormalScoped() {
+        Handle<Bravo> handle = processors.select(Bravo.class).getHandle();
+        assertEquals("bravo", handle.get().ping());
+        assertEquals(1, Bravo.CREATED.get());
+        // close() leaves normal-scoped instances untouched
+        handle.close();
+        assertEquals(0, Bravo.DESTROYED.get());
+        handle.destroy();
+        assertEquals(1, Bravo.DESTROYED.get());
+        // a new instance is created by the context
+        assertEquals("bravo", processors.select(Bravo.class).get().ping());
+        assertEquals(2, Bravo.CREATED.get());
+    }
+
+    @Test
+    public void testHandles() {
+        Set<Class<?>> beanClasses = new HashSet<Class<?>>();
+        for (Handle<Processor> handle : processors.handles()) {
+            beanClasses.add(handle.getBean().getBeanClass());
+        }
+        assertEquals(2, beanClasses.size());
+        assertTrue(beanClasses.contains(Alpha.class));
+        assertTrue(beanClasses.contains(Bravo.class));
+        // no contextual reference was obtained
+        assertEquals(0, Alpha.CREATED.get());
+        assertEquals(0, Bravo.CREATED.get());
+    }
+
+    @Test
+    public void testResolutionFailures() {
+        try {
+            processors.getHandle();
+            fail("Both Alpha and Bravo match");
+        } catch (AmbiguousResolutionException expected) {
+            // expected
+        }
+        try {
+            processors.select(Charlie.class).getHandle();
+            fail("There is no bean for Charlie");
+        } catch (UnsatisfiedResolutionException expected) {
+            // expected
+        }
+        assertFalse(processors.select(Charlie.class).handles().iterator().hasNext());
+    }
+
+    @Test
+    public void testHandleNotBoundToInjectingBean() {
+        // the dependent instance is not destroyed with the application-scoped client but with the handle
+        Handle<Alpha> handle = client.getHandle();
+        handle.get();
+        handle.destroy();
+        assertEquals(1, Alpha.DESTROYED.get());
+    }
+
+    public abstract static class Charlie implements Processor {
+    }
+
+}
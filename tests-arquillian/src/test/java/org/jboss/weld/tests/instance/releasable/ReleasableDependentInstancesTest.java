@@ -0,0 +1,113 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.instance.releasable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.spi.AlterableContext;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.tests.util.PropertiesBuilder;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Dependent instances obtained through an {@link javax.enterprise.inject.Instance} injected into a normal-scoped bean are tracked weakly.
+ */
+@RunWith(Arquillian.class)
+public class ReleasableDependentInstancesTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ShrinkWrap.create(BeanArchive.class).addClasses(Light.class, Heavy.class, Pool.class, ReleasableDependentInstancesTest.class, PropertiesBuilder.class)
+                .addAsResource(PropertiesBuilder.newBuilder().set(ConfigurationKey.INSTANCE_RELEASABLE_DEPENDENTS.get(), "true").build(), "weld.properties");
+    }
+
+    @Inject
+    Pool pool;
+
+    @Inject
+    BeanManager beanManager;
+
+    @Before
+    public void reset() {
+        Heavy.DESTROYED.set(0);
+    }
+
+    @Test
+    public void testInstanceWithoutDestructionCallbackCollected() {
+        WeakReference<Light> reference = new WeakReference<Light>(pool.getLight());
+        collect(reference);
+        assertNull(reference.get());
+    }
+
+    @Test
+    public void testInstanceWithDestructionCallbackHeldUntilDestroyed() {
+        WeakReference<Heavy> reference = new WeakReference<Heavy>(pool.getHeavy());
+        collect(reference);
+        Heavy heavy = reference.get();
+        assertNotNull(heavy);
+        assertEquals(0, Heavy.DESTROYED.get());
+        pool.destroy(heavy);
+        assertEquals(1, Heavy.DESTROYED.get());
+        // destroyed only once
+        pool.destroy(heavy);
+        assertEquals(1, Heavy.DESTROYED.get());
+        heavy = null;
+        collect(reference);
+        assertNull(reference.get());
+    }
+
+    @Test
+    public void testAliveInstancesDestroyedWithDeclaringBean() {
+        pool.getHeavy();
+        pool.getHeavy();
+        pool.getLight();
+        assertEquals(0, Heavy.DESTROYED.get());
+        Bean<?> bean = beanManager.resolve(beanManager.getBeans(Pool.class));
+        ((AlterableContext) beanManager.getContext(ApplicationScoped.class)).destroy(bean);
+        assertEquals(2, Heavy.DESTROYED.get());
+    }
+
+    private static void collect(WeakReference<?> reference) {
+        for (int i = 0; i < 10 && reference.get() != null; i++) {
+            List<byte[]> garbage = new ArrayList<byte[]>();
+            for (int j = 0; j < 16; j++) {
+                garbage.add(new byte[1024 * 1024]);
+            }
+            garbage.clear();
+            System.gc();
+        }
+    }
+
+}
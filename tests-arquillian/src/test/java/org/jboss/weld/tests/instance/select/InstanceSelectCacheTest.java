@@ -0,0 +1,172 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.instance.select;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.enterprise.inject.AmbiguousResolutionException;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.UnsatisfiedResolutionException;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.enterprise.util.TypeLiteral;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests that {@link Instance} resolves lazily and that the results of {@link Instance#select(java.lang.annotation.Annotation...)} are cached.
+ */
+@RunWith(Arquillian.class)
+public class InstanceSelectCacheTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ShrinkWrap.create(BeanArchive.class).addPackage(InstanceSelectCacheTest.class.getPackage());
+    }
+
+    @Inject
+    @Any
+    Instance<Shape> shapes;
+
+    @Inject
+    @Any
+    Instance<Object> objects;
+
+    @Test
+    public void testSameSelectReturnsSameInstance() {
+        Instance<Shape> red = shapes.select(new Colored.Literal(Color.RED));
+        assertSame(red, shapes.select(new Colored.Literal(Color.RED)));
+        Instance<Shape> blue = shapes.select(new Colored.Literal(Color.BLUE));
+        assertNotSame(red, blue);
+        assertTrue(red.get() instanceof Circle);
+        assertTrue(blue.get() instanceof Square);
+        assertSame(shapes.select(Circle.class), shapes.select(Circle.class));
+        assertNotSame(shapes.select(Circle.class), shapes.select(Square.class));
+    }
+
+    @Test
+    public void testNonbindingMemberValues() {
+        // the annotations are not equal, the resolution is the same
+        Instance<Shape> first = shapes.select(new Colored.Literal(Color.RED, "first"));
+        Instance<Shape> second = shapes.select(new Colored.Literal(Color.RED, "second"));
+        assertNotSame(first, second);
+        assertSame(first, shapes.select(new Colored.Literal(Color.RED, "first")));
+        assertTrue(first.get() instanceof Circle);
+        assertTrue(second.get() instanceof Circle);
+    }
+
+    @SuppressWarnings("serial")
+    @Test
+    public void testTypeLiteralSelect() {
+        Instance<List<String>> strings = objects.select(new TypeLiteral<List<String>>() {
+        });
+        assertSame(strings, objects.select(new TypeLiteral<List<String>>() {
+        }));
+        Instance<List<Integer>> integers = objects.select(new TypeLiteral<List<Integer>>() {
+        });
+        assertNotSame(strings, integers);
+        assertEquals(Collections.singletonList("foo"), strings.get());
+        assertEquals(Collections.singletonList(1), integers.get());
+    }
+
+    @Test
+    public void testNonStaticInnerClassLiteralNotCached() {
+        Instance<Shape> first = shapes.select(new InnerColoredLiteral(Color.BLUE));
+        Instance<Shape> second = shapes.select(new InnerColoredLiteral(Color.BLUE));
+        assertNotSame(first, second);
+        assertTrue(first.get() instanceof Square);
+        assertTrue(second.get() instanceof Square);
+    }
+
+    @Test
+    public void testResolvedWhenUsed() {
+        // neither unsatisfied nor ambiguous instances fail until used
+        Instance<Shape> green = shapes.select(new Colored.Literal(Color.GREEN));
+        assertTrue(green.isUnsatisfied());
+        assertFalse(green.isAmbiguous());
+        assertFalse(green.iterator().hasNext());
+        try {
+            green.get();
+            fail();
+        } catch (UnsatisfiedResolutionException expected) {
+        }
+        assertTrue(shapes.isAmbiguous());
+        assertFalse(shapes.isUnsatisfied());
+        int count = 0;
+        for (Iterator<Shape> iterator = shapes.iterator(); iterator.hasNext(); iterator.next()) {
+            count++;
+        }
+        assertEquals(3, count);
+        try {
+            shapes.get();
+            fail();
+        } catch (AmbiguousResolutionException expected) {
+        }
+    }
+
+    @Test
+    public void testCacheClearedWhenFull() {
+        Instance<Shape> first = shapes.select(new Numbered.Literal(0));
+        assertSame(first, shapes.select(new Numbered.Literal(0)));
+        assertTrue(first.get() instanceof Triangle);
+        // the cache holds at most 64 distinct selects
+        for (int i = 1; i <= 64; i++) {
+            assertTrue(shapes.select(new Numbered.Literal(i)).isUnsatisfied());
+        }
+        Instance<Shape> afterEviction = shapes.select(new Numbered.Literal(0));
+        assertNotSame(first, afterEviction);
+        assertSame(afterEviction, shapes.select(new Numbered.Literal(0)));
+        assertTrue(afterEviction.get() instanceof Triangle);
+    }
+
+    @SuppressWarnings("all")
+    class InnerColoredLiteral extends AnnotationLiteral<Colored> implements Colored {
+
+        private final Color value;
+
+        InnerColoredLiteral(Color value) {
+            this.value = value;
+        }
+
+        @Override
+        public Color value() {
+            return value;
+        }
+
+        @Override
+        public String comment() {
+            return "";
+        }
+    }
+
+}
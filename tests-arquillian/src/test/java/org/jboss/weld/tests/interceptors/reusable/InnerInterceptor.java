@@ -0,0 +1,49 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.interceptors.reusable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+/**
+ * Increments the first parameter of {@link Calculator#add(int, int)}.
+ */
+@Calculated
+@Interceptor
+public class InnerInterceptor {
+
+    static final List<Object[]> RECEIVED_PARAMETERS = new ArrayList<Object[]>();
+
+    @AroundInvoke
+    public Object intercept(InvocationContext ctx) throws Exception {
+        if (ctx.getMethod().getName().equals("add")) {
+            Object[] parameters = ctx.getParameters();
+            RECEIVED_PARAMETERS.add(parameters);
+            ctx.setParameters(new Object[] { (Integer) parameters[0] + 1, parameters[1] });
+        }
+        return ctx.proceed();
+    }
+
+    static void reset() {
+        RECEIVED_PARAMETERS.clear();
+    }
+
+}
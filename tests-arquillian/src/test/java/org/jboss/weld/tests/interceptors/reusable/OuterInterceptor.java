@@ -0,0 +1,55 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.interceptors.reusable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+/**
+ * Records the invocation contexts and proceeds twice when invoking {@link Calculator#add(int, int)}.
+ */
+@Calculated
+@Interceptor
+public class OuterInterceptor {
+
+    static final List<InvocationContext> CONTEXTS = new ArrayList<InvocationContext>();
+
+    static final List<Object[]> PARAMETERS_AFTER_PROCEED = new ArrayList<Object[]>();
+
+    @AroundInvoke
+    public Object intercept(InvocationContext ctx) throws Exception {
+        CONTEXTS.add(ctx);
+        if (ctx.getMethod().getName().equals("add")) {
+            int first = (Integer) ctx.proceed();
+            PARAMETERS_AFTER_PROCEED.add(ctx.getParameters());
+            int second = (Integer) ctx.proceed();
+            PARAMETERS_AFTER_PROCEED.add(ctx.getParameters());
+            return first + second;
+        }
+        return ctx.proceed();
+    }
+
+    static void reset() {
+        CONTEXTS.clear();
+        PARAMETERS_AFTER_PROCEED.clear();
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.interceptors.reusable;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.tests.util.PropertiesBuilder;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests {@link ConfigurationKey#INTERCEPTOR_REUSABLE_INVOCATION_CONTEXT}.
+ */
+@RunWith(Arquillian.class)
+public class ReusableInvocationContextTest {
+
+    @Deployment
+    public static JavaArchive createDeployment() {
+        return ShrinkWrap.create(BeanArchive.class).intercept(OuterInterceptor.class, InnerInterceptor.class)
+                .addClasses(Calculated.class, Calculator.class, OuterInterceptor.class, InnerInterceptor.class, PropertiesBuilder.class)
+                .addAsResource(PropertiesBuilder.newBuilder().set(ConfigurationKey.INTERCEPTOR_REUSABLE_INVOCATION_CONTEXT.get(), "true").build(),
+                        "weld.properties");
+    }
+
+    @Inject
+    private Calculator calculator;
+
+    @Before
+    public void reset() {
+        OuterInterceptor.reset();
+        InnerInterceptor.reset();
+    }
+
+    @Test
+    public void testContextReused() {
+        assertEquals(1, calculator.triangle(1));
+        assertEquals(1, calculator.triangle(1));
+        assertEquals(2, OuterInterceptor.CONTEXTS.size());
+        assertSame(OuterInterceptor.CONTEXTS.get(0), OuterInterceptor.CONTEXTS.get(1));
+    }
+
+    @Test
+    public void testParametersRestoredAfterProceed() {
+        // each proceed() invokes add(2, 2) as the inner interceptor modifies the parameters it received
+        assertEquals(8, calculator.add(1, 2));
+        assertEquals(2, InnerInterceptor.RECEIVED_PARAMETERS.size());
+        assertArrayEquals(new Object[] { 1, 2 }, InnerInterceptor.RECEIVED_PARAMETERS.get(0));
+        assertArrayEquals(new Object[] { 1, 2 }, InnerInterceptor.RECEIVED_PARAMETERS.get(1));
+        // the parameters set by the inner interceptor are not visible to the outer one
+        assertEquals(2, OuterInterceptor.PARAMETERS_AFTER_PROCEED.size());
+        assertArrayEquals(new Object[] { 1, 2 }, OuterInterceptor.PARAMETERS_AFTER_PROCEED.get(0));
+        assertArrayEquals(new Object[] { 1, 2 }, OuterInterceptor.PARAMETERS_AFTER_PROCEED.get(1));
+        // the context is in a clean state for the subsequent invocation
+        assertEquals(12, calculator.add(2, 3));
+        assertArrayEquals(new Object[] { 2, 3 }, InnerInterceptor.RECEIVED_PARAMETERS.get(2));
+        assertArrayEquals(new Object[] { 2, 3 }, InnerInterceptor.RECEIVED_PARAMETERS.get(3));
+    }
+
+    @Test
+    public void testReentrantInvocation() {
+        assertEquals(6, calculator.triangle(3));
+        assertEquals(3, OuterInterceptor.CONTEXTS.size());
+        // the reusable context is in use so the nested invocations fall back to a new context each
+        assertNotSame(OuterInterceptor.CONTEXTS.get(0), OuterInterceptor.CONTEXTS.get(1));
+        assertNotSame(OuterInterceptor.CONTEXTS.get(0), OuterInterceptor.CONTEXTS.get(2));
+        assertNotSame(OuterInterceptor.CONTEXTS.get(1), OuterInterceptor.CONTEXTS.get(2));
+        // the reusable context is released once the outermost invocation completes
+        assertEquals(1, calculator.triangle(1));
+        assertSame(OuterInterceptor.CONTEXTS.get(0), OuterInterceptor.CONTEXTS.get(3));
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.proxy.client.bytecode;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+import java.lang.reflect.Method;
+
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.tests.proxy.client.bytecode.base.Base;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests which client proxy methods invoke the contextual instance directly from the generated bytecode and which ones are dispatched through the method
+ * handler.
+ */
+@RunWith(Arquillian.class)
+public class ClientProxyBytecodeInvocationTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ShrinkWrap.create(BeanArchive.class).addPackages(true, ClientProxyBytecodeInvocationTest.class.getPackage());
+    }
+
+    @Inject
+    Target target;
+
+    @Test
+    public void testPublicMethodInvokedFromBytecode() {
+        assertEquals(target.getClass().getName(), target.publicMethod().getClassName());
+    }
+
+    @Test
+    public void testPackagePrivateMethodInvokedFromBytecode() {
+        // Package-private members are only accessible if the proxy class is defined in the runtime package of the bean class
+        Assume.assumeTrue(target.getClass().getClassLoader() == Target.class.getClassLoader());
+        assertEquals(target.getClass().getName(), target.packagePrivateMethod(new Hidden()).getClassName());
+        assertNotNull(target.protectedMethod());
+        assertEquals(2, target.getInvocations());
+    }
+
+    @Test
+    public void testInheritedProtectedMethodDispatchedThroughHandler() throws Exception {
+        // Base.inherited() is declared in another package and must not be invoked from the proxy bytecode
+        Method inherited = Base.class.getDeclaredMethod("inherited");
+        inherited.setAccessible(true);
+        StackTraceElement caller = (StackTraceElement) inherited.invoke(target);
+        assertFalse(target.getClass().getName().equals(caller.getClassName()));
+        assertEquals(0, target.getInvocations());
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.proxy.client.bytecode;
+
+import javax.enterprise.context.RequestScoped;
+
+import org.jboss.weld.tests.proxy.client.bytecode.base.Base;
+
+/**
+ * Each method returns the stack frame of its caller.
+ */
+@RequestScoped
+public class Target extends Base {
+
+    private int invocations;
+
+    public StackTraceElement publicMethod() {
+        invocations++;
+        return caller();
+    }
+
+    StackTraceElement packagePrivateMethod(Hidden hidden) {
+        invocations++;
+        return caller();
+    }
+
+    protected Hidden protectedMethod() {
+        invocations++;
+        return new Hidden();
+    }
+
+    public int getInvocations() {
+        return invocations;
+    }
+
+    private static StackTraceElement caller() {
+        return new Throwable().getStackTrace()[2];
+    }
+
+}
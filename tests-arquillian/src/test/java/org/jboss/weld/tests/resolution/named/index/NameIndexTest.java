@@ -0,0 +1,98 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.resolution.named.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+
+import javax.enterprise.inject.spi.Bean;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.resolution.NameBasedResolver;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests the name index of {@link NameBasedResolver}.
+ */
+@RunWith(Arquillian.class)
+public class NameIndexTest {
+
+    @Deployment
+    public static Archive<?> deploy() {
+        return ShrinkWrap.create(BeanArchive.class).addPackage(NameIndexTest.class.getPackage());
+    }
+
+    @Inject
+    private BeanManagerImpl beanManager;
+
+    @Test
+    public void testIndexedName() {
+        Set<Bean<?>> beans = beanManager.getBeans("drink");
+        assertEquals(1, beans.size());
+        assertEquals(Coffee.class, beans.iterator().next().getBeanClass());
+        // the second lookup is served from the same index
+        assertEquals(beans, beanManager.getBeans("drink"));
+    }
+
+    @Test
+    public void testUnknownNameNotCached() {
+        NameBasedResolver resolver = beanManager.getNameBasedResolver();
+        beanManager.getBeans("drink");
+        String indexed = resolver.toString();
+        assertTrue(beanManager.getBeans("unknown").isEmpty());
+        assertTrue(beanManager.getBeans("item").isEmpty());
+        assertEquals(indexed, resolver.toString());
+    }
+
+    @Test
+    public void testDisabledAlternativesFiltered() {
+        // Tea and Cake are alternatives which are not enabled
+        assertTrue(beanManager.getBeans("dessert").isEmpty());
+        for (Bean<?> bean : beanManager.getBeans("drink")) {
+            assertEquals(Coffee.class, bean.getBeanClass());
+        }
+    }
+
+    @Test
+    public void testEnabledAlternativeSelected() {
+        Set<Bean<?>> beans = beanManager.getBeans("meal");
+        assertEquals(2, beans.size());
+        assertEquals(Pizza.class, beanManager.resolve(beans).getBeanClass());
+    }
+
+    @Test
+    public void testIndexRebuiltAfterClear() {
+        NameBasedResolver resolver = beanManager.getNameBasedResolver();
+        Set<Bean<?>> beans = beanManager.getBeans("drink");
+        resolver.clear();
+        assertTrue(resolver.toString().contains("Indexed names: 0"));
+        assertEquals(beans, beanManager.getBeans("drink"));
+        assertEquals(2, beanManager.getBeans("meal").size());
+        assertTrue(beanManager.getBeans("dessert").isEmpty());
+        assertFalse(resolver.toString().contains("Indexed names: 0"));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.bootstrap.cleanup;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+@ApplicationScoped
+public class Car {
+
+    @Inject
+    Engine engine;
+
+    String color;
+
+    Wheel wheel;
+
+    Car() {
+    }
+
+    @Inject
+    Car(@Named("color") String color) {
+        this.color = color;
+    }
+
+    @Inject
+    void setWheel(Wheel wheel) {
+        this.wheel = wheel;
+    }
+
+    void observe(@Observes Engine engine) {
+    }
+
+    String getColor() {
+        return color;
+    }
+
+    Wheel getWheel() {
+        return wheel;
+    }
+
+}
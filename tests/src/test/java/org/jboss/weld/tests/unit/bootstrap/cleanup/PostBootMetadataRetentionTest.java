@@ -0,0 +1,171 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.bootstrap.cleanup;
+
+import static org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.AbstractDeployment.transform;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.ref.Reference;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.BeanDeploymentArchiveImpl;
+import org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.TestContainer;
+import org.jboss.weld.annotated.enhanced.EnhancedAnnotated;
+import org.jboss.weld.annotated.slim.backed.BackedAnnotatedType;
+import org.jboss.weld.annotated.slim.unbacked.UnbackedAnnotatedType;
+import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
+import org.jboss.weld.bootstrap.spi.Deployment;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.mock.AbstractDeployment;
+import org.jboss.weld.test.util.Utils;
+import org.jboss.weld.util.LazyValueHolder;
+import org.jboss.weld.util.collections.ImmutableSet;
+import org.testng.annotations.Test;
+
+/**
+ * Verifies that the metadata which is only needed during bootstrap is not retained once the container is initialized. The object graph reachable from the
+ * bean manager is traversed and must not contain any enhanced annotated metadata or backed member sets. This is a reachability check only, the heap
+ * footprint of the retained metadata is not measured.
+ */
+public class PostBootMetadataRetentionTest {
+
+    @Test
+    public void testBootstrapMetadataNotRetained() throws Exception {
+        final BeanDeploymentArchive bda = new BeanDeploymentArchiveImpl("cleanup", Car.class, Engine.class, Wheel.class, Garage.class);
+        Deployment deployment = new AbstractDeployment(ImmutableSet.of(bda), transform(new WrappingExtension())) {
+
+            public BeanDeploymentArchive loadBeanDeploymentArchive(Class<?> beanClass) {
+                return bda;
+            }
+
+            public BeanDeploymentArchive getBeanDeploymentArchive(Class<?> beanClass) {
+                return bda;
+            }
+        };
+        TestContainer container = new TestContainer(deployment);
+        try {
+            container.startContainer();
+            BeanManagerImpl beanManager = (BeanManagerImpl) container.getBeanManager(bda);
+            Map<Class<?>, List<Object>> retained = getRetainedObjects(beanManager);
+
+            List<String> enhanced = new ArrayList<String>();
+            for (Map.Entry<Class<?>, List<Object>> entry : retained.entrySet()) {
+                if (EnhancedAnnotated.class.isAssignableFrom(entry.getKey())) {
+                    enhanced.add(entry.getKey().getName() + " x " + entry.getValue().size());
+                }
+            }
+            assertTrue(enhanced.isEmpty(), "Enhanced annotated metadata retained after bootstrap: " + enhanced);
+
+            List<Object> backedTypes = retained.getOrDefault(BackedAnnotatedType.class, Collections.emptyList());
+            assertFalse(backedTypes.isEmpty());
+            for (Object backedType : backedTypes) {
+                for (String members : new String[] { "constructors", "fields", "methods" }) {
+                    LazyValueHolder<?> holder = (LazyValueHolder<?>) getFieldValue(BackedAnnotatedType.class, members, backedType);
+                    assertFalse(holder.isAvailable(), members + " of " + backedType + " retained after bootstrap");
+                }
+            }
+            // the unbacked annotated type of Engine is still available at runtime
+            assertFalse(retained.getOrDefault(UnbackedAnnotatedType.class, Collections.emptyList()).isEmpty());
+
+            // lazily recomputed if needed at runtime
+            Car car = Utils.getReference(beanManager, Car.class);
+            assertEquals(car.getColor(), "red");
+            assertTrue(car.getWheel() != null);
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+    /**
+     * @return the objects strongly reachable from the given root grouped by their class
+     */
+    private static Map<Class<?>, List<Object>> getRetainedObjects(Object root) throws IllegalAccessException {
+        Map<Class<?>, List<Object>> retained = new HashMap<Class<?>, List<Object>>();
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+        Map<Class<?>, List<Field>> fieldsCache = new HashMap<Class<?>, List<Field>>();
+        Deque<Object> queue = new ArrayDeque<Object>();
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            Object object = queue.poll();
+            if (!visited.add(object) || isExcluded(object)) {
+                continue;
+            }
+            Class<?> clazz = object.getClass();
+            retained.computeIfAbsent(clazz, (key) -> new ArrayList<Object>()).add(object);
+            if (clazz.isArray()) {
+                if (!clazz.getComponentType().isPrimitive()) {
+                    for (int i = 0; i < Array.getLength(object); i++) {
+                        Object element = Array.get(object, i);
+                        if (element != null) {
+                            queue.add(element);
+                        }
+                    }
+                }
+                continue;
+            }
+            for (Field field : fieldsCache.computeIfAbsent(clazz, PostBootMetadataRetentionTest::getReferenceFields)) {
+                Object value = field.get(object);
+                if (value != null) {
+                    queue.add(value);
+                }
+            }
+        }
+        return retained;
+    }
+
+    /**
+     * Classes, class loaders, threads and reflection objects do not belong to the container. Weakly and softly referenced objects are not retained.
+     */
+    private static boolean isExcluded(Object object) {
+        return object instanceof Class<?> || object instanceof ClassLoader || object instanceof Thread || object instanceof Reference<?>
+                || object instanceof AccessibleObject || object.getClass().getName().startsWith("java.lang.invoke.");
+    }
+
+    private static List<Field> getReferenceFields(Class<?> clazz) {
+        List<Field> fields = new ArrayList<Field>();
+        for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    private static Object getFieldValue(Class<?> clazz, String name, Object object) throws Exception {
+        Field field = clazz.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(object);
+    }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.bootstrap.cleanup;
+
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.AnnotatedType;
+import javax.enterprise.inject.spi.Extension;
+import javax.enterprise.inject.spi.ProcessAnnotatedType;
+
+import org.jboss.weld.util.annotated.ForwardingAnnotatedType;
+
+/**
+ * Replaces the annotated type of {@link Engine} so that it is represented by an unbacked annotated type.
+ */
+public class WrappingExtension implements Extension {
+
+    void wrap(@Observes ProcessAnnotatedType<Engine> event) {
+        final AnnotatedType<Engine> delegate = event.getAnnotatedType();
+        event.setAnnotatedType(new ForwardingAnnotatedType<Engine>() {
+
+            @Override
+            public AnnotatedType<Engine> delegate() {
+                return delegate;
+            }
+        });
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.bootstrap.profiler;
+
+import static org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.AbstractDeployment.transform;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.BeanDeploymentArchiveImpl;
+import org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.TestContainer;
+import org.jboss.weld.bootstrap.BootstrapProfiler;
+import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
+import org.jboss.weld.bootstrap.spi.Deployment;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.mock.AbstractDeployment;
+import org.jboss.weld.test.util.Utils;
+import org.jboss.weld.util.collections.ImmutableSet;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the report written by {@link BootstrapProfiler}.
+ */
+public class BootstrapProfilerTest {
+
+    private File outputDirectory;
+
+    @BeforeMethod
+    public void enableProfiler() throws IOException {
+        outputDirectory = Files.createTempDirectory("weld-profiler").toFile();
+        System.setProperty(ConfigurationKey.BOOTSTRAP_PROFILER_OUTPUT.get(), outputDirectory.getAbsolutePath());
+    }
+
+    @AfterMethod
+    public void disableProfiler() {
+        System.clearProperty(ConfigurationKey.BOOTSTRAP_PROFILER_OUTPUT.get());
+        File[] files = outputDirectory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        outputDirectory.delete();
+    }
+
+    @Test
+    public void testReportWritten() throws IOException {
+        final BeanDeploymentArchive bda = new BeanDeploymentArchiveImpl("profiled", Profiled.class);
+        Deployment deployment = new AbstractDeployment(ImmutableSet.of(bda), transform(new ProfiledExtension())) {
+
+            public BeanDeploymentArchive loadBeanDeploymentArchive(Class<?> beanClass) {
+                return bda;
+            }
+
+            public BeanDeploymentArchive getBeanDeploymentArchive(Class<?> beanClass) {
+                return bda;
+            }
+        };
+        TestContainer container = new TestContainer(deployment);
+        try {
+            container.startContainer();
+            assertEquals(Utils.getReference(container.getBeanManager(bda), Profiled.class).ping(), "pong");
+        } finally {
+            container.stopContainer();
+        }
+
+        // The report is written at the end of the bootstrap
+        File trace = getReportFile(".json");
+        File folded = getReportFile(".folded");
+
+        String traceContent = new String(Files.readAllBytes(trace.toPath()), StandardCharsets.UTF_8);
+        assertTrue(traceContent.startsWith("{\"displayTimeUnit\":\"ms\",\"traceEvents\":["), traceContent);
+        assertTrue(traceContent.contains("\"hotSpots\":{"), traceContent);
+        for (String phase : new String[] { "startContainer", "startInitialization", "deployBeans", "validateBeans", "endInitialization" }) {
+            assertTrue(traceContent.contains("\"cat\":\"" + BootstrapProfiler.PHASE + "\",\"name\":\"" + phase + "\""), phase);
+        }
+        String observerFrameName = ProfiledExtension.class.getName() + ".observeAfterBeanDiscovery";
+        assertTrue(traceContent.contains("\"cat\":\"" + BootstrapProfiler.EXTENSION_OBSERVER + "\",\"name\":\"" + observerFrameName + "\""));
+        assertTrue(traceContent.contains("\"cat\":\"" + BootstrapProfiler.ARCHIVE + "\",\"name\":\"profiled\""));
+
+        // Collapsed stacks - "frame1;frame2;frame3 selfTime"
+        List<String> lines = Files.readAllLines(folded.toPath(), StandardCharsets.UTF_8);
+        assertTrue(lines.size() > 0);
+        boolean observerStackFound = false;
+        for (String line : lines) {
+            String[] parts = line.split(" ");
+            assertEquals(parts.length, 2, line);
+            assertTrue(Long.parseLong(parts[1]) >= 0, line);
+            if (parts[0].endsWith(";" + observerFrameName)) {
+                observerStackFound = true;
+                // Extension observers are nested in the phase in which the event is fired
+                assertTrue(parts[0].startsWith("deployBeans;"), line);
+            }
+        }
+        assertTrue(observerStackFound);
+    }
+
+    private File getReportFile(String suffix) {
+        File[] files = outputDirectory.listFiles((dir, name) -> name.startsWith("weld-bootstrap-") && name.endsWith(suffix));
+        assertTrue(files != null && files.length == 1);
+        return files[0];
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.bootstrap.validator;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.InjectionPoint;
+import javax.enterprise.inject.spi.Producer;
+
+import org.jboss.weld.bootstrap.ConcurrentValidator;
+import org.jboss.weld.bootstrap.Validator;
+import org.jboss.weld.executor.FixedThreadPoolExecutorServices;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that {@link ConcurrentValidator} validates every item and reports the same problem as the sequential {@link Validator}, regardless of thread
+ * scheduling.
+ */
+public class ConcurrentValidatorTest {
+
+    private static final int PRODUCERS = 200;
+
+    private FixedThreadPoolExecutorServices executor;
+
+    @BeforeMethod
+    public void createExecutor() {
+        executor = new FixedThreadPoolExecutorServices(8);
+    }
+
+    @AfterMethod
+    public void shutdownExecutor() {
+        executor.cleanup();
+    }
+
+    @Test
+    public void testAllProducersValidated() {
+        AtomicInteger validated = new AtomicInteger();
+        Set<Integer> indexes = Collections.newSetFromMap(new ConcurrentHashMap<Integer, Boolean>());
+        new ConcurrentValidator(executor).validateProducers(createProducers(validated, indexes), null);
+        assertEquals(validated.get(), PRODUCERS);
+        assertEquals(indexes.size(), PRODUCERS);
+    }
+
+    @Test
+    public void testFirstProblemInIterationOrderReported() {
+        for (int i = 0; i < 20; i++) {
+            AtomicInteger validated = new AtomicInteger();
+            Set<Integer> indexes = Collections.newSetFromMap(new ConcurrentHashMap<Integer, Boolean>());
+            List<Producer<?>> producers = createProducers(validated, indexes, 17, 42, 43, 199);
+            try {
+                new ConcurrentValidator(executor).validateProducers(producers, null);
+                fail();
+            } catch (IllegalStateException expected) {
+                assertEquals(expected.getMessage(), "Invalid producer 17");
+            }
+            // Validation of the other items is not cancelled
+            assertEquals(validated.get(), PRODUCERS);
+        }
+    }
+
+    @Test
+    public void testSameProblemAsSequentialValidator() {
+        List<Producer<?>> producers = createProducers(new AtomicInteger(), Collections.newSetFromMap(new ConcurrentHashMap<Integer, Boolean>()), 199, 3, 100);
+        String sequentialProblem = null;
+        try {
+            new Validator().validateProducers(producers, null);
+            fail();
+        } catch (IllegalStateException expected) {
+            sequentialProblem = expected.getMessage();
+        }
+        try {
+            new ConcurrentValidator(executor).validateProducers(producers, null);
+            fail();
+        } catch (IllegalStateException expected) {
+            assertEquals(expected.getMessage(), sequentialProblem);
+        }
+    }
+
+    private static List<Producer<?>> createProducers(AtomicInteger validated, Set<Integer> indexes, int... invalid) {
+        List<Producer<?>> producers = new ArrayList<Producer<?>>();
+        for (int i = 0; i < PRODUCERS; i++) {
+            boolean isInvalid = false;
+            for (int index : invalid) {
+                if (index == i) {
+                    isInvalid = true;
+                }
+            }
+            producers.add(new TestProducer(i, isInvalid, validated, indexes));
+        }
+        return producers;
+    }
+
+    private static class TestProducer implements Producer<Object> {
+
+        private final int index;
+        private final boolean invalid;
+        private final AtomicInteger validated;
+        private final Set<Integer> indexes;
+
+        TestProducer(int index, boolean invalid, AtomicInteger validated, Set<Integer> indexes) {
+            this.index = index;
+            this.invalid = invalid;
+            this.validated = validated;
+            this.indexes = indexes;
+        }
+
+        @Override
+        public Set<InjectionPoint> getInjectionPoints() {
+            validated.incrementAndGet();
+            indexes.add(index);
+            if (invalid) {
+                // Make it likely that a later item fails first
+                if (index < 50) {
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                throw new IllegalStateException("Invalid producer " + index);
+            }
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Object produce(CreationalContext<Object> ctx) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void dispose(Object instance) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
@@ -0,0 +1,236 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.conversation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.Conversation;
+import javax.servlet.AsyncContext;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+
+import org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.TestContainer;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.context.http.HttpConversationContext;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.servlet.ConversationContextActivator;
+import org.jboss.weld.servlet.SessionHolder;
+import org.jboss.weld.test.util.Utils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link ConversationContextActivator#suspendIfConversationLocked(HttpServletRequest)}.
+ */
+public class AsyncConversationAcquisitionTest {
+
+    @BeforeMethod
+    public void enableAsyncAcquisition() {
+        System.setProperty(ConfigurationKey.CONVERSATION_ASYNC_ACQUISITION.get(), "true");
+    }
+
+    @AfterMethod
+    public void disableAsyncAcquisition() {
+        System.clearProperty(ConfigurationKey.CONVERSATION_ASYNC_ACQUISITION.get());
+    }
+
+    @Test
+    public void testRequestSuspendedUntilConversationReleased() throws Exception {
+        TestContainer container = new TestContainer().startContainer().ensureRequestActive();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final BeanManagerImpl manager = ConversationUnlockCallbackTest.getBeanManager(container);
+            HttpConversationContext context = manager.instance().select(HttpConversationContext.class).get();
+            Map<String, Object> session = new HashMap<String, Object>();
+
+            // the first request starts a long-running conversation
+            MockRequest first = new MockRequest(session, null);
+            SessionHolder.requestInitialized(first.request);
+            context.associate(first.request);
+            context.activate();
+            Conversation conversation = Utils.getReference(manager, Conversation.class);
+            conversation.begin();
+            String cid = conversation.getId();
+            context.invalidate();
+            context.deactivate();
+            context.dissociate(first.request);
+
+            // the second request locks the conversation
+            MockRequest second = new MockRequest(session, cid);
+            context.associate(second.request);
+            context.activate(cid);
+
+            // the third request is suspended
+            final MockRequest third = new MockRequest(session, cid);
+            assertTrue(executor.submit(new Callable<Boolean>() {
+                @Override
+                public Boolean call() throws Exception {
+                    SessionHolder.requestInitialized(third.request);
+                    try {
+                        ConversationContextActivator activator = new ConversationContextActivator(manager, true) {
+                        };
+                        boolean suspended = activator.suspendIfConversationLocked(third.request);
+                        // the context is not associated with the suspended request
+                        try {
+                            context.activate();
+                            fail();
+                        } catch (IllegalStateException expected) {
+                        }
+                        return suspended;
+                    } finally {
+                        SessionHolder.clear();
+                    }
+                }
+            }).get());
+            assertEquals(third.asyncStarted.get(), 1);
+            assertEquals(third.dispatched.get(), 0);
+
+            // releasing the conversation dispatches the suspended request
+            context.invalidate();
+            context.deactivate();
+            context.dissociate(second.request);
+            assertEquals(third.dispatched.get(), 1);
+
+            // the conversation is not locked anymore - the request is not suspended
+            final MockRequest fourth = new MockRequest(session, cid);
+            assertFalse(executor.submit(new Callable<Boolean>() {
+                @Override
+                public Boolean call() throws Exception {
+                    SessionHolder.requestInitialized(fourth.request);
+                    try {
+                        return new ConversationContextActivator(manager, true) {
+                        }.suspendIfConversationLocked(fourth.request);
+                    } finally {
+                        SessionHolder.clear();
+                    }
+                }
+            }).get());
+            assertEquals(fourth.asyncStarted.get(), 0);
+        } finally {
+            SessionHolder.clear();
+            executor.shutdown();
+            container.stopContainer();
+        }
+    }
+
+    /**
+     * A minimal asynchronous-capable request backed by maps.
+     */
+    private static class MockRequest {
+
+        private final AtomicInteger asyncStarted = new AtomicInteger();
+        private final AtomicInteger dispatched = new AtomicInteger();
+        private final HttpServletRequest request;
+
+        MockRequest(final Map<String, Object> sessionAttributes, String cid) {
+            final Map<String, Object> attributes = new HashMap<String, Object>();
+            final Map<String, String> parameters = (cid != null) ? Collections.singletonMap("cid", cid) : Collections.<String, String> emptyMap();
+            final HttpSession session = (HttpSession) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { HttpSession.class },
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "getAttribute":
+                                return sessionAttributes.get(args[0]);
+                            case "setAttribute":
+                                return sessionAttributes.put((String) args[0], args[1]);
+                            case "removeAttribute":
+                                return sessionAttributes.remove(args[0]);
+                            case "getAttributeNames":
+                                return Collections.enumeration(new ArrayList<String>(sessionAttributes.keySet()));
+                            case "getId":
+                                return "session";
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            case "equals":
+                                return proxy == args[0];
+                            case "toString":
+                                return "MockSession";
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+            this.request = (HttpServletRequest) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { HttpServletRequest.class },
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "getAttribute":
+                                return attributes.get(args[0]);
+                            case "setAttribute":
+                                return attributes.put((String) args[0], args[1]);
+                            case "removeAttribute":
+                                return attributes.remove(args[0]);
+                            case "getAttributeNames":
+                                return Collections.enumeration(new ArrayList<String>(attributes.keySet()));
+                            case "getParameter":
+                                return parameters.get(args[0]);
+                            case "getSession":
+                                return session;
+                            case "isAsyncSupported":
+                                return true;
+                            case "isAsyncStarted":
+                                return asyncStarted.get() > 0;
+                            case "startAsync":
+                                asyncStarted.incrementAndGet();
+                                return createAsyncContext((HttpServletRequest) proxy);
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            case "equals":
+                                return proxy == args[0];
+                            case "toString":
+                                return "MockRequest";
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+        }
+
+        private AsyncContext createAsyncContext(final HttpServletRequest request) {
+            return (AsyncContext) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { AsyncContext.class }, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getRequest":
+                        return request;
+                    case "dispatch":
+                        dispatched.incrementAndGet();
+                        return null;
+                    case "setTimeout":
+                    case "addListener":
+                        return null;
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    case "toString":
+                        return "MockAsyncContext";
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        }
+    }
+}
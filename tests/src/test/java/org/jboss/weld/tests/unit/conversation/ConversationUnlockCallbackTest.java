@@ -0,0 +1,108 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.conversation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.Conversation;
+
+import org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.TestContainer;
+import org.jboss.weld.context.bound.BoundConversationContext;
+import org.jboss.weld.context.bound.BoundRequest;
+import org.jboss.weld.context.conversation.ConversationImpl;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.test.util.Utils;
+import org.jboss.weld.tests.unit.cluster.BoundRequestImpl;
+import org.testng.annotations.Test;
+
+public class ConversationUnlockCallbackTest {
+
+    @Test
+    public void testCallbackNotifiedOnceConversationUnlocked() {
+        TestContainer container = new TestContainer().startContainer().ensureRequestActive();
+        try {
+            BeanManagerImpl manager = getBeanManager(container);
+            BoundConversationContext context = Utils.getReference(manager, BoundConversationContext.class);
+            BoundRequest request = new BoundRequestImpl(new HashMap<String, Object>());
+            context.associate(request);
+            context.activate();
+
+            Conversation conversation = Utils.getReference(manager, Conversation.class);
+            conversation.begin();
+            ConversationImpl conversationImpl = (ConversationImpl) context.getConversation(conversation.getId());
+            // the current conversation is locked by the active request
+            assertTrue(conversationImpl.isLocked());
+            // reentrant locking - the callback must not be notified until the lock is fully released
+            assertTrue(conversationImpl.lock(0));
+
+            AtomicInteger notifications = new AtomicInteger();
+            assertTrue(conversationImpl.notifyWhenUnlocked(notifications::incrementAndGet));
+            assertTrue(conversationImpl.notifyWhenUnlocked(notifications::incrementAndGet));
+            assertFalse(conversationImpl.unlock());
+            assertEquals(notifications.get(), 0);
+
+            context.invalidate();
+            context.deactivate();
+            assertFalse(conversationImpl.isLocked());
+            assertEquals(notifications.get(), 2);
+
+            // not locked - the callback is not registered
+            assertFalse(conversationImpl.notifyWhenUnlocked(notifications::incrementAndGet));
+            assertEquals(notifications.get(), 2);
+            context.dissociate(request);
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+    @Test
+    public void testFailingCallbackDoesNotPreventOtherCallbacks() {
+        TestContainer container = new TestContainer().startContainer().ensureRequestActive();
+        try {
+            BeanManagerImpl manager = getBeanManager(container);
+            BoundConversationContext context = Utils.getReference(manager, BoundConversationContext.class);
+            BoundRequest request = new BoundRequestImpl(new HashMap<String, Object>());
+            context.associate(request);
+            context.activate();
+
+            Conversation conversation = Utils.getReference(manager, Conversation.class);
+            conversation.begin();
+            ConversationImpl conversationImpl = (ConversationImpl) context.getConversation(conversation.getId());
+
+            AtomicInteger notifications = new AtomicInteger();
+            assertTrue(conversationImpl.notifyWhenUnlocked(() -> {
+                throw new IllegalStateException();
+            }));
+            assertTrue(conversationImpl.notifyWhenUnlocked(notifications::incrementAndGet));
+            context.invalidate();
+            context.deactivate();
+            assertEquals(notifications.get(), 1);
+            context.dissociate(request);
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+    static BeanManagerImpl getBeanManager(TestContainer container) {
+        return (BeanManagerImpl) container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+    }
+}
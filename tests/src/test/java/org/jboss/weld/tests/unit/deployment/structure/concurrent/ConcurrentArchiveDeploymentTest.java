@@ -0,0 +1,95 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.deployment.structure.concurrent;
+
+import static org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.AbstractDeployment.transform;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.BeanDeploymentArchiveImpl;
+import org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.TestContainer;
+import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
+import org.jboss.weld.bootstrap.spi.Deployment;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.mock.AbstractDeployment;
+import org.jboss.weld.test.util.Utils;
+import org.jboss.weld.util.collections.ImmutableSet;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Deploys several bean archives with {@link ConfigurationKey#CONCURRENT_ARCHIVE_DEPLOYMENT} enabled.
+ */
+public class ConcurrentArchiveDeploymentTest {
+
+    @BeforeMethod
+    public void enableConcurrentArchiveDeployment() {
+        System.setProperty(ConfigurationKey.CONCURRENT_ARCHIVE_DEPLOYMENT.get(), "true");
+    }
+
+    @AfterMethod
+    public void disableConcurrentArchiveDeployment() {
+        System.clearProperty(ConfigurationKey.CONCURRENT_ARCHIVE_DEPLOYMENT.get());
+    }
+
+    @Test
+    public void testMultipleArchivesDeployedConcurrently() {
+        final BeanDeploymentArchive bda1 = new BeanDeploymentArchiveImpl("1", RecordingExtension.class, Alpha.class);
+        final BeanDeploymentArchive bda2 = new BeanDeploymentArchiveImpl("2", Bravo.class);
+        final BeanDeploymentArchive bda3 = new BeanDeploymentArchiveImpl("3", Charlie.class);
+        final BeanDeploymentArchive bda4 = new BeanDeploymentArchiveImpl("4", Delta.class);
+        final RecordingExtension extension = new RecordingExtension();
+
+        Deployment deployment = new AbstractDeployment(ImmutableSet.of(bda1, bda2, bda3, bda4), transform(extension)) {
+
+            public BeanDeploymentArchive loadBeanDeploymentArchive(Class<?> beanClass) {
+                for (BeanDeploymentArchive bda : getBeanDeploymentArchives()) {
+                    if (bda.getBeanClasses().contains(beanClass.getName())) {
+                        return bda;
+                    }
+                }
+                return bda1;
+            }
+
+            public BeanDeploymentArchive getBeanDeploymentArchive(Class<?> beanClass) {
+                return loadBeanDeploymentArchive(beanClass);
+            }
+        };
+
+        TestContainer container = new TestContainer(deployment);
+        try {
+            container.startContainer();
+
+            assertNotNull(Utils.getReference(container.getBeanManager(bda1), Alpha.class).getManager());
+            assertNotNull(Utils.getReference(container.getBeanManager(bda2), Bravo.class).getManager());
+            assertNotNull(Utils.getReference(container.getBeanManager(bda3), Charlie.class).getManager());
+            assertNotNull(Utils.getReference(container.getBeanManager(bda4), Delta.class).getManager());
+
+            for (Class<?> beanClass : new Class<?>[] { Alpha.class, Bravo.class, Charlie.class, Delta.class }) {
+                assertEquals(Collections.frequency(extension.getInjectionTargets(), beanClass), 1, beanClass.getName());
+                assertTrue(extension.getInjectionPoints().contains(beanClass), beanClass.getName());
+            }
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.deployment.structure.concurrent;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.Extension;
+import javax.enterprise.inject.spi.ProcessInjectionPoint;
+import javax.enterprise.inject.spi.ProcessInjectionTarget;
+
+public class RecordingExtension implements Extension {
+
+    private final List<Class<?>> injectionTargets = new CopyOnWriteArrayList<Class<?>>();
+
+    private final List<Class<?>> injectionPoints = new CopyOnWriteArrayList<Class<?>>();
+
+    void observeInjectionTarget(@Observes ProcessInjectionTarget<?> event) {
+        injectionTargets.add(event.getAnnotatedType().getJavaClass());
+    }
+
+    void observeInjectionPoint(@Observes ProcessInjectionPoint<?, ?> event) {
+        injectionPoints.add(event.getInjectionPoint().getMember().getDeclaringClass());
+    }
+
+    public List<Class<?>> getInjectionTargets() {
+        return injectionTargets;
+    }
+
+    public List<Class<?>> getInjectionPoints() {
+        return injectionPoints;
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.resolution.array;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.Set;
+
+import javax.enterprise.inject.spi.Bean;
+
+import org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.TestContainer;
+import org.jboss.weld.literal.AnyLiteral;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.metadata.cache.MetaAnnotationStore;
+import org.jboss.weld.resolution.QualifierInstance;
+import org.testng.annotations.Test;
+
+/**
+ * Qualifier instances with equal array members are equal regardless of the array instances. A qualifier with binding array members is not a valid
+ * qualifier, so such qualifiers only reach the resolvers as qualifiers declared by beans.
+ */
+public class ArrayMemberQualifierTest {
+
+    @Test
+    public void testQualifierInstanceEquality() {
+        TestContainer container = new TestContainer(Item.class, TwoTagItem.class, OtherTwoTagItem.class, PrioritizedItem.class).startContainer();
+        try {
+            MetaAnnotationStore store = getBeanManager(container).getServices().get(MetaAnnotationStore.class);
+            // new array instances are created for every literal
+            assertEquals(QualifierInstance.of(new Tagged.Literal(new int[0], "a", "b"), store),
+                    QualifierInstance.of(new Tagged.Literal(new int[0], "a", "b"), store));
+            assertEquals(QualifierInstance.of(new Tagged.Literal(new int[] { 1, 2 }, "a"), store),
+                    QualifierInstance.of(new Tagged.Literal(new int[] { 1, 2 }, "a"), store));
+            // the order of the elements matters
+            assertFalse(QualifierInstance.of(new Tagged.Literal(new int[0], "a", "b"), store).equals(
+                    QualifierInstance.of(new Tagged.Literal(new int[0], "b", "a"), store)));
+            assertFalse(QualifierInstance.of(new Tagged.Literal(new int[] { 1, 2 }, "a"), store).equals(
+                    QualifierInstance.of(new Tagged.Literal(new int[] { 2, 1 }, "a"), store)));
+            assertFalse(QualifierInstance.of(new Tagged.Literal(new int[] { 1 }, "a"), store).equals(
+                    QualifierInstance.of(new Tagged.Literal(new int[] { 1, 2 }, "a"), store)));
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+    @Test
+    public void testBeanQualifiers() {
+        TestContainer container = new TestContainer(Item.class, TwoTagItem.class, OtherTwoTagItem.class, PrioritizedItem.class).startContainer();
+        try {
+            BeanManagerImpl manager = getBeanManager(container);
+            MetaAnnotationStore store = manager.getServices().get(MetaAnnotationStore.class);
+            Set<Bean<?>> beans = manager.getBeans(Item.class, AnyLiteral.INSTANCE);
+            assertEquals(beans.size(), 3);
+            QualifierInstance twoTags = QualifierInstance.of(new Tagged.Literal(new int[0], "a", "b"), store);
+            QualifierInstance prioritized = QualifierInstance.of(new Tagged.Literal(new int[] { 1, 2 }, "a"), store);
+            for (Bean<?> bean : beans) {
+                Set<QualifierInstance> qualifiers = store.getQualifierInstances(bean);
+                if (bean.getBeanClass().equals(PrioritizedItem.class)) {
+                    assertTrue(qualifiers.contains(prioritized), qualifiers.toString());
+                    assertFalse(qualifiers.contains(twoTags), qualifiers.toString());
+                } else {
+                    // both beans declare @Tagged({ "a", "b" }) through different annotation instances
+                    assertTrue(qualifiers.contains(twoTags), qualifiers.toString());
+                    assertFalse(qualifiers.contains(prioritized), qualifiers.toString());
+                }
+            }
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+    @Test
+    public void testLookupRejected() {
+        TestContainer container = new TestContainer(Item.class, TwoTagItem.class, OtherTwoTagItem.class, PrioritizedItem.class).startContainer();
+        try {
+            getBeanManager(container).getBeans(Item.class, new Tagged.Literal(new int[0], "a", "b"));
+            fail("A qualifier with binding array members is not valid");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+    private static BeanManagerImpl getBeanManager(TestContainer container) {
+        return (BeanManagerImpl) container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+    }
+
+}
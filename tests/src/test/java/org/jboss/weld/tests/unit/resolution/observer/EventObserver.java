@@ -0,0 +1,67 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.resolution.observer;
+
+import java.util.List;
+
+import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Observes;
+
+/**
+ * Observer methods of various observed types - indexed by their raw type, boxed or not indexed at all.
+ */
+@Dependent
+@SuppressWarnings("rawtypes")
+public class EventObserver {
+
+    public void observeObject(@Observes Object event) {
+    }
+
+    public void observeNumber(@Observes Number event) {
+    }
+
+    public void observeBigNumber(@Observes @Big Number event) {
+    }
+
+    public void observeBigSmallNumber(@Observes @Big @Small Number event) {
+    }
+
+    public void observeInteger(@Observes Integer event) {
+    }
+
+    public void observeInt(@Observes int event) {
+    }
+
+    public void observeComparable(@Observes Comparable<Integer> event) {
+    }
+
+    public void observeRawList(@Observes List event) {
+    }
+
+    public void observeStringList(@Observes List<String> event) {
+    }
+
+    public void observeNumberList(@Observes List<? extends Number> event) {
+    }
+
+    public void observeStringArray(@Observes String[] event) {
+    }
+
+    public void observeSmallCharSequence(@Observes @Small CharSequence event) {
+    }
+
+}
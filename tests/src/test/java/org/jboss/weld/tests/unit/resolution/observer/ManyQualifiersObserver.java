@@ -0,0 +1,738 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.resolution.observer;
+
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Observes;
+import javax.inject.Qualifier;
+
+/**
+ * Observer methods requiring more distinct qualifier types than the observer method index assigns bits to.
+ */
+@Dependent
+public class ManyQualifiersObserver {
+
+    static final int QUALIFIERS = 70;
+
+    static final int[] NOTIFIED = new int[QUALIFIERS];
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q0 {
+    }
+
+    public void observe0(@Observes @Q0 Payload payload) {
+        NOTIFIED[0]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q1 {
+    }
+
+    public void observe1(@Observes @Q1 Payload payload) {
+        NOTIFIED[1]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q2 {
+    }
+
+    public void observe2(@Observes @Q2 Payload payload) {
+        NOTIFIED[2]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q3 {
+    }
+
+    public void observe3(@Observes @Q3 Payload payload) {
+        NOTIFIED[3]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q4 {
+    }
+
+    public void observe4(@Observes @Q4 Payload payload) {
+        NOTIFIED[4]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q5 {
+    }
+
+    public void observe5(@Observes @Q5 Payload payload) {
+        NOTIFIED[5]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q6 {
+    }
+
+    public void observe6(@Observes @Q6 Payload payload) {
+        NOTIFIED[6]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q7 {
+    }
+
+    public void observe7(@Observes @Q7 Payload payload) {
+        NOTIFIED[7]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q8 {
+    }
+
+    public void observe8(@Observes @Q8 Payload payload) {
+        NOTIFIED[8]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q9 {
+    }
+
+    public void observe9(@Observes @Q9 Payload payload) {
+        NOTIFIED[9]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q10 {
+    }
+
+    public void observe10(@Observes @Q10 Payload payload) {
+        NOTIFIED[10]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q11 {
+    }
+
+    public void observe11(@Observes @Q11 Payload payload) {
+        NOTIFIED[11]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q12 {
+    }
+
+    public void observe12(@Observes @Q12 Payload payload) {
+        NOTIFIED[12]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q13 {
+    }
+
+    public void observe13(@Observes @Q13 Payload payload) {
+        NOTIFIED[13]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q14 {
+    }
+
+    public void observe14(@Observes @Q14 Payload payload) {
+        NOTIFIED[14]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q15 {
+    }
+
+    public void observe15(@Observes @Q15 Payload payload) {
+        NOTIFIED[15]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q16 {
+    }
+
+    public void observe16(@Observes @Q16 Payload payload) {
+        NOTIFIED[16]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q17 {
+    }
+
+    public void observe17(@Observes @Q17 Payload payload) {
+        NOTIFIED[17]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q18 {
+    }
+
+    public void observe18(@Observes @Q18 Payload payload) {
+        NOTIFIED[18]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q19 {
+    }
+
+    public void observe19(@Observes @Q19 Payload payload) {
+        NOTIFIED[19]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q20 {
+    }
+
+    public void observe20(@Observes @Q20 Payload payload) {
+        NOTIFIED[20]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q21 {
+    }
+
+    public void observe21(@Observes @Q21 Payload payload) {
+        NOTIFIED[21]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q22 {
+    }
+
+    public void observe22(@Observes @Q22 Payload payload) {
+        NOTIFIED[22]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q23 {
+    }
+
+    public void observe23(@Observes @Q23 Payload payload) {
+        NOTIFIED[23]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q24 {
+    }
+
+    public void observe24(@Observes @Q24 Payload payload) {
+        NOTIFIED[24]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q25 {
+    }
+
+    public void observe25(@Observes @Q25 Payload payload) {
+        NOTIFIED[25]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q26 {
+    }
+
+    public void observe26(@Observes @Q26 Payload payload) {
+        NOTIFIED[26]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q27 {
+    }
+
+    public void observe27(@Observes @Q27 Payload payload) {
+        NOTIFIED[27]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q28 {
+    }
+
+    public void observe28(@Observes @Q28 Payload payload) {
+        NOTIFIED[28]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q29 {
+    }
+
+    public void observe29(@Observes @Q29 Payload payload) {
+        NOTIFIED[29]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q30 {
+    }
+
+    public void observe30(@Observes @Q30 Payload payload) {
+        NOTIFIED[30]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q31 {
+    }
+
+    public void observe31(@Observes @Q31 Payload payload) {
+        NOTIFIED[31]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q32 {
+    }
+
+    public void observe32(@Observes @Q32 Payload payload) {
+        NOTIFIED[32]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q33 {
+    }
+
+    public void observe33(@Observes @Q33 Payload payload) {
+        NOTIFIED[33]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q34 {
+    }
+
+    public void observe34(@Observes @Q34 Payload payload) {
+        NOTIFIED[34]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q35 {
+    }
+
+    public void observe35(@Observes @Q35 Payload payload) {
+        NOTIFIED[35]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q36 {
+    }
+
+    public void observe36(@Observes @Q36 Payload payload) {
+        NOTIFIED[36]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q37 {
+    }
+
+    public void observe37(@Observes @Q37 Payload payload) {
+        NOTIFIED[37]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q38 {
+    }
+
+    public void observe38(@Observes @Q38 Payload payload) {
+        NOTIFIED[38]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q39 {
+    }
+
+    public void observe39(@Observes @Q39 Payload payload) {
+        NOTIFIED[39]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q40 {
+    }
+
+    public void observe40(@Observes @Q40 Payload payload) {
+        NOTIFIED[40]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q41 {
+    }
+
+    public void observe41(@Observes @Q41 Payload payload) {
+        NOTIFIED[41]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q42 {
+    }
+
+    public void observe42(@Observes @Q42 Payload payload) {
+        NOTIFIED[42]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q43 {
+    }
+
+    public void observe43(@Observes @Q43 Payload payload) {
+        NOTIFIED[43]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q44 {
+    }
+
+    public void observe44(@Observes @Q44 Payload payload) {
+        NOTIFIED[44]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q45 {
+    }
+
+    public void observe45(@Observes @Q45 Payload payload) {
+        NOTIFIED[45]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q46 {
+    }
+
+    public void observe46(@Observes @Q46 Payload payload) {
+        NOTIFIED[46]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q47 {
+    }
+
+    public void observe47(@Observes @Q47 Payload payload) {
+        NOTIFIED[47]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q48 {
+    }
+
+    public void observe48(@Observes @Q48 Payload payload) {
+        NOTIFIED[48]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q49 {
+    }
+
+    public void observe49(@Observes @Q49 Payload payload) {
+        NOTIFIED[49]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q50 {
+    }
+
+    public void observe50(@Observes @Q50 Payload payload) {
+        NOTIFIED[50]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q51 {
+    }
+
+    public void observe51(@Observes @Q51 Payload payload) {
+        NOTIFIED[51]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q52 {
+    }
+
+    public void observe52(@Observes @Q52 Payload payload) {
+        NOTIFIED[52]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q53 {
+    }
+
+    public void observe53(@Observes @Q53 Payload payload) {
+        NOTIFIED[53]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q54 {
+    }
+
+    public void observe54(@Observes @Q54 Payload payload) {
+        NOTIFIED[54]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q55 {
+    }
+
+    public void observe55(@Observes @Q55 Payload payload) {
+        NOTIFIED[55]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q56 {
+    }
+
+    public void observe56(@Observes @Q56 Payload payload) {
+        NOTIFIED[56]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q57 {
+    }
+
+    public void observe57(@Observes @Q57 Payload payload) {
+        NOTIFIED[57]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q58 {
+    }
+
+    public void observe58(@Observes @Q58 Payload payload) {
+        NOTIFIED[58]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q59 {
+    }
+
+    public void observe59(@Observes @Q59 Payload payload) {
+        NOTIFIED[59]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q60 {
+    }
+
+    public void observe60(@Observes @Q60 Payload payload) {
+        NOTIFIED[60]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q61 {
+    }
+
+    public void observe61(@Observes @Q61 Payload payload) {
+        NOTIFIED[61]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q62 {
+    }
+
+    public void observe62(@Observes @Q62 Payload payload) {
+        NOTIFIED[62]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q63 {
+    }
+
+    public void observe63(@Observes @Q63 Payload payload) {
+        NOTIFIED[63]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q64 {
+    }
+
+    public void observe64(@Observes @Q64 Payload payload) {
+        NOTIFIED[64]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q65 {
+    }
+
+    public void observe65(@Observes @Q65 Payload payload) {
+        NOTIFIED[65]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q66 {
+    }
+
+    public void observe66(@Observes @Q66 Payload payload) {
+        NOTIFIED[66]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q67 {
+    }
+
+    public void observe67(@Observes @Q67 Payload payload) {
+        NOTIFIED[67]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q68 {
+    }
+
+    public void observe68(@Observes @Q68 Payload payload) {
+        NOTIFIED[68]++;
+    }
+
+    @Qualifier
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Q69 {
+    }
+
+    public void observe69(@Observes @Q69 Payload payload) {
+        NOTIFIED[69]++;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.resolution.observer;
+
+import static org.testng.Assert.assertEquals;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.enterprise.inject.spi.ObserverMethod;
+import javax.enterprise.util.TypeLiteral;
+
+import org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.TestContainer;
+import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.event.ObserverMethodImpl;
+import org.jboss.weld.event.ObserverNotifier;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.metadata.cache.MetaAnnotationStore;
+import org.jboss.weld.resolution.AssignabilityMemo;
+import org.jboss.weld.resolution.Resolvable;
+import org.jboss.weld.resolution.TypeSafeObserverResolver;
+import org.jboss.weld.util.collections.ImmutableSet;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the observer method index of {@link TypeSafeObserverResolver} does not change the result of resolution. The results are compared with a
+ * resolver which checks every observer method.
+ */
+public class ObserverMethodIndexTest {
+
+    @SuppressWarnings("serial")
+    static final Type[] EVENT_TYPES = { Object.class, Integer.class, int.class, Long.class, BigDecimal.class, String.class, StringBuilder.class,
+            String[].class, Integer[].class, int[].class, ArrayList.class, new TypeLiteral<ArrayList<String>>() {
+            }.getType(), new TypeLiteral<ArrayList<Integer>>() {
+            }.getType(), new TypeLiteral<List<Long>>() {
+            }.getType() };
+
+    static final Annotation[][] QUALIFIERS = { {}, { Big.Literal.INSTANCE }, { Small.Literal.INSTANCE }, { Big.Literal.INSTANCE, Small.Literal.INSTANCE } };
+
+    private TestContainer container;
+    private BeanManagerImpl manager;
+
+    @BeforeClass
+    public void startContainer() {
+        container = new TestContainer(EventObserver.class, GenericObserver.class, Big.class, Small.class).startContainer();
+        manager = (BeanManagerImpl) container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopContainer() {
+        container.stopContainer();
+    }
+
+    @Test
+    public void testSameResultAsWithoutIndex() {
+        TypeSafeObserverResolver indexed = createResolver(manager.getObservers());
+        TypeSafeObserverResolver unindexed = createUnindexedResolver(manager.getObservers());
+        ObserverNotifier notifier = manager.getGlobalLenientObserverNotifier();
+        for (Type eventType : EVENT_TYPES) {
+            for (Annotation[] qualifiers : QUALIFIERS) {
+                Resolvable resolvable = notifier.buildEventResolvable(eventType, qualifiers);
+                assertEquals(resolve(indexed, resolvable), resolve(unindexed, resolvable), eventType + " " + ImmutableSet.of(qualifiers));
+            }
+        }
+    }
+
+    @Test
+    public void testIndexedAndUnindexedObserversResolved() {
+        TypeSafeObserverResolver resolver = createResolver(manager.getObservers());
+        ObserverNotifier notifier = manager.getGlobalLenientObserverNotifier();
+        // the primitive observed type is boxed, GenericObserver observes a type variable and is not indexed
+        assertEquals(getObserverNames(resolver, notifier.buildEventResolvable(Integer.class)),
+                ImmutableSet.of("observeObject", "observeNumber", "observeInteger", "observeInt", "observeComparable", "observe"));
+        assertEquals(getObserverNames(resolver, notifier.buildEventResolvable(Integer.class, Big.Literal.INSTANCE, Small.Literal.INSTANCE)),
+                ImmutableSet.of("observeObject", "observeNumber", "observeBigNumber", "observeBigSmallNumber", "observeInteger", "observeInt",
+                        "observeComparable", "observe"));
+        // array observed types are not indexed
+        assertEquals(getObserverNames(resolver, notifier.buildEventResolvable(String[].class)), ImmutableSet.of("observeObject", "observeStringArray"));
+        // the parameterized observed types are indexed by the raw type
+        @SuppressWarnings("serial")
+        Type stringList = new TypeLiteral<ArrayList<String>>() {
+        }.getType();
+        assertEquals(getObserverNames(resolver, notifier.buildEventResolvable(stringList)), ImmutableSet.of("observeObject", "observeRawList",
+                "observeStringList"));
+        assertEquals(getObserverNames(resolver, notifier.buildEventResolvable(StringBuilder.class, Small.Literal.INSTANCE)),
+                ImmutableSet.of("observeObject", "observeSmallCharSequence"));
+    }
+
+    @Test
+    public void testIndexRebuiltAfterClear() {
+        List<ObserverMethod<?>> observers = new ArrayList<ObserverMethod<?>>();
+        TypeSafeObserverResolver resolver = createResolver(observers);
+        Resolvable resolvable = manager.getGlobalLenientObserverNotifier().buildEventResolvable(Integer.class);
+        assertEquals(getObserverNames(resolver, resolvable), ImmutableSet.of());
+        // observer methods are added during bootstrap, which is followed by clear()
+        observers.addAll(manager.getObservers());
+        resolver.clear();
+        assertEquals(getObserverNames(resolver, resolvable), ImmutableSet.of("observeObject", "observeNumber", "observeInteger", "observeInt",
+                "observeComparable", "observe"));
+    }
+
+    private TypeSafeObserverResolver createResolver(Iterable<ObserverMethod<?>> observers) {
+        return new TypeSafeObserverResolver(manager.getServices().get(MetaAnnotationStore.class), observers,
+                manager.getServices().get(WeldConfiguration.class), manager.getServices().get(AssignabilityMemo.class));
+    }
+
+    private TypeSafeObserverResolver createUnindexedResolver(Iterable<ObserverMethod<?>> observers) {
+        return new TypeSafeObserverResolver(manager.getServices().get(MetaAnnotationStore.class), observers,
+                manager.getServices().get(WeldConfiguration.class), manager.getServices().get(AssignabilityMemo.class)) {
+
+            @Override
+            protected Iterable<? extends ObserverMethod<?>> getAllBeans(Resolvable resolvable) {
+                return getAllBeans();
+            }
+        };
+    }
+
+    private static Set<ObserverMethod<?>> resolve(TypeSafeObserverResolver resolver, Resolvable resolvable) {
+        return new HashSet<ObserverMethod<?>>(resolver.resolve(resolvable, false).getAllObservers());
+    }
+
+    private static Set<String> getObserverNames(TypeSafeObserverResolver resolver, Resolvable resolvable) {
+        Set<String> names = new HashSet<String>();
+        for (ObserverMethod<?> observer : resolve(resolver, resolvable)) {
+            if (observer instanceof ObserverMethodImpl<?, ?>) {
+                names.add(((ObserverMethodImpl<?, ?>) observer).getMethod().getAnnotated().getJavaMember().getName());
+            }
+        }
+        return names;
+    }
+
+}
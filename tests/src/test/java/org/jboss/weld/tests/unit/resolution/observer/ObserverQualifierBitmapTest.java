@@ -0,0 +1,143 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.resolution.observer;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.enterprise.event.Observes;
+import javax.enterprise.util.TypeLiteral;
+
+import org.jboss.arquillian.container.weld.ee.embedded_1_1.mock.TestContainer;
+import org.jboss.weld.event.ObserverNotifier;
+import org.jboss.weld.literal.AnyLiteral;
+import org.jboss.weld.literal.DefaultLiteral;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.resolution.TypeSafeObserverResolver;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the qualifier summary used by {@link TypeSafeObserverResolver#isObserved(java.util.Set, Annotation...)}. An event for which there is an observer
+ * method must never be reported as not observed.
+ */
+public class ObserverQualifierBitmapTest {
+
+    @Test
+    public void testMoreQualifierTypesThanBits() throws Exception {
+        TestContainer container = new TestContainer(ManyQualifiersObserver.class, Payload.class).startContainer();
+        try {
+            BeanManagerImpl manager = getBeanManager(container);
+            ObserverNotifier notifier = manager.getGlobalStrictObserverNotifier();
+            List<Annotation[]> qualifiers = new ArrayList<Annotation[]>();
+            qualifiers.add(new Annotation[] {});
+            for (int i = 0; i < ManyQualifiersObserver.QUALIFIERS; i++) {
+                Annotation qualifier = getQualifier(i);
+                qualifiers.add(new Annotation[] { qualifier });
+                qualifiers.add(new Annotation[] { qualifier, getQualifier((i + 1) % ManyQualifiersObserver.QUALIFIERS) });
+            }
+            assertObservedEventsNotDropped(notifier, new Type[] { Payload.class, Object.class }, qualifiers);
+
+            Arrays.fill(ManyQualifiersObserver.NOTIFIED, 0);
+            for (int i = 0; i < ManyQualifiersObserver.QUALIFIERS; i++) {
+                manager.fireEvent(new Payload(), getQualifier(i));
+            }
+            for (int i = 0; i < ManyQualifiersObserver.QUALIFIERS; i++) {
+                assertEquals(ManyQualifiersObserver.NOTIFIED[i], 1, "Q" + i);
+            }
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+    @SuppressWarnings("serial")
+    @Test
+    public void testDefaultAnyGenericAndWildcardObservers() {
+        TestContainer container = new TestContainer(QualifiedObserver.class, QualifiedGenericObserver.class, Big.class, Small.class).startContainer();
+        try {
+            BeanManagerImpl manager = getBeanManager(container);
+            ObserverNotifier notifier = manager.getGlobalStrictObserverNotifier();
+            Type integerList = new TypeLiteral<ArrayList<Integer>>() {
+            }.getType();
+            Type stringList = new TypeLiteral<ArrayList<String>>() {
+            }.getType();
+            Type[] eventTypes = { Object.class, Long.class, Integer.class, Boolean.class, String.class, StringBuilder.class, integerList, stringList,
+                    ArrayList.class, Long[].class };
+            List<Annotation[]> qualifiers = Arrays.asList(new Annotation[] {}, new Annotation[] { AnyLiteral.INSTANCE },
+                    new Annotation[] { DefaultLiteral.INSTANCE }, new Annotation[] { Big.Literal.INSTANCE }, new Annotation[] { Small.Literal.INSTANCE },
+                    new Annotation[] { Big.Literal.INSTANCE, Small.Literal.INSTANCE }, new Annotation[] { DefaultLiteral.INSTANCE, Big.Literal.INSTANCE });
+            assertObservedEventsNotDropped(notifier, eventTypes, qualifiers);
+
+            // @Default is required explicitly
+            assertFalse(notifier.isObserved(Long.class));
+            assertTrue(notifier.isObserved(Long.class, DefaultLiteral.INSTANCE));
+            // @Any is never required
+            assertTrue(notifier.isObserved(String.class));
+            assertTrue(notifier.isObserved(StringBuilder.class, Big.Literal.INSTANCE));
+            assertFalse(notifier.isObserved(Boolean.class, AnyLiteral.INSTANCE));
+            // the observer method of the generic bean observes a type variable
+            assertFalse(notifier.isObserved(Integer.class));
+            assertTrue(notifier.isObserved(Integer.class, Small.Literal.INSTANCE));
+            assertTrue(notifier.isObserved(Integer.class, Big.Literal.INSTANCE));
+            // wildcard observed type
+            assertFalse(notifier.isObserved(integerList));
+            assertTrue(notifier.isObserved(integerList, Small.Literal.INSTANCE));
+            assertFalse(notifier.isObserved(Object.class));
+
+            QualifiedObserver.defaultLongNotified = 0;
+            manager.fireEvent(1L);
+            assertEquals(QualifiedObserver.defaultLongNotified, 0);
+            manager.fireEvent(1L, DefaultLiteral.INSTANCE);
+            assertEquals(QualifiedObserver.defaultLongNotified, 1);
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+    /**
+     * Every combination of event type and qualifiers which resolves an observer method must be observed.
+     */
+    private static void assertObservedEventsNotDropped(ObserverNotifier notifier, Type[] eventTypes, List<Annotation[]> qualifiers) {
+        for (Type eventType : eventTypes) {
+            for (Annotation[] eventQualifiers : qualifiers) {
+                if (!notifier.resolveObserverMethods(notifier.buildEventResolvable(eventType, eventQualifiers)).isEmpty()) {
+                    assertTrue(notifier.isObserved(eventType, eventQualifiers), eventType + " " + Arrays.toString(eventQualifiers));
+                }
+            }
+        }
+    }
+
+    private static Annotation getQualifier(int index) throws NoSuchMethodException {
+        for (Annotation annotation : ManyQualifiersObserver.class.getMethod("observe" + index, Payload.class).getParameterAnnotations()[0]) {
+            if (!annotation.annotationType().equals(Observes.class)) {
+                return annotation;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private static BeanManagerImpl getBeanManager(TestContainer container) {
+        return (BeanManagerImpl) container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+    }
+
+}